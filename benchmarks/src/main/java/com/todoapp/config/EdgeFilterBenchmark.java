@@ -0,0 +1,305 @@
+package com.todoapp.config;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.web.header.HeaderWriterFilter;
+import org.springframework.security.web.header.writers.CacheControlHeadersWriter;
+import org.springframework.security.web.header.writers.HstsHeaderWriter;
+import org.springframework.security.web.header.writers.PermissionsPolicyHeaderWriter;
+import org.springframework.security.web.header.writers.ReferrerPolicyHeaderWriter;
+import org.springframework.security.web.header.writers.XContentTypeOptionsHeaderWriter;
+import org.springframework.security.web.header.writers.XXssProtectionHeaderWriter;
+import org.springframework.security.web.header.writers.frameoptions.XFrameOptionsHeaderWriter;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import org.springframework.web.filter.CorsFilter;
+
+import com.todoapp.config.SecurityHeadersConfig.SecurityHeaders;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Edge work per request before and after the headers, CORS and rate-limit filters were fused into
+ * EdgeFilter. chain=before is the former sequence: the custom headers filter, the synchronized
+ * rate-limit filter, Spring Security's header writers and its CorsFilter. chain=after is EdgeFilter
+ * followed by the CorsFilter that still handles actual cross-origin requests. Filters common to both
+ * (the rest of the security chain) are left out. Requests rotate over 1,024 client addresses and the
+ * rate-limit buckets are cleared before any client reaches its limit, so every request is allowed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EdgeFilterBenchmark {
+
+    private static final int CLIENTS = 1024;
+    // Requests per client between two bucket resets; the API limit is 100 per minute
+    private static final int REQUESTS_PER_CLIENT = 90;
+    private static final String ORIGIN = "http://localhost:3000";
+
+    @Param({"get", "preflight"})
+    public String request;
+
+    @Param({"before", "after"})
+    public String chain;
+
+    private final HttpServlet endpoint = new HttpServlet() {
+        @Override
+        protected void service(HttpServletRequest req, HttpServletResponse resp) {
+            resp.setStatus(HttpServletResponse.SC_OK);
+        }
+    };
+
+    private final String[] clientAddresses = new String[CLIENTS];
+    private Filter[] filters;
+    private Map<?, ?> rateLimitBuckets;
+    private long requests;
+
+    @Setup
+    public void setUp() throws Exception {
+        for (int i = 0; i < CLIENTS; i++) {
+            clientAddresses[i] = "10.0." + (i >> 8) + "." + (i & 0xFF);
+        }
+
+        UrlBasedCorsConfigurationSource corsConfigurationSource = corsConfigurationSource();
+        CorsFilter corsFilter = new CorsFilter(corsConfigurationSource);
+        if ("before".equals(chain)) {
+            LegacyRateLimitingFilter rateLimitingFilter = new LegacyRateLimitingFilter();
+            rateLimitBuckets = rateLimitingFilter.rateLimitBuckets;
+            filters = new Filter[] {new LegacySecurityHeadersFilter(), rateLimitingFilter, headerWriterFilter(), corsFilter};
+        } else {
+            RateLimitingConfig rateLimitingConfig = new RateLimitingConfig();
+            Field buckets = RateLimitingConfig.class.getDeclaredField("rateLimitBuckets");
+            buckets.setAccessible(true);
+            rateLimitBuckets = (Map<?, ?>) buckets.get(rateLimitingConfig);
+            EdgeFilter edgeFilter = new EdgeFilter(new SecurityHeaders(), corsConfigurationSource,
+                    rateLimitingConfig.rateLimiter(new SimpleMeterRegistry()), ObservationRegistry.NOOP);
+            filters = new Filter[] {edgeFilter, corsFilter};
+        }
+    }
+
+    @Benchmark
+    public MockHttpServletResponse filterChain() throws Exception {
+        if (requests++ % ((long) CLIENTS * REQUESTS_PER_CLIENT) == 0) {
+            rateLimitBuckets.clear();
+        }
+
+        MockHttpServletRequest httpRequest;
+        if ("preflight".equals(request)) {
+            httpRequest = new MockHttpServletRequest("OPTIONS", "/api/collections");
+            httpRequest.addHeader(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, "POST");
+            httpRequest.addHeader(HttpHeaders.ACCESS_CONTROL_REQUEST_HEADERS, "authorization,content-type");
+        } else {
+            httpRequest = new MockHttpServletRequest("GET", "/api/collections");
+        }
+        httpRequest.addHeader(HttpHeaders.ORIGIN, ORIGIN);
+        httpRequest.setRemoteAddr(clientAddresses[(int) (requests % CLIENTS)]);
+
+        MockHttpServletResponse httpResponse = new MockHttpServletResponse();
+        new MockFilterChain(endpoint, filters).doFilter(httpRequest, httpResponse);
+        return httpResponse;
+    }
+
+    /**
+     * The application's CORS settings (SecurityConfig.corsConfigurationSource)
+     */
+    private static UrlBasedCorsConfigurationSource corsConfigurationSource() {
+        CorsConfiguration configuration = new CorsConfiguration();
+        configuration.setAllowedOrigins(List.of("http://localhost:3000", "http://127.0.0.1:3000",
+                "https://todoappfrontend-gvl161xgi-aseks-projects.vercel.app", "https://todoappfrontend-xi.vercel.app/"));
+        configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
+        configuration.setAllowedHeaders(List.of("Authorization", "Content-Type", "X-Requested-With", "Accept", "Origin"));
+        configuration.setExposedHeaders(List.of("Authorization"));
+        configuration.setAllowCredentials(true);
+        configuration.setMaxAge(3600L);
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/api/**", configuration);
+        return source;
+    }
+
+    /**
+     * Spring Security's header writers as SecurityConfig configured them before EdgeFilter
+     */
+    private static HeaderWriterFilter headerWriterFilter() {
+        HstsHeaderWriter hsts = new HstsHeaderWriter();
+        hsts.setMaxAgeInSeconds(31536000);
+        hsts.setIncludeSubDomains(true);
+        PermissionsPolicyHeaderWriter permissionsPolicy =
+                new PermissionsPolicyHeaderWriter("camera=(), microphone=(), geolocation=(), payment=(), usb=()");
+        return new HeaderWriterFilter(List.of(
+                new XContentTypeOptionsHeaderWriter(),
+                new XXssProtectionHeaderWriter(),
+                new CacheControlHeadersWriter(),
+                hsts,
+                new XFrameOptionsHeaderWriter(XFrameOptionsHeaderWriter.XFrameOptionsMode.DENY),
+                new ReferrerPolicyHeaderWriter(ReferrerPolicyHeaderWriter.ReferrerPolicy.STRICT_ORIGIN_WHEN_CROSS_ORIGIN),
+                permissionsPolicy));
+    }
+
+    /**
+     * The former SecurityHeadersConfig filter
+     */
+    static final class LegacySecurityHeadersFilter implements Filter {
+
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+                throws IOException, ServletException {
+            HttpServletResponse httpResponse = (HttpServletResponse) response;
+            httpResponse.setHeader("Content-Security-Policy",
+                "default-src 'self'; " +
+                "script-src 'self' 'unsafe-inline' 'unsafe-eval'; " +
+                "style-src 'self' 'unsafe-inline' https://fonts.googleapis.com; " +
+                "font-src 'self' https://fonts.gstatic.com; " +
+                "img-src 'self' data: https:; " +
+                "connect-src 'self' http://localhost:8080 https:; " +
+                "frame-ancestors 'none'; " +
+                "base-uri 'self'; " +
+                "form-action 'self'");
+            httpResponse.setHeader("X-Content-Type-Options", "nosniff");
+            httpResponse.setHeader("X-Frame-Options", "DENY");
+            httpResponse.setHeader("X-XSS-Protection", "1; mode=block");
+            httpResponse.setHeader("Referrer-Policy", "strict-origin-when-cross-origin");
+            httpResponse.setHeader("Permissions-Policy",
+                "camera=(), microphone=(), geolocation=(), payment=(), usb=(), " +
+                "fullscreen=(self), accelerometer=(), gyroscope=(), magnetometer=()");
+            httpResponse.setHeader("Server", "");
+
+            String requestURI = ((HttpServletRequest) request).getRequestURI();
+            if (requestURI.contains("/api/auth/") || requestURI.contains("/api/users/")) {
+                httpResponse.setHeader("Cache-Control", "no-store, no-cache, must-revalidate, private");
+                httpResponse.setHeader("Pragma", "no-cache");
+                httpResponse.setHeader("Expires", "0");
+            }
+            chain.doFilter(request, response);
+        }
+    }
+
+    /**
+     * The former RateLimitingConfig filter with its synchronized, LocalDateTime-based buckets
+     */
+    static final class LegacyRateLimitingFilter implements Filter {
+
+        private final ConcurrentHashMap<String, LegacyRateLimitBucket> rateLimitBuckets = new ConcurrentHashMap<>();
+
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+                throws IOException, ServletException {
+            HttpServletRequest httpRequest = (HttpServletRequest) request;
+            HttpServletResponse httpResponse = (HttpServletResponse) response;
+
+            String clientId = getClientIdentifier(httpRequest);
+            LegacyRateLimitBucket bucket = getBucketForEndpoint(clientId, httpRequest.getRequestURI());
+            if (bucket.tryConsume()) {
+                addRateLimitHeaders(httpResponse, bucket);
+                chain.doFilter(request, response);
+            } else {
+                httpResponse.setStatus(429);
+                httpResponse.setContentType("application/json");
+                httpResponse.getWriter().write(
+                    "{\"error\":\"Rate limit exceeded\",\"message\":\"Too many requests. Please try again later.\"}");
+                addRateLimitHeaders(httpResponse, bucket);
+            }
+        }
+
+        private String getClientIdentifier(HttpServletRequest request) {
+            String xForwardedFor = request.getHeader("X-Forwarded-For");
+            if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
+                return xForwardedFor.split(",")[0].trim();
+            }
+            return request.getRemoteAddr();
+        }
+
+        private LegacyRateLimitBucket getBucketForEndpoint(String clientId, String endpoint) {
+            String bucketKey;
+            int maxRequests;
+            long windowMinutes;
+            if (endpoint.startsWith("/api/auth/login")) {
+                bucketKey = "login:" + clientId;
+                maxRequests = 5;
+                windowMinutes = 1;
+            } else if (endpoint.startsWith("/api/auth/register")) {
+                bucketKey = "register:" + clientId;
+                maxRequests = 3;
+                windowMinutes = 60;
+            } else if (endpoint.startsWith("/api/auth/")) {
+                bucketKey = "auth:" + clientId;
+                maxRequests = 10;
+                windowMinutes = 1;
+            } else {
+                bucketKey = "api:" + clientId;
+                maxRequests = 100;
+                windowMinutes = 1;
+            }
+            return rateLimitBuckets.computeIfAbsent(bucketKey,
+                key -> new LegacyRateLimitBucket(maxRequests, windowMinutes));
+        }
+
+        private void addRateLimitHeaders(HttpServletResponse response, LegacyRateLimitBucket bucket) {
+            response.setHeader("X-Rate-Limit-Remaining", String.valueOf(bucket.getRemainingRequests()));
+            response.setHeader("X-Rate-Limit-Retry-After-Seconds", "60");
+        }
+    }
+
+    static final class LegacyRateLimitBucket {
+        private int requests;
+        private LocalDateTime windowStart;
+        private final int maxRequests;
+        private final long windowMinutes;
+
+        LegacyRateLimitBucket(int maxRequests, long windowMinutes) {
+            this.maxRequests = maxRequests;
+            this.windowMinutes = windowMinutes;
+            this.windowStart = LocalDateTime.now();
+        }
+
+        synchronized boolean tryConsume() {
+            LocalDateTime now = LocalDateTime.now();
+            if (ChronoUnit.MINUTES.between(windowStart, now) >= windowMinutes) {
+                windowStart = now;
+                requests = 0;
+            }
+            if (requests < maxRequests) {
+                requests++;
+                return true;
+            }
+            return false;
+        }
+
+        int getRemainingRequests() {
+            return Math.max(0, maxRequests - requests);
+        }
+    }
+}
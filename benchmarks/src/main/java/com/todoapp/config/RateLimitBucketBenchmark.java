@@ -0,0 +1,80 @@
+package com.todoapp.config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.todoapp.config.RateLimitingConfig.DecisionCounters;
+import com.todoapp.config.RateLimitingConfig.RateLimitBucket;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * RateLimitBucket.tryConsume with all benchmark threads hitting one bucket (one client behind a NAT,
+ * or a burst against a single endpoint) versus one bucket per thread. Run with -t 1,2,4,8,... to see
+ * how the CAS loop scales with the number of contending threads.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class RateLimitBucketBenchmark {
+
+    /**
+     * A zero-minute window restarts on every call, so each call takes the allowing CAS path
+     * instead of filling the bucket during warm-up.
+     */
+    private static RateLimitBucket allowingBucket() {
+        return new RateLimitBucket(100, 0, new DecisionCounters(new SimpleMeterRegistry(), "benchmark"));
+    }
+
+    @State(Scope.Benchmark)
+    public static class SharedBuckets {
+        RateLimitBucket allowing;
+        RateLimitBucket exhausted;
+
+        @Setup
+        public void setUp() {
+            allowing = allowingBucket();
+            exhausted = new RateLimitBucket(1, 60, new DecisionCounters(new SimpleMeterRegistry(), "benchmark"));
+            exhausted.tryConsume();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadBucket {
+        RateLimitBucket allowing;
+
+        @Setup
+        public void setUp() {
+            allowing = allowingBucket();
+        }
+    }
+
+    @Benchmark
+    public boolean sharedBucketAllowed(SharedBuckets buckets) {
+        return buckets.allowing.tryConsume();
+    }
+
+    @Benchmark
+    public boolean sharedBucketRejected(SharedBuckets buckets) {
+        return buckets.exhausted.tryConsume();
+    }
+
+    @Benchmark
+    public boolean perThreadBucket(ThreadBucket bucket) {
+        return bucket.allowing.tryConsume();
+    }
+}
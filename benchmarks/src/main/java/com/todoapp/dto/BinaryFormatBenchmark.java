@@ -0,0 +1,109 @@
+package com.todoapp.dto;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.todoapp.entity.Todo;
+
+/**
+ * Encode and decode time of GET /api/collections/{id} for a collection of 10,000 tasks in each
+ * format the API negotiates, with the mapper set up as the application does. Payload sizes, raw and
+ * gzipped, are printed once per fork, since JMH only reports times.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BinaryFormatBenchmark {
+
+    private static final int TASKS = 10_000;
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private ApiResponse<CollectionResponse> response;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        JsonFactory factory = switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+        ObjectMapper objectMapper = new ObjectMapper(factory)
+                .registerModule(new JavaTimeModule())
+                .registerModule(new BlackbirdModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .configure(MapperFeature.DEFAULT_VIEW_INCLUSION, false)
+                .configure(MapperFeature.ACCEPT_CASE_INSENSITIVE_ENUMS, true);
+        TypeReference<ApiResponse<CollectionResponse>> type = new TypeReference<>() { };
+        writer = objectMapper.writerFor(type);
+        reader = objectMapper.readerFor(type);
+
+        // Standard, deadline and saving tasks in turn
+        TodoResponse[] todos = new TodoResponse[TASKS];
+        LocalDateTime created = LocalDateTime.of(2025, 1, 1, 9, 0);
+        for (int i = 0; i < TASKS; i++) {
+            Todo.TodoType todoType = Todo.TodoType.values()[i % 3];
+            todos[i] = new TodoResponse((long) i + 1, "Task " + (i + 1), "Description of task " + (i + 1),
+                    i % 4 == 0, todoType,
+                    todoType == Todo.TodoType.DEADLINE ? LocalDate.of(2025, 6, 1).plusDays(i % 365) : null,
+                    todoType == Todo.TodoType.SAVING ? new BigDecimal("1500.00") : null,
+                    todoType == Todo.TodoType.SAVING ? new BigDecimal("125.50") : BigDecimal.ZERO,
+                    created.plusMinutes(i), created.plusMinutes(i).plusSeconds(30));
+        }
+        response = ApiResponse.ok(new CollectionResponse(1L, "Everything", "A collection of " + TASKS + " tasks",
+                created, created, List.of(todos)));
+
+        encoded = writer.writeValueAsBytes(response);
+        ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(gzipped)) {
+            gzip.write(encoded);
+        }
+        System.out.printf("%n%s payload: %,d bytes, %,d bytes gzipped%n", format, encoded.length, gzipped.size());
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return writer.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public ApiResponse<CollectionResponse> decode() throws IOException {
+        return reader.readValue(encoded);
+    }
+}
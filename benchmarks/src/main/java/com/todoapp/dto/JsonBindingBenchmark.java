@@ -0,0 +1,168 @@
+package com.todoapp.dto;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.todoapp.entity.Todo;
+import com.todoapp.entity.TodoCollection;
+
+/**
+ * Parse and serialize cost per request of the task and collection endpoints. The map variants
+ * reproduce the former controllers: a Map body converted by hand, the entities wrapped in a
+ * Map.of envelope, and a reader or writer derived from the ObjectMapper per request as Spring's
+ * converter does. The typed variants are the record requests and responses through the reader
+ * and writer cached per type. blackbird=true registers the module on the mapper for both.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBindingBenchmark {
+
+    private static final byte[] CREATE_TODO = ("{\"title\":\"Holiday fund\",\"description\":\"Flights and hotel\","
+            + "\"type\":\"saving\",\"targetAmount\":1500,\"currentAmount\":100.25}").getBytes(StandardCharsets.UTF_8);
+
+    @Param({"false", "true"})
+    public boolean blackbird;
+
+    private ObjectMapper objectMapper;
+    private JavaType mapType;
+    private ObjectReader createTodoReader;
+    private ObjectWriter todoWriter;
+    private ObjectWriter collectionsWriter;
+
+    private List<TodoCollection> collections;
+
+    @Setup
+    public void setUp() {
+        // Spring Boot's defaults for the application ObjectMapper
+        JsonMapper.Builder builder = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(MapperFeature.DEFAULT_VIEW_INCLUSION)
+                .enable(MapperFeature.ACCEPT_CASE_INSENSITIVE_ENUMS);
+        if (blackbird) {
+            builder.addModule(new BlackbirdModule());
+        }
+        objectMapper = builder.build();
+        mapType = objectMapper.constructType(new TypeReference<Map<String, Object>>() { });
+
+        createTodoReader = objectMapper.readerFor(CreateTodoRequest.class);
+        todoWriter = objectMapper.writerFor(new TypeReference<ApiResponse<TodoResponse>>() { });
+        collectionsWriter = objectMapper.writerFor(new TypeReference<ApiResponse<List<CollectionResponse>>>() { });
+
+        // A listing of 10 collections with 20 tasks each, one in three with a deadline or saving goal
+        collections = new ArrayList<>();
+        long todoId = 1;
+        for (long c = 1; c <= 10; c++) {
+            TodoCollection collection = new TodoCollection("Collection " + c, "Description of collection " + c, null);
+            collection.setId(c);
+            collection.setCreatedAt(LocalDateTime.now());
+            collection.setUpdatedAt(LocalDateTime.now());
+            for (int t = 0; t < 20; t++, todoId++) {
+                Todo todo = new Todo("Task " + todoId, "Description of task " + todoId, Todo.TodoType.values()[t % 3], collection);
+                todo.setId(todoId);
+                todo.setCompleted(t % 4 == 0);
+                todo.setCreatedAt(LocalDateTime.now());
+                todo.setUpdatedAt(LocalDateTime.now());
+                if (todo.getType() == Todo.TodoType.DEADLINE) {
+                    todo.setDueDate(LocalDate.now().plusDays(t));
+                } else if (todo.getType() == Todo.TodoType.SAVING) {
+                    todo.setTargetAmount(new BigDecimal("1500.00"));
+                    todo.setCurrentAmount(new BigDecimal("125.50"));
+                }
+                collection.getTodos().add(todo);
+            }
+            collections.add(collection);
+        }
+    }
+
+    @Benchmark
+    public byte[] createTodoMap() throws IOException {
+        Map<String, Object> request = objectMapper.reader().forType(mapType).readValue(CREATE_TODO);
+        Todo todo = new Todo();
+        todo.setTitle((String) request.get("title"));
+        todo.setDescription((String) request.get("description"));
+        String type = (String) request.get("type");
+        if (type != null) {
+            todo.setType(Todo.TodoType.valueOf(type.toUpperCase()));
+        }
+        if (todo.getType() == Todo.TodoType.DEADLINE && request.get("dueDate") != null) {
+            todo.setDueDate(LocalDate.parse((String) request.get("dueDate")));
+        }
+        if (todo.getType() == Todo.TodoType.SAVING) {
+            if (request.get("targetAmount") != null) {
+                todo.setTargetAmount(new BigDecimal(request.get("targetAmount").toString()));
+            }
+            if (request.get("currentAmount") != null) {
+                todo.setCurrentAmount(new BigDecimal(request.get("currentAmount").toString()));
+            }
+        }
+        return objectMapper.writer().forType(mapType).writeValueAsBytes(Map.of("success", true, "data", todo));
+    }
+
+    @Benchmark
+    public byte[] createTodoTyped() throws IOException {
+        CreateTodoRequest request = createTodoReader.readValue(CREATE_TODO);
+        Todo todo = new Todo();
+        todo.setTitle(request.title());
+        todo.setDescription(request.description());
+        if (request.type() != null) {
+            todo.setType(request.type());
+        }
+        if (todo.getType() == Todo.TodoType.DEADLINE && request.dueDate() != null) {
+            todo.setDueDate(request.dueDate());
+        }
+        if (todo.getType() == Todo.TodoType.SAVING) {
+            if (request.targetAmount() != null) {
+                todo.setTargetAmount(request.targetAmount());
+            }
+            if (request.currentAmount() != null) {
+                todo.setCurrentAmount(request.currentAmount());
+            }
+        }
+        return todoWriter.writeValueAsBytes(ApiResponse.ok(TodoResponse.from(todo)));
+    }
+
+    @Benchmark
+    public byte[] listCollectionsMap() throws IOException {
+        return objectMapper.writer().forType(mapType)
+                .writeValueAsBytes(Map.of("success", true, "data", collections));
+    }
+
+    @Benchmark
+    public byte[] listCollectionsTyped() throws IOException {
+        return collectionsWriter.writeValueAsBytes(ApiResponse.ok(CollectionResponse.from(collections)));
+    }
+}
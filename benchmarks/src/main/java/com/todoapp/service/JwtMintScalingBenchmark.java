@@ -0,0 +1,153 @@
+package com.todoapp.service;
+
+import java.lang.reflect.Field;
+import java.security.Key;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Token minting throughput from 1 to 32 threads sharing one JwtService, as concurrent logins do.
+ * path=fast is the current minting path (constant header, pooled MAC, striped DRBGs); path=legacy
+ * is the former one: the JJWT builder, a signing key derived per token and one shared SecureRandom.
+ * Flat per-thread throughput means minting scales; a falling curve shows contention.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtMintScalingBenchmark {
+
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    @Param({"fast", "legacy"})
+    public String path;
+
+    private JwtService jwtService;
+    private LegacyMinter legacyMinter;
+    private UserDetails user;
+
+    @Setup
+    public void setUp() throws Exception {
+        user = User.withUsername("benchmark_user").password("unused").roles("USER").build();
+        jwtService = new JwtService(new SimpleMeterRegistry());
+        setField(jwtService, "secretKey", SECRET);
+        setField(jwtService, "jwtExpiration", 3_600_000L);
+        setField(jwtService, "refreshExpiration", 604_800_000L);
+        jwtService.initSigningKey();
+        legacyMinter = new LegacyMinter(SECRET, 3_600_000L);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String threads01() {
+        return mint();
+    }
+
+    @Benchmark
+    @Threads(2)
+    public String threads02() {
+        return mint();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String threads04() {
+        return mint();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String threads08() {
+        return mint();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public String threads16() {
+        return mint();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public String threads32() {
+        return mint();
+    }
+
+    private String mint() {
+        return "fast".equals(path) ? jwtService.generateToken(user) : legacyMinter.generateToken(user);
+    }
+
+    private static void setField(Object target, String name, Object value) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+
+    /**
+     * JwtService.generateToken as it was before the contention-free minting path
+     */
+    static final class LegacyMinter {
+        private final String secretKey;
+        private final long jwtExpiration;
+        private final SecureRandom secureRandom = new SecureRandom();
+
+        LegacyMinter(String secretKey, long jwtExpiration) {
+            this.secretKey = secretKey;
+            this.jwtExpiration = jwtExpiration;
+        }
+
+        String generateToken(UserDetails userDetails) {
+            Map<String, Object> extraClaims = new HashMap<>();
+            extraClaims.put("type", "access");
+            extraClaims.put("iat", System.currentTimeMillis() / 1000);
+            return Jwts
+                    .builder()
+                    .setClaims(extraClaims)
+                    .setSubject(userDetails.getUsername())
+                    .setId(generateSecureTokenId())
+                    .setIssuedAt(new Date(System.currentTimeMillis()))
+                    .setExpiration(new Date(System.currentTimeMillis() + jwtExpiration))
+                    .setIssuer("todoapp")
+                    .setAudience("todoapp-client")
+                    .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                    .compact();
+        }
+
+        private String generateSecureTokenId() {
+            byte[] randomBytes = new byte[16];
+            secureRandom.nextBytes(randomBytes);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(randomBytes);
+        }
+
+        private Key getSignInKey() {
+            return Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.todoapp.service;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Token minting and verification as done on every login and every authenticated request
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    // Same length as the application's default secret (256-bit HMAC key)
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private JwtService jwtService;
+    private UserDetails user;
+    private String validToken;
+    private String tamperedToken;
+    private String expiredToken;
+
+    @Setup
+    public void setUp() throws Exception {
+        jwtService = newJwtService(3_600_000);
+        user = User.withUsername("benchmark_user").password("unused").roles("USER").build();
+        validToken = jwtService.generateToken(user);
+
+        char last = validToken.charAt(validToken.length() - 1);
+        tamperedToken = validToken.substring(0, validToken.length() - 1) + (last == 'A' ? 'B' : 'A');
+        expiredToken = newJwtService(-60_000).generateToken(user);
+    }
+
+    @Benchmark
+    public String mintAccessToken() {
+        return jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public JwtService.TokenPair issueTokenPair() {
+        return jwtService.issueTokenPair(user);
+    }
+
+    @Benchmark
+    public String verifyValid() {
+        return jwtService.resolveValidUsername(validToken);
+    }
+
+    @Benchmark
+    public String verifyTamperedSignature() {
+        return jwtService.resolveValidUsername(tamperedToken);
+    }
+
+    @Benchmark
+    public String verifyExpired() {
+        return jwtService.resolveValidUsername(expiredToken);
+    }
+
+    private static JwtService newJwtService(long expirationMillis) throws Exception {
+        JwtService service = new JwtService(new SimpleMeterRegistry());
+        setField(service, "secretKey", SECRET);
+        setField(service, "jwtExpiration", expirationMillis);
+        setField(service, "refreshExpiration", 604_800_000L);
+        service.initSigningKey();
+        return service;
+    }
+
+    private static void setField(Object target, String name, Object value) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
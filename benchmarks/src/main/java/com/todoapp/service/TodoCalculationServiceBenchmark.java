@@ -0,0 +1,70 @@
+package com.todoapp.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.todoapp.entity.Todo;
+
+/**
+ * Saving-goal and deadline maths, computed per todo when collections are listed
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TodoCalculationServiceBenchmark {
+
+    private final TodoCalculationService calculationService = new TodoCalculationService();
+
+    private Todo savingTodo;
+    private Todo deadlineTodo;
+
+    @Setup
+    public void setUp() {
+        savingTodo = new Todo("Emergency fund", null, Todo.TodoType.SAVING, null);
+        savingTodo.setTargetAmount(new BigDecimal("15000.00"));
+        savingTodo.setCurrentAmount(new BigDecimal("4321.37"));
+
+        deadlineTodo = new Todo("File taxes", null, Todo.TodoType.DEADLINE, null);
+        deadlineTodo.setDueDate(LocalDate.now().plusDays(42));
+    }
+
+    @Benchmark
+    public BigDecimal calculateProgress() {
+        return calculationService.calculateProgress(savingTodo);
+    }
+
+    @Benchmark
+    public BigDecimal getRemainingAmount() {
+        return calculationService.getRemainingAmount(savingTodo);
+    }
+
+    @Benchmark
+    public boolean isGoalReached() {
+        return calculationService.isGoalReached(savingTodo);
+    }
+
+    @Benchmark
+    public long getDaysUntilDeadline() {
+        return calculationService.getDaysUntilDeadline(deadlineTodo);
+    }
+
+    @Benchmark
+    public boolean isDeadlinePassed() {
+        return calculationService.isDeadlinePassed(deadlineTodo);
+    }
+}
@@ -0,0 +1,93 @@
+package com.todoapp.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.todoapp.util.SecurityValidator.ValidationResult;
+import com.todoapp.util.SecurityValidator.ValidationType;
+
+/**
+ * Input validation and sanitisation on realistic user input and on inputs built to hit the slow paths.
+ * The regex variants run the former pattern chain (RegexSecurityValidator, from the test sources) as
+ * the baseline for the single-pass scanner.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SecurityValidatorBenchmark {
+
+    @Param({"title", "description", "xss", "sql", "near-miss-10k", "nested-tags"})
+    public String input;
+
+    private final SecurityValidator validator = new SecurityValidator();
+    private final RegexSecurityValidator regexValidator = new RegexSecurityValidator();
+
+    private String value;
+    private ValidationType type;
+
+    @Setup
+    public void setUp() {
+        switch (input) {
+            case "title" -> {
+                value = "Buy groceries for the weekend";
+                type = ValidationType.TITLE;
+            }
+            case "description" -> {
+                value = "Milk, eggs, bread and coffee.\nPick up the dry cleaning on the way back, before 6pm!";
+                type = ValidationType.DESCRIPTION;
+            }
+            case "xss" -> {
+                value = "Meeting notes <img src=x onerror=alert(document.cookie)> follow up";
+                type = ValidationType.DESCRIPTION;
+            }
+            case "sql" -> {
+                value = "Robert'); DROP TABLE users; --";
+                type = ValidationType.TITLE;
+            }
+            case "near-miss-10k" -> {
+                // Prefixes of every signature, never completing one: the worst case for per-pattern scanning
+                value = "<scrip selec unio javascrip onloa ".repeat(300);
+                type = ValidationType.DESCRIPTION;
+            }
+            case "nested-tags" -> {
+                value = "<scr<script>ipt>alert(1)</scr</script>ipt>".repeat(50);
+                type = ValidationType.DESCRIPTION;
+            }
+            default -> throw new IllegalArgumentException("Unknown input: " + input);
+        }
+    }
+
+    @Benchmark
+    public ValidationResult validateSecurely() {
+        return validator.validateSecurely(value, type);
+    }
+
+    @Benchmark
+    public String sanitizeInput() {
+        return validator.sanitizeInput(value);
+    }
+
+    @Benchmark
+    public ValidationResult validateSecurelyRegex() {
+        return regexValidator.validateSecurely(value, type);
+    }
+
+    @Benchmark
+    public String sanitizeInputRegex() {
+        return regexValidator.sanitizeInput(value);
+    }
+}
@@ -0,0 +1,97 @@
+package com.todoapp.config;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.ZI_Result;
+import org.openjdk.jcstress.infra.results.ZZI_Result;
+import org.openjdk.jcstress.infra.results.ZZ_Result;
+
+import com.todoapp.config.RateLimitingConfig.DecisionCounters;
+import com.todoapp.config.RateLimitingConfig.RateLimitBucket;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+/**
+ * RateLimitBucket under concurrent callers: a window never admits more than maxRequests, never
+ * rejects while it has room, and getRemainingRequests never reports a count that no serial
+ * order of the calls could produce. The window is an hour so it cannot roll over mid-test.
+ */
+public class RateLimitBucketStressTest {
+
+    private static final DecisionCounters DECISIONS = new DecisionCounters(new SimpleMeterRegistry(), "jcstress");
+
+    private static RateLimitBucket bucket(int maxRequests) {
+        return new RateLimitBucket(maxRequests, 60, DECISIONS);
+    }
+
+    @JCStressTest
+    @Description("Two callers race for the last request of a window")
+    @Outcome(id = {"true, false", "false, true"}, expect = ACCEPTABLE, desc = "Exactly one caller is admitted")
+    @Outcome(id = "true, true", expect = FORBIDDEN, desc = "Over-admission: both callers got the last request")
+    @Outcome(id = "false, false", expect = FORBIDDEN, desc = "Lost request: both rejected with room left")
+    @State
+    public static class LastRequest {
+        private final RateLimitBucket bucket = bucket(1);
+
+        @Actor
+        public void first(ZZ_Result r) {
+            r.r1 = bucket.tryConsume();
+        }
+
+        @Actor
+        public void second(ZZ_Result r) {
+            r.r2 = bucket.tryConsume();
+        }
+    }
+
+    @JCStressTest
+    @Description("Two callers consume concurrently; the remaining count afterwards reflects both")
+    @Outcome(id = "true, true, 0", expect = ACCEPTABLE, desc = "Both admitted and both counted")
+    @Outcome(expect = FORBIDDEN, desc = "A consumption was lost or rejected with room left")
+    @State
+    public static class ConcurrentConsume {
+        private final RateLimitBucket bucket = bucket(2);
+
+        @Actor
+        public void first(ZZI_Result r) {
+            r.r1 = bucket.tryConsume();
+        }
+
+        @Actor
+        public void second(ZZI_Result r) {
+            r.r2 = bucket.tryConsume();
+        }
+
+        @Arbiter
+        public void remaining(ZZI_Result r) {
+            r.r3 = bucket.getRemainingRequests();
+        }
+    }
+
+    @JCStressTest
+    @Description("getRemainingRequests racing with tryConsume")
+    @Outcome(id = "true, 1", expect = ACCEPTABLE, desc = "Remaining read before the consumption")
+    @Outcome(id = "true, 0", expect = ACCEPTABLE, desc = "Remaining read after the consumption")
+    @Outcome(expect = FORBIDDEN, desc = "Torn or out-of-range remaining count")
+    @State
+    public static class RemainingWhileConsuming {
+        private final RateLimitBucket bucket = bucket(1);
+
+        @Actor
+        public void consume(ZI_Result r) {
+            r.r1 = bucket.tryConsume();
+        }
+
+        @Actor
+        public void read(ZI_Result r) {
+            r.r2 = bucket.getRemainingRequests();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.todoapp.service;
+
+import java.lang.reflect.Field;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.ZZ_Result;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+/**
+ * Logout blacklisting and refresh token rotation racing with requests that use the same tokens.
+ * Each state gets its own JwtService so the blacklist does not grow for the length of the run.
+ */
+public class JwtServiceStressTest {
+
+    // Same length as the application's default secret (256-bit HMAC key)
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+    private static final UserDetails USER =
+            User.withUsername("jcstress_user").password("unused").roles("USER").build();
+
+    @JCStressTest
+    @Description("A request verifies a token while the same token is being logged out")
+    @Outcome(id = {"true, false", "false, false"}, expect = ACCEPTABLE,
+            desc = "Verified before or rejected after the logout; rejected once logout has returned")
+    @Outcome(id = {"true, true", "false, true"}, expect = FORBIDDEN,
+            desc = "Token still accepted after blacklistToken returned")
+    @State
+    public static class LogoutWhileVerifying {
+        private final JwtService jwtService = newJwtService();
+        private final String token = jwtService.generateToken(USER);
+
+        @Actor
+        public void logout() {
+            jwtService.blacklistToken(token);
+        }
+
+        @Actor
+        public void verify(ZZ_Result r) {
+            r.r1 = jwtService.resolveValidUsername(token) != null;
+        }
+
+        @Arbiter
+        public void afterLogout(ZZ_Result r) {
+            r.r2 = jwtService.resolveValidUsername(token) != null;
+        }
+    }
+
+    @JCStressTest
+    @Description("Two sessions log out at the same time")
+    @Outcome(id = "false, false", expect = ACCEPTABLE, desc = "Both tokens blacklisted")
+    @Outcome(expect = FORBIDDEN, desc = "A concurrent blacklist insert was lost")
+    @State
+    public static class ConcurrentLogout {
+        private final JwtService jwtService = newJwtService();
+        private final String firstToken = jwtService.generateToken(USER);
+        private final String secondToken = jwtService.generateToken(USER);
+
+        @Actor
+        public void first() {
+            jwtService.blacklistToken(firstToken);
+        }
+
+        @Actor
+        public void second() {
+            jwtService.blacklistToken(secondToken);
+        }
+
+        @Arbiter
+        public void afterLogout(ZZ_Result r) {
+            r.r1 = jwtService.resolveValidUsername(firstToken) != null;
+            r.r2 = jwtService.resolveValidUsername(secondToken) != null;
+        }
+    }
+
+    @JCStressTest
+    @Description("The same refresh token is redeemed twice at once (replay)")
+    @Outcome(id = {"true, false", "false, true"}, expect = ACCEPTABLE, desc = "Exactly one rotation succeeds")
+    @Outcome(id = "true, true", expect = FORBIDDEN, desc = "Single-use refresh token redeemed twice")
+    @Outcome(id = "false, false", expect = FORBIDDEN, desc = "Valid refresh token rejected for both callers")
+    @State
+    public static class RefreshReplay {
+        private final JwtService jwtService = newJwtService();
+        private final String refreshToken = jwtService.issueTokenPair(USER).getRefreshToken();
+
+        @Actor
+        public void first(ZZ_Result r) {
+            r.r1 = jwtService.rotateRefreshToken(refreshToken) != null;
+        }
+
+        @Actor
+        public void second(ZZ_Result r) {
+            r.r2 = jwtService.rotateRefreshToken(refreshToken) != null;
+        }
+    }
+
+    private static JwtService newJwtService() {
+        try {
+            JwtService service = new JwtService(new SimpleMeterRegistry());
+            setField(service, "secretKey", SECRET);
+            setField(service, "jwtExpiration", 3_600_000L);
+            setField(service, "refreshExpiration", 604_800_000L);
+            service.initSigningKey();
+            return service;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void setField(Object target, String name, Object value) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
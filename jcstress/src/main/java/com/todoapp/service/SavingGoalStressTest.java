@@ -0,0 +1,84 @@
+package com.todoapp.service;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.IZ_Result;
+
+import com.todoapp.entity.Todo;
+import com.todoapp.repository.TodoRepository;
+import com.todoapp.service.strategy.DeadlineTodoStrategy;
+import com.todoapp.service.strategy.SavingTodoStrategy;
+import com.todoapp.service.strategy.StandardTodoStrategy;
+import com.todoapp.service.strategy.TodoStrategyFactory;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE_INTERESTING;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+/**
+ * Two deposits into one saving goal at once. The repository stub hands both calls the same
+ * entity, as a shared persistence context or cache would, so only the service's own
+ * read-modify-write of currentAmount and its auto-completion are under test.
+ */
+@JCStressTest
+@Description("Concurrent addMoneyToSavingGoal on one goal; the two deposits exactly reach the target")
+@Outcome(id = "20, true", expect = ACCEPTABLE, desc = "Both deposits applied and the goal completed")
+@Outcome(id = "10, false", expect = ACCEPTABLE_INTERESTING,
+        desc = "Lost update: currentAmount is read and written without a lock or version check")
+@Outcome(expect = FORBIDDEN, desc = "Completion disagrees with the amount")
+@State
+public class SavingGoalStressTest {
+
+    private static final BigDecimal DEPOSIT = BigDecimal.TEN;
+
+    private final Todo goal = new Todo();
+    private final TodoService todoService;
+
+    public SavingGoalStressTest() {
+        goal.setId(1L);
+        goal.setType(Todo.TodoType.SAVING);
+        goal.setTargetAmount(BigDecimal.valueOf(20));
+        goal.setCurrentAmount(BigDecimal.ZERO);
+
+        TodoStrategyFactory strategyFactory = new TodoStrategyFactory(
+                new StandardTodoStrategy(), new DeadlineTodoStrategy(), new SavingTodoStrategy());
+        todoService = new TodoService(repositoryOf(goal), strategyFactory, new TodoCalculationService());
+    }
+
+    @Actor
+    public void firstDeposit() {
+        todoService.addMoneyToSavingGoal(1L, DEPOSIT, null);
+    }
+
+    @Actor
+    public void secondDeposit() {
+        todoService.addMoneyToSavingGoal(1L, DEPOSIT, null);
+    }
+
+    @Arbiter
+    public void balance(IZ_Result r) {
+        r.r1 = goal.getCurrentAmount().intValue();
+        r.r2 = Boolean.TRUE.equals(goal.getCompleted());
+    }
+
+    /**
+     * TodoRepository whose lookups return the given todo and whose save is a no-op
+     */
+    private static TodoRepository repositoryOf(Todo todo) {
+        return (TodoRepository) Proxy.newProxyInstance(TodoRepository.class.getClassLoader(),
+                new Class<?>[] {TodoRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findByIdAndCollection" -> Optional.of(todo);
+                    case "save" -> args[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,93 @@
+package com.todoapp.service;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.II_Result;
+import org.openjdk.jcstress.infra.results.ZZI_Result;
+
+import com.todoapp.service.SecurityAuditLog.OverflowPolicy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+/**
+ * Producers racing to claim ring buffer slots. The consumer is never started, so the arbiter sees
+ * exactly the events that were published.
+ */
+public class SecurityAuditLogStressTest {
+
+    private static final MeterRegistry METERS = new SimpleMeterRegistry();
+
+    private static SecurityAuditLog auditLog(int bufferSize) {
+        return new SecurityAuditLog(METERS, bufferSize, OverflowPolicy.DROP, "jcstress-audit.log", 1_000_000, 0, 16);
+    }
+
+    @JCStressTest
+    @Description("Two producers record an event at the same time")
+    @Outcome(id = "1, 1", expect = ACCEPTABLE, desc = "Both events published once")
+    @Outcome(expect = FORBIDDEN, desc = "An event was lost, duplicated or left unpublished")
+    @State
+    public static class ConcurrentRecord {
+        private final SecurityAuditLog auditLog = auditLog(16);
+
+        @Actor
+        public void first() {
+            auditLog.record("first", "user", "ip", "ua");
+        }
+
+        @Actor
+        public void second() {
+            auditLog.record("second", "user", "ip", "ua");
+        }
+
+        @Arbiter
+        public void published(II_Result r) {
+            List<String> events = auditLog.pendingEventNames();
+            r.r1 = Collections.frequency(events, "first");
+            r.r2 = Collections.frequency(events, "second");
+        }
+    }
+
+    @JCStressTest
+    @Description("Two producers race for the last free slot under the DROP policy")
+    @Outcome(id = {"true, false, 1", "false, true, 2"}, expect = ACCEPTABLE,
+            desc = "The event that got the slot is published, the other is reported as dropped")
+    @Outcome(expect = FORBIDDEN, desc = "Both or neither got the slot, or the buffer disagrees with the results")
+    @State
+    public static class LastSlot {
+        private final SecurityAuditLog auditLog = auditLog(4);
+
+        public LastSlot() {
+            for (int i = 0; i < 3; i++) {
+                auditLog.record("earlier", "user", "ip", "ua");
+            }
+        }
+
+        @Actor
+        public void first(ZZI_Result r) {
+            r.r1 = auditLog.record("first", "user", "ip", "ua");
+        }
+
+        @Actor
+        public void second(ZZI_Result r) {
+            r.r2 = auditLog.record("second", "user", "ip", "ua");
+        }
+
+        @Arbiter
+        public void published(ZZI_Result r) {
+            List<String> events = auditLog.pendingEventNames();
+            // 1 if only the first event is in the buffer, 2 if only the second
+            r.r3 = Collections.frequency(events, "first") + 2 * Collections.frequency(events, "second");
+        }
+    }
+}
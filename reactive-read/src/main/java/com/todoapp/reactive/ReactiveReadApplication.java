@@ -0,0 +1,17 @@
+package com.todoapp.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Non-blocking read stack for collections and tasks.
+ * Serves the GET endpoints of TodoCollectionController and TodoController with the same paths and
+ * response shape, against the same database, for deployments with very high read fan-out.
+ */
+@SpringBootApplication
+public class ReactiveReadApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveReadApplication.class, args);
+    }
+}
@@ -0,0 +1,132 @@
+package com.todoapp.reactive.config;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.AuthenticationWebFilter;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import org.springframework.security.web.server.authentication.ServerAuthenticationConverter;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.CorsConfigurationSource;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+
+import com.todoapp.token.TokenRevocations;
+import com.todoapp.token.TokenVerifier;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Stateless JWT security for the read stack. Tokens are validated by the same token-core rules as the
+ * servlet application; validation is pure CPU (HMAC), so it runs inline on the event loop.
+ * Revocations made by the servlet application are loaded by the {@link RevokedTokenPoller}.
+ */
+@Configuration
+@EnableWebFluxSecurity
+public class ReactiveSecurityConfig {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    @Bean
+    public TokenRevocations tokenRevocations() {
+        return new TokenRevocations();
+    }
+
+    @Bean
+    public TokenVerifier tokenVerifier(@Value("${jwt.secret}") String secretKey, TokenRevocations tokenRevocations) {
+        return new TokenVerifier(secretKey, tokenRevocations);
+    }
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http, TokenVerifier tokenVerifier) {
+        AuthenticationWebFilter jwtFilter = new AuthenticationWebFilter(jwtAuthenticationManager());
+        jwtFilter.setServerAuthenticationConverter(bearerTokenConverter(tokenVerifier));
+
+        return http
+            .csrf(csrf -> csrf.disable()) // JWT stateless authentication
+            .httpBasic(httpBasic -> httpBasic.disable())
+            .formLogin(formLogin -> formLogin.disable())
+            .logout(logout -> logout.disable())
+            .cors(cors -> cors.configurationSource(corsConfigurationSource()))
+            .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+            // Same status as the servlet stack for missing or invalid tokens
+            .exceptionHandling(exceptions -> exceptions
+                .authenticationEntryPoint(new HttpStatusServerEntryPoint(HttpStatus.FORBIDDEN))
+            )
+            .addFilterAt(jwtFilter, SecurityWebFiltersOrder.AUTHENTICATION)
+            .authorizeExchange(exchanges -> exchanges
+                .pathMatchers("/actuator/health").permitAll()
+                .pathMatchers(HttpMethod.GET, "/api/**").authenticated()
+                .anyExchange().denyAll() // Read-only stack
+            )
+            .build();
+    }
+
+    /**
+     * The converter has already validated the token; this only marks the request authenticated
+     */
+    private ReactiveAuthenticationManager jwtAuthenticationManager() {
+        return authentication -> Mono.just(
+            UsernamePasswordAuthenticationToken.authenticated(authentication.getPrincipal(), null, List.of()));
+    }
+
+    /**
+     * A missing or invalid token converts to empty, so the request continues unauthenticated
+     * as in JwtAuthenticationFilter
+     */
+    private ServerAuthenticationConverter bearerTokenConverter(TokenVerifier tokenVerifier) {
+        return exchange -> {
+            String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+            if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
+                return Mono.empty();
+            }
+            String username = tokenVerifier.resolveAccessSubject(authHeader.substring(BEARER_PREFIX.length()));
+            if (username == null) {
+                return Mono.empty();
+            }
+            Authentication token = UsernamePasswordAuthenticationToken.unauthenticated(username, null);
+            return Mono.just(token);
+        };
+    }
+
+    @Bean
+    public CorsConfigurationSource corsConfigurationSource() {
+        CorsConfiguration configuration = new CorsConfiguration();
+
+        // Same origins as the servlet application
+        configuration.setAllowedOrigins(Arrays.asList(
+            "http://localhost:3000",
+            "http://127.0.0.1:3000",
+            "https://todoappfrontend-gvl161xgi-aseks-projects.vercel.app",
+            "https://todoappfrontend-xi.vercel.app/"
+        ));
+        configuration.setAllowedMethods(Arrays.asList("GET", "OPTIONS"));
+        configuration.setAllowedHeaders(Arrays.asList(
+            "Authorization",
+            "Content-Type",
+            "X-Requested-With",
+            "Accept",
+            "Origin"
+        ));
+        configuration.setExposedHeaders(Arrays.asList("Authorization"));
+        configuration.setAllowCredentials(true);
+        configuration.setMaxAge(3600L);
+
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/api/**", configuration);
+        return source;
+    }
+}
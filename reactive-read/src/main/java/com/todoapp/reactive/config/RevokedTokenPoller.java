@@ -0,0 +1,98 @@
+package com.todoapp.reactive.config;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+
+import com.todoapp.token.TokenRevocations;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Keeps the token revocations of this process in step with the revoked_tokens table written by the
+ * servlet application, so a logout or revoked refresh token family there is rejected here within
+ * jwt.revocation.poll-interval. Each poll reads only the rows added since the previous one.
+ * Starts in an early lifecycle phase: after schema initialisation, before the web server accepts requests.
+ */
+@Component
+public class RevokedTokenPoller implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(RevokedTokenPoller.class);
+
+    // Identity values are assigned at insert but become visible at commit; re-reading a few ids below
+    // the highest seen picks up a concurrent insert that committed out of order
+    private static final long ID_OVERLAP = 64;
+
+    private final DatabaseClient databaseClient;
+    private final TokenRevocations revocations;
+    private final Duration pollInterval;
+    private volatile long lastId;
+    private volatile Disposable polling;
+
+    public RevokedTokenPoller(DatabaseClient databaseClient, TokenRevocations revocations,
+                              @Value("${jwt.revocation.poll-interval:5s}") Duration pollInterval) {
+        this.databaseClient = databaseClient;
+        this.revocations = revocations;
+        this.pollInterval = pollInterval;
+    }
+
+    /**
+     * Load the current revocations, then keep polling
+     */
+    @Override
+    public void start() {
+        poll().block(Duration.ofSeconds(30));
+        polling = Flux.interval(pollInterval, pollInterval)
+                .concatMap(tick -> poll().onErrorResume(e -> {
+                    logger.warn("Polling revoked tokens failed: {}", e.getMessage());
+                    return Mono.empty();
+                }))
+                .subscribe();
+    }
+
+    @Override
+    public void stop() {
+        if (polling != null) {
+            polling.dispose();
+            polling = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return polling != null;
+    }
+
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    /**
+     * Read revocations added since the last poll and drop expired ones
+     * @return the number of rows read
+     */
+    public Mono<Long> poll() {
+        long now = System.currentTimeMillis();
+        return databaseClient.sql("SELECT id, kind, token_key, expires_at FROM revoked_tokens"
+                        + " WHERE id > :fromId AND expires_at >= :now")
+                .bind("fromId", Math.max(0, lastId - ID_OVERLAP))
+                .bind("now", now)
+                .map((row, metadata) -> {
+                    revocations.record(TokenRevocations.Kind.valueOf(row.get("kind", String.class)),
+                            row.get("token_key", String.class), row.get("expires_at", Long.class));
+                    return row.get("id", Long.class);
+                })
+                .all()
+                .doOnNext(id -> lastId = Math.max(lastId, id))
+                .count()
+                .doOnSuccess(rows -> revocations.removeExpired(now));
+    }
+}
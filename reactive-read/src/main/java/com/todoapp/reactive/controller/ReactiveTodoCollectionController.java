@@ -0,0 +1,82 @@
+package com.todoapp.reactive.controller;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.todoapp.reactive.entity.Todo;
+import com.todoapp.reactive.entity.TodoCollection;
+import com.todoapp.reactive.repository.ReactiveTodoCollectionRepository;
+import com.todoapp.reactive.repository.ReactiveTodoRepository;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Read endpoints of TodoCollectionController on the reactive stack
+ */
+@RestController
+@RequestMapping("/api/collections")
+public class ReactiveTodoCollectionController {
+
+    @Autowired
+    private ReactiveTodoCollectionRepository todoCollectionRepository;
+
+    @Autowired
+    private ReactiveTodoRepository todoRepository;
+
+    // Resolve the current user's id from the JWT subject
+    private Mono<Long> getCurrentUserId() {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(context -> context.getAuthentication().getName())
+                .flatMap(todoCollectionRepository::findUserIdByUsername);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<Map<String, Object>>> getAllCollections() {
+        return getCurrentUserId()
+                .flatMap(userId -> todoCollectionRepository.findByUserIdOrderByCreatedAtDesc(userId).collectList())
+                .flatMap(this::attachTodos)
+                .map(collections -> ResponseEntity.ok(Map.<String, Object>of("success", true, "data", collections)))
+                .switchIfEmpty(Mono.fromSupplier(ReactiveTodoCollectionController::userNotFound));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Map<String, Object>>> getCollection(@PathVariable Long id) {
+        return getCurrentUserId()
+                .flatMap(userId -> todoCollectionRepository.findByIdAndUserId(id, userId)
+                        .flatMap(collection -> attachTodos(List.of(collection)))
+                        .map(collections -> ResponseEntity.ok(Map.<String, Object>of("success", true, "data", collections.get(0))))
+                        .defaultIfEmpty(ResponseEntity.notFound().build()))
+                .switchIfEmpty(Mono.fromSupplier(ReactiveTodoCollectionController::userNotFound));
+    }
+
+    /**
+     * Load the todos of all given collections with one query (the JPA stack lazily loads them per collection)
+     */
+    private Mono<List<TodoCollection>> attachTodos(List<TodoCollection> collections) {
+        if (collections.isEmpty()) {
+            return Mono.just(collections);
+        }
+        List<Long> ids = collections.stream().map(TodoCollection::getId).collect(Collectors.toList());
+        return todoRepository.findByCollectionIdInOrderByCreatedAtDesc(ids)
+                .collect(Collectors.groupingBy(Todo::getCollectionId))
+                .map(todosByCollection -> {
+                    for (TodoCollection collection : collections) {
+                        collection.setTodos(todosByCollection.getOrDefault(collection.getId(), List.of()));
+                    }
+                    return collections;
+                });
+    }
+
+    static ResponseEntity<Map<String, Object>> userNotFound() {
+        return ResponseEntity.badRequest().body(Map.of("success", false, "message", "User not found"));
+    }
+}
@@ -0,0 +1,47 @@
+package com.todoapp.reactive.controller;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.todoapp.reactive.repository.ReactiveTodoCollectionRepository;
+import com.todoapp.reactive.repository.ReactiveTodoRepository;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Read endpoints of TodoController on the reactive stack
+ */
+@RestController
+@RequestMapping("/api")
+public class ReactiveTodoController {
+
+    @Autowired
+    private ReactiveTodoRepository todoRepository;
+
+    @Autowired
+    private ReactiveTodoCollectionRepository todoCollectionRepository;
+
+    // Resolve the current user's id from the JWT subject
+    private Mono<Long> getCurrentUserId() {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(context -> context.getAuthentication().getName())
+                .flatMap(todoCollectionRepository::findUserIdByUsername);
+    }
+
+    @GetMapping("/collections/{collectionId}/tasks")
+    public Mono<ResponseEntity<Map<String, Object>>> getTodosByCollection(@PathVariable Long collectionId) {
+        return getCurrentUserId()
+                .flatMap(userId -> todoCollectionRepository.findByIdAndUserId(collectionId, userId)
+                        .flatMap(collection -> todoRepository.findByCollectionIdOrderByCreatedAtDesc(collection.getId()).collectList())
+                        .map(todos -> ResponseEntity.ok(Map.<String, Object>of("success", true, "data", todos)))
+                        .defaultIfEmpty(ResponseEntity.notFound().build()))
+                .switchIfEmpty(Mono.fromSupplier(ReactiveTodoCollectionController::userNotFound));
+    }
+}
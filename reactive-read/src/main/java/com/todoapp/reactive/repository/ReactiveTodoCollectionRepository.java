@@ -0,0 +1,23 @@
+package com.todoapp.reactive.repository;
+
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+
+import com.todoapp.reactive.entity.TodoCollection;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of TodoCollectionRepository
+ */
+@Repository
+public interface ReactiveTodoCollectionRepository extends ReactiveCrudRepository<TodoCollection, Long> {
+    Flux<TodoCollection> findByUserIdOrderByCreatedAtDesc(Long userId);
+    Mono<TodoCollection> findByIdAndUserId(Long id, Long userId);
+
+    // The servlet stack resolves the user entity first; only its id is needed here
+    @Query("SELECT id FROM users WHERE username = :username")
+    Mono<Long> findUserIdByUsername(String username);
+}
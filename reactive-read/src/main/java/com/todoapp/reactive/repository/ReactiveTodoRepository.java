@@ -0,0 +1,19 @@
+package com.todoapp.reactive.repository;
+
+import java.util.Collection;
+
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+
+import com.todoapp.reactive.entity.Todo;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Reactive counterpart of TodoRepository
+ */
+@Repository
+public interface ReactiveTodoRepository extends ReactiveCrudRepository<Todo, Long> {
+    Flux<Todo> findByCollectionIdOrderByCreatedAtDesc(Long collectionId);
+    Flux<Todo> findByCollectionIdInOrderByCreatedAtDesc(Collection<Long> collectionIds);
+}
@@ -0,0 +1,104 @@
+package com.todoapp.reactive;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.UUID;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import com.todoapp.token.TokenVerifier;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Rows as the servlet application writes them, and tokens as its JwtService mints them
+ */
+public final class TestData {
+
+    public static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private final DatabaseClient databaseClient;
+
+    public TestData(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public void clear() {
+        for (String table : new String[] {"revoked_tokens", "todos", "todo_collections", "users"}) {
+            databaseClient.sql("DELETE FROM " + table).then().block();
+        }
+    }
+
+    public long user(String username) {
+        return databaseClient.sql("INSERT INTO users (username, name, email, password) VALUES (:username, :name, :email, 'x')")
+                .bind("username", username)
+                .bind("name", username)
+                .bind("email", username + "@example.com")
+                .filter(statement -> statement.returnGeneratedValues("id"))
+                .map(row -> row.get("id", Long.class))
+                .one()
+                .block();
+    }
+
+    public long collection(long userId, String name, LocalDateTime createdAt) {
+        return databaseClient.sql("INSERT INTO todo_collections (name, created_at, updated_at, user_id)"
+                        + " VALUES (:name, :createdAt, :createdAt, :userId)")
+                .bind("name", name)
+                .bind("createdAt", createdAt)
+                .bind("userId", userId)
+                .filter(statement -> statement.returnGeneratedValues("id"))
+                .map(row -> row.get("id", Long.class))
+                .one()
+                .block();
+    }
+
+    public long todo(long collectionId, String title, LocalDateTime createdAt) {
+        return databaseClient.sql("INSERT INTO todos (title, completed, type, created_at, updated_at, collection_id)"
+                        + " VALUES (:title, false, 'STANDARD', :createdAt, :createdAt, :collectionId)")
+                .bind("title", title)
+                .bind("createdAt", createdAt)
+                .bind("collectionId", collectionId)
+                .filter(statement -> statement.returnGeneratedValues("id"))
+                .map(row -> row.get("id", Long.class))
+                .one()
+                .block();
+    }
+
+    /**
+     * Insert a revocation the way DatabaseTokenRevocations in the servlet application does
+     */
+    public void revoke(String kind, String key) {
+        databaseClient.sql("INSERT INTO revoked_tokens (kind, token_key, expires_at) VALUES (:kind, :key, :expiresAt)")
+                .bind("kind", kind)
+                .bind("key", key)
+                .bind("expiresAt", System.currentTimeMillis() + 3_600_000L)
+                .then()
+                .block();
+    }
+
+    public static String accessToken(String username, String tokenId, String family) {
+        return token(TokenVerifier.ACCESS, username, tokenId, family);
+    }
+
+    public static String refreshToken(String username) {
+        return token(TokenVerifier.REFRESH, username, UUID.randomUUID().toString(), "family");
+    }
+
+    private static String token(String type, String username, String tokenId, String family) {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .claim(TokenVerifier.TYPE_CLAIM, type)
+                .claim(TokenVerifier.FAMILY_CLAIM, family)
+                .setSubject(username)
+                .setId(tokenId)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + 3_600_000L))
+                .setIssuer(TokenVerifier.ISSUER)
+                .setAudience(TokenVerifier.AUDIENCE)
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
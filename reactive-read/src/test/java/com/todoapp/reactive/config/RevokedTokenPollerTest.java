@@ -0,0 +1,73 @@
+package com.todoapp.reactive.config;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import com.todoapp.reactive.TestData;
+
+/**
+ * Tokens revoked by the servlet application (rows in revoked_tokens) stop working on the read stack
+ * once they have been polled
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class RevokedTokenPollerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private RevokedTokenPoller revokedTokenPoller;
+
+    private TestData data;
+    private long collectionId;
+
+    @BeforeEach
+    void setUp() {
+        data = new TestData(databaseClient);
+        data.clear();
+        collectionId = data.collection(data.user("dave"), "Errands", LocalDateTime.now());
+    }
+
+    @Test
+    void blacklistedTokenIsRejectedAfterPoll() {
+        String token = TestData.accessToken("dave", "logged-out", "f2");
+        String otherToken = TestData.accessToken("dave", "still-valid", "f2");
+        expectStatus(token, 200);
+
+        data.revoke("TOKEN", "logged-out");
+        revokedTokenPoller.poll().block();
+
+        expectStatus(token, 403);
+        expectStatus(otherToken, 200);
+    }
+
+    @Test
+    void revokedFamilyIsRejectedAfterPoll() {
+        String token = TestData.accessToken("dave", "t3", "stolen-family");
+        expectStatus(token, 200);
+
+        data.revoke("FAMILY", "stolen-family");
+        revokedTokenPoller.poll().block();
+
+        expectStatus(token, 403);
+        expectStatus(TestData.accessToken("dave", "t4", "other-family"), 200);
+    }
+
+    private void expectStatus(String token, int status) {
+        webTestClient.get().uri("/api/collections/{collectionId}/tasks", collectionId)
+                .headers(headers -> headers.setBearerAuth(token))
+                .exchange()
+                .expectStatus().isEqualTo(status);
+    }
+}
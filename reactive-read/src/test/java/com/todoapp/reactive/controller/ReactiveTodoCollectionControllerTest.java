@@ -0,0 +1,112 @@
+package com.todoapp.reactive.controller;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import com.todoapp.reactive.TestData;
+
+/**
+ * Collection reads against an embedded R2DBC H2 database, authenticated with tokens as the servlet
+ * application issues them
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class ReactiveTodoCollectionControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    private long homeId;
+    private long otherUsersCollectionId;
+
+    @BeforeEach
+    void setUp() {
+        TestData data = new TestData(databaseClient);
+        data.clear();
+        LocalDateTime now = LocalDateTime.now();
+        long alice = data.user("alice");
+        long bob = data.user("bob");
+
+        long work = data.collection(alice, "Work", now.minusDays(2));
+        homeId = data.collection(alice, "Home", now.minusDays(1));
+        data.todo(work, "Report", now.minusHours(3));
+        data.todo(homeId, "Dishes", now.minusHours(2));
+        data.todo(homeId, "Laundry", now.minusHours(1));
+        otherUsersCollectionId = data.collection(bob, "Private", now);
+    }
+
+    @Test
+    void listsOwnCollectionsWithTheirTodosNewestFirst() {
+        webTestClient.get().uri("/api/collections")
+                .headers(headers -> headers.setBearerAuth(TestData.accessToken("alice", "t1", "f1")))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.success").isEqualTo(true)
+                .jsonPath("$.data.length()").isEqualTo(2)
+                .jsonPath("$.data[0].name").isEqualTo("Home")
+                .jsonPath("$.data[0].todos[0].title").isEqualTo("Laundry")
+                .jsonPath("$.data[0].todos[1].title").isEqualTo("Dishes")
+                .jsonPath("$.data[0].userId").doesNotExist()
+                .jsonPath("$.data[1].name").isEqualTo("Work")
+                .jsonPath("$.data[1].todos.length()").isEqualTo(1);
+    }
+
+    @Test
+    void readsOneOwnCollection() {
+        webTestClient.get().uri("/api/collections/{id}", homeId)
+                .headers(headers -> headers.setBearerAuth(TestData.accessToken("alice", "t1", "f1")))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.name").isEqualTo("Home")
+                .jsonPath("$.data.todos.length()").isEqualTo(2);
+    }
+
+    @Test
+    void anotherUsersCollectionIsNotFound() {
+        webTestClient.get().uri("/api/collections/{id}", otherUsersCollectionId)
+                .headers(headers -> headers.setBearerAuth(TestData.accessToken("alice", "t1", "f1")))
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void unknownUserIsABadRequest() {
+        webTestClient.get().uri("/api/collections")
+                .headers(headers -> headers.setBearerAuth(TestData.accessToken("carol", "t1", "f1")))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("User not found");
+    }
+
+    @Test
+    void missingOrRefreshTokenIsForbidden() {
+        webTestClient.get().uri("/api/collections")
+                .exchange()
+                .expectStatus().isForbidden();
+        webTestClient.get().uri("/api/collections")
+                .headers(headers -> headers.setBearerAuth(TestData.refreshToken("alice")))
+                .exchange()
+                .expectStatus().isForbidden();
+    }
+
+    @Test
+    void writesAreDenied() {
+        webTestClient.post().uri("/api/collections")
+                .headers(headers -> headers.setBearerAuth(TestData.accessToken("alice", "t1", "f1")))
+                .exchange()
+                .expectStatus().isForbidden();
+    }
+}
@@ -0,0 +1,42 @@
+-- The tables the servlet application creates through Hibernate, as far as the read stack uses them
+CREATE TABLE IF NOT EXISTS users (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username VARCHAR(255) NOT NULL UNIQUE,
+    name VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL UNIQUE,
+    password VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS todo_collections (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    description VARCHAR(255),
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP,
+    user_id BIGINT NOT NULL REFERENCES users (id)
+);
+
+CREATE TABLE IF NOT EXISTS todos (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    description VARCHAR(255),
+    completed BOOLEAN,
+    type VARCHAR(255),
+    due_date DATE,
+    target_amount NUMERIC(19, 2),
+    current_amount NUMERIC(19, 2),
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP,
+    collection_id BIGINT NOT NULL REFERENCES todo_collections (id)
+);
+
+CREATE TABLE IF NOT EXISTS revoked_tokens (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    kind VARCHAR(16) NOT NULL,
+    token_key VARCHAR(255) NOT NULL,
+    expires_at BIGINT NOT NULL,
+    revoked_at TIMESTAMP,
+    CONSTRAINT uk_revoked_tokens_kind_key UNIQUE (kind, token_key)
+);
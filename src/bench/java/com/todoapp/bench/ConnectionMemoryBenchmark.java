@@ -0,0 +1,464 @@
+package com.todoapp.bench;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Memory per concurrent connection of the servlet application and the reactive read stack.
+ * Each stack runs in its own JVM on the same H2 file database and the same JVM options. For every
+ * level, that many keep-alive connections each send GET /api/collections/{id}/tasks once per
+ * memory.interval-millis for memory.seconds, while the resident set size and thread count of the
+ * server process are sampled. Memory per connection is the peak RSS over the idle baseline divided
+ * by the number of connections. Results are printed and written as JSON to memory.report.
+ *
+ * Every connection has its own loopback source address (127.0.x.y), so the per-client rate limit of
+ * the servlet application applies to each one as it would to separate clients. Reads RSS from
+ * /proc, so it runs on Linux only.
+ *
+ * mvn package -DskipTests && mvn -f reactive-read/pom.xml package -DskipTests
+ * mvn -Pscale-bench compile exec:java -Dexec.mainClass=com.todoapp.bench.ConnectionMemoryBenchmark -Dmemory.connections=100,500,1000
+ */
+public class ConnectionMemoryBenchmark {
+
+    private static final String SERVLET = "servlet";
+    private static final String REACTIVE = "reactive";
+    private static final long TIMEOUT_NANOS = TimeUnit.MINUTES.toNanos(3);
+
+    private final Path workDirectory;
+    private final String java;
+    private final List<String> jvmArgs;
+    private final long seconds;
+    private final long intervalMillis;
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    ConnectionMemoryBenchmark(Path workDirectory, List<String> jvmArgs, long seconds, long intervalMillis) {
+        this.workDirectory = workDirectory;
+        this.jvmArgs = jvmArgs;
+        this.seconds = seconds;
+        this.intervalMillis = intervalMillis;
+        this.java = ProcessHandle.current().info().command().orElse("java");
+    }
+
+    public static void main(String[] args) throws Exception {
+        int[] levels = Arrays.stream(System.getProperty("memory.connections", "100,500,1000").split(","))
+                .map(String::trim).mapToInt(Integer::parseInt).toArray();
+        long seconds = Long.getLong("memory.seconds", 20);
+        long intervalMillis = Long.getLong("memory.interval-millis", 1000);
+        List<String> jvmArgs = Arrays.stream(System.getProperty("memory.jvm-args", "-Xmx512m").split(" "))
+                .filter(arg -> !arg.isBlank()).collect(Collectors.toList());
+        File report = new File(System.getProperty("memory.report", "target/connection-memory-report.json"));
+        if (intervalMillis < 1000) {
+            throw new IllegalArgumentException("memory.interval-millis below 1000 exceeds the per-client API rate limit");
+        }
+
+        Path servletJar = findJar(Path.of("target"), "todoapp-backend-.*-SNAPSHOT\\.jar", "mvn package");
+        Path reactiveJar = findJar(Path.of("reactive-read/target"), "todoapp-reactive-read-.*-SNAPSHOT\\.jar",
+                "mvn -f reactive-read/pom.xml package");
+        Path workDirectory = Path.of("target/connection-bench").toAbsolutePath();
+        Files.createDirectories(workDirectory);
+        Files.deleteIfExists(workDirectory.resolve("todo.mv.db"));
+
+        ConnectionMemoryBenchmark benchmark = new ConnectionMemoryBenchmark(workDirectory, jvmArgs, seconds, intervalMillis);
+        List<Result> results = new ArrayList<>();
+        // The servlet application creates the schema and the data; the read stack then reads the same file
+        results.addAll(benchmark.measure(SERVLET, benchmark.servletCommand(servletJar), levels));
+        results.addAll(benchmark.measure(REACTIVE, benchmark.reactiveCommand(reactiveJar), levels));
+
+        System.out.printf("%n%-10s %11s %14s %14s %9s %9s %16s %9s%n", "stack", "connections", "idle RSS MiB",
+                "peak RSS MiB", "threads", "peak thr", "KiB/connection", "errors");
+        for (Result result : results) {
+            System.out.printf("%-10s %,11d %,14.1f %,14.1f %,9d %,9d %,16.1f %,9d%n", result.stack, result.connections,
+                    result.idleRssKb / 1024.0, result.peakRssKb / 1024.0, result.idleThreads, result.peakThreads,
+                    result.getKbPerConnection(), result.errors);
+        }
+
+        File parent = report.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(report, results);
+        System.out.printf("%nReport written to %s%n", report.getAbsolutePath());
+    }
+
+    List<Result> measure(String stack, List<String> command, int[] levels) throws Exception {
+        int port = freePort();
+        command.add("--server.port=" + port);
+        Path log = workDirectory.resolve(stack + ".log");
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log.toFile()).start();
+        try {
+            String baseUrl = "http://localhost:" + port;
+            awaitHealthy(process, baseUrl, stack, log);
+
+            String token;
+            long collectionId;
+            if (stack.equals(SERVLET)) {
+                token = login(baseUrl);
+                collectionId = createCollection(baseUrl, token);
+                Files.writeString(workDirectory.resolve("session"), token + "\n" + collectionId);
+            } else {
+                List<String> session = Files.readAllLines(workDirectory.resolve("session"));
+                token = session.get(0);
+                collectionId = Long.parseLong(session.get(1));
+            }
+            byte[] request = ("GET /api/collections/" + collectionId + "/tasks HTTP/1.1\r\n"
+                    + "Host: localhost\r\nAuthorization: Bearer " + token + "\r\nAccept: application/json\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII);
+
+            // Warm up on addresses no level uses, within the per-client rate limit
+            run(process, port, request, 50, 20_000, 10, 0);
+
+            List<Result> results = new ArrayList<>();
+            for (int level : levels) {
+                Thread.sleep(3000);
+                long[] idle = sample(process.pid());
+                long[] peak = new long[2];
+                LongAdder errors = new LongAdder();
+                long requests = run(process, port, request, level, 0, seconds * 1000 / intervalMillis,
+                        intervalMillis, peak, errors);
+                Result result = new Result(stack, level, idle[0], peak[0], (int) idle[1], (int) peak[1],
+                        requests, errors.sum());
+                System.out.printf("%-10s %,6d connections: %,8.1f KiB/connection, %,5d threads, %,d requests, %,d errors%n",
+                        stack, level, result.getKbPerConnection(), result.peakThreads, requests, result.errors);
+                results.add(result);
+            }
+            return results;
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private long run(Process process, int port, byte[] request, int connections, int firstAddress,
+                     long rounds, long intervalMillis) throws Exception {
+        return run(process, port, request, connections, firstAddress, rounds, intervalMillis, new long[2], new LongAdder());
+    }
+
+    /**
+     * Hold the given number of connections open, each sending the request once per interval, and record
+     * the peak RSS and thread count of the server meanwhile
+     * @return the number of requests sent
+     */
+    private long run(Process process, int port, byte[] request, int connections, int firstAddress, long rounds,
+                     long intervalMillis, long[] peak, LongAdder errors) throws Exception {
+        LongAdder requests = new LongAdder();
+        ExecutorService clients = Executors.newFixedThreadPool(connections);
+        List<Connection> open = new ArrayList<>();
+        try {
+            for (int i = 0; i < connections; i++) {
+                open.add(new Connection(loopbackAddress(firstAddress + i), port));
+            }
+            for (Connection connection : open) {
+                clients.execute(() -> {
+                    for (long round = 0; round < rounds; round++) {
+                        long start = System.nanoTime();
+                        try {
+                            if (connection.exchange(request) != 200) {
+                                errors.increment();
+                            }
+                        } catch (IOException e) {
+                            errors.increment();
+                            return;
+                        }
+                        requests.increment();
+                        long sleep = intervalMillis - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                        if (sleep > 0) {
+                            try {
+                                Thread.sleep(sleep);
+                            } catch (InterruptedException e) {
+                                return;
+                            }
+                        }
+                    }
+                });
+            }
+            clients.shutdown();
+            while (!clients.awaitTermination(250, TimeUnit.MILLISECONDS)) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Server process exited during the run");
+                }
+                long[] sample = sample(process.pid());
+                peak[0] = Math.max(peak[0], sample[0]);
+                peak[1] = Math.max(peak[1], sample[1]);
+            }
+            return requests.sum();
+        } finally {
+            clients.shutdownNow();
+            for (Connection connection : open) {
+                connection.close();
+            }
+        }
+    }
+
+    /**
+     * @return resident set size in KiB and thread count of a process
+     */
+    private static long[] sample(long pid) throws IOException {
+        long rss = -1;
+        long threads = -1;
+        for (String line : Files.readAllLines(Path.of("/proc", Long.toString(pid), "status"))) {
+            if (line.startsWith("VmRSS:")) {
+                rss = Long.parseLong(line.replaceAll("\\D", ""));
+            } else if (line.startsWith("Threads:")) {
+                threads = Long.parseLong(line.replaceAll("\\D", ""));
+            }
+        }
+        if (rss < 0 || threads < 0) {
+            throw new IllegalStateException("No VmRSS or Threads in /proc/" + pid + "/status");
+        }
+        return new long[] {rss, threads};
+    }
+
+    private static String loopbackAddress(int index) {
+        return "127.0." + (index / 250) % 256 + "." + (index % 250 + 1);
+    }
+
+    private String login(String baseUrl) throws Exception {
+        HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"admin\",\"password\":\"password\"}"))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login returned " + response.statusCode() + ": " + response.body());
+        }
+        return objectMapper.readTree(response.body()).path("token").asText();
+    }
+
+    private long createCollection(String baseUrl, String token) throws Exception {
+        JsonNode collection = post(baseUrl + "/api/collections", token,
+                "{\"name\":\"Benchmark\",\"description\":\"Connection memory benchmark\"}");
+        long collectionId = collection.path("data").path("id").asLong();
+        for (int i = 0; i < 5; i++) {
+            post(baseUrl + "/api/collections/" + collectionId + "/tasks", token,
+                    "{\"title\":\"Task " + i + "\",\"description\":\"Read by every connection\",\"type\":\"STANDARD\"}");
+        }
+        return collectionId;
+    }
+
+    private JsonNode post(String url, String token, String body) throws Exception {
+        HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .header("Authorization", "Bearer " + token)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200 && response.statusCode() != 201) {
+            throw new IllegalStateException("POST " + url + " returned " + response.statusCode() + ": " + response.body());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private void awaitHealthy(Process process, String baseUrl, String stack, Path log) throws Exception {
+        long launched = System.nanoTime();
+        while (true) {
+            try {
+                if (httpClient.send(HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health"))
+                        .timeout(Duration.ofSeconds(5)).build(), HttpResponse.BodyHandlers.discarding())
+                        .statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            if (!process.isAlive() || System.nanoTime() - launched > TIMEOUT_NANOS) {
+                throw new IllegalStateException(stack + " did not become healthy; see " + log);
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    /**
+     * The fat jar carries no JDBC driver for H2; it is added with the PropertiesLauncher
+     */
+    List<String> servletCommand(Path jar) throws Exception {
+        Path h2 = Path.of(Class.forName("org.h2.Driver").getProtectionDomain().getCodeSource().getLocation().toURI());
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.addAll(jvmArgs);
+        command.addAll(List.of("-Dloader.path=" + h2, "-cp", jar.toString(),
+                "org.springframework.boot.loader.PropertiesLauncher"));
+        command.add("--spring.datasource.url=jdbc:h2:file:" + workDirectory.resolve("todo") + ";MODE=PostgreSQL");
+        command.add("--spring.datasource.driver-class-name=org.h2.Driver");
+        command.add("--spring.datasource.username=sa");
+        command.add("--spring.datasource.password=");
+        command.add("--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect");
+        command.add("--security.audit.file=" + workDirectory.resolve("security-audit.log"));
+        command.add("--seed.default-user.password=password");
+        command.add("--management.tracing.sampling.probability=0");
+        return command;
+    }
+
+    List<String> reactiveCommand(Path jar) {
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.addAll(jvmArgs);
+        command.addAll(List.of("-jar", jar.toString()));
+        command.add("--spring.r2dbc.url=r2dbc:h2:file:///" + workDirectory.resolve("todo") + ";MODE=PostgreSQL");
+        command.add("--spring.r2dbc.username=sa");
+        command.add("--spring.r2dbc.password=");
+        return command;
+    }
+
+    private static Path findJar(Path directory, String pattern, String build) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            throw new IllegalStateException("No " + directory + "; run " + build);
+        }
+        try (var jars = Files.list(directory)) {
+            return jars.filter(path -> path.getFileName().toString().matches(pattern))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("No jar in " + directory + "; run " + build));
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    /**
+     * Minimal blocking HTTP/1.1 keep-alive client bound to one source address
+     */
+    static final class Connection implements Closeable {
+        private final Socket socket;
+        private final InputStream in;
+        private final OutputStream out;
+
+        Connection(String localAddress, int port) throws IOException {
+            socket = new Socket();
+            socket.bind(new InetSocketAddress(localAddress, 0));
+            socket.connect(new InetSocketAddress("127.0.0.1", port), 5000);
+            socket.setSoTimeout(30_000);
+            in = new BufferedInputStream(socket.getInputStream());
+            out = socket.getOutputStream();
+        }
+
+        /**
+         * @return the response status; the body is read and discarded
+         */
+        int exchange(byte[] request) throws IOException {
+            out.write(request);
+            out.flush();
+            String statusLine = readLine();
+            int status = Integer.parseInt(statusLine.split(" ")[1]);
+            long contentLength = -1;
+            boolean chunked = false;
+            for (String header = readLine(); !header.isEmpty(); header = readLine()) {
+                String name = header.substring(0, header.indexOf(':')).trim();
+                String value = header.substring(header.indexOf(':') + 1).trim();
+                if (name.equalsIgnoreCase("Content-Length")) {
+                    contentLength = Long.parseLong(value);
+                } else if (name.equalsIgnoreCase("Transfer-Encoding") && value.equalsIgnoreCase("chunked")) {
+                    chunked = true;
+                }
+            }
+            if (chunked) {
+                for (long size = Long.parseLong(readLine().split(";")[0].trim(), 16); size > 0;
+                     size = Long.parseLong(readLine().split(";")[0].trim(), 16)) {
+                    skip(size);
+                    readLine();
+                }
+                while (!readLine().isEmpty()) {
+                    // Trailers
+                }
+            } else if (contentLength > 0) {
+                skip(contentLength);
+            }
+            return status;
+        }
+
+        private String readLine() throws IOException {
+            ByteArrayOutputStream line = new ByteArrayOutputStream(64);
+            for (int b = in.read(); b != '\n'; b = in.read()) {
+                if (b < 0) {
+                    throw new IOException("Connection closed by server");
+                }
+                if (b != '\r') {
+                    line.write(b);
+                }
+            }
+            return line.toString(StandardCharsets.US_ASCII);
+        }
+
+        private void skip(long bytes) throws IOException {
+            while (bytes > 0) {
+                long skipped = in.skip(bytes);
+                if (skipped <= 0) {
+                    if (in.read() < 0) {
+                        throw new IOException("Connection closed by server");
+                    }
+                    skipped = 1;
+                }
+                bytes -= skipped;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+        }
+    }
+
+    public static class Result {
+        private final String stack;
+        private final int connections;
+        private final long idleRssKb;
+        private final long peakRssKb;
+        private final int idleThreads;
+        private final int peakThreads;
+        private final long requests;
+        private final long errors;
+
+        Result(String stack, int connections, long idleRssKb, long peakRssKb, int idleThreads, int peakThreads,
+               long requests, long errors) {
+            this.stack = stack;
+            this.connections = connections;
+            this.idleRssKb = idleRssKb;
+            this.peakRssKb = peakRssKb;
+            this.idleThreads = idleThreads;
+            this.peakThreads = peakThreads;
+            this.requests = requests;
+            this.errors = errors;
+        }
+
+        public String getStack() { return stack; }
+        public int getConnections() { return connections; }
+        public long getIdleRssKb() { return idleRssKb; }
+        public long getPeakRssKb() { return peakRssKb; }
+        public int getIdleThreads() { return idleThreads; }
+        public int getPeakThreads() { return peakThreads; }
+        public long getRequests() { return requests; }
+        public long getErrors() { return errors; }
+        public double getKbPerConnection() { return Math.max(0, peakRssKb - idleRssKb) / (double) connections; }
+    }
+}
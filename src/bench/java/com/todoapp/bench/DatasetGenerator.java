@@ -0,0 +1,250 @@
+package com.todoapp.bench;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.todoapp.entity.Todo;
+
+/**
+ * Fills the application schema with synthetic users, collections and todos using batched JDBC inserts.
+ * Collections are assigned to users and todos to collections through a {@link SkewedSampler}, so a few
+ * users and collections are much heavier than the rest. Todos are appended, so a dataset can be grown
+ * from one scale point to the next without regenerating it.
+ */
+class DatasetGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(DatasetGenerator.class);
+
+    private static final int BATCH_SIZE = 5_000;
+    private static final String[] VERBS = {"Buy", "Call", "Email", "Fix", "Plan", "Review", "Pay", "Book", "Clean", "Write"};
+    private static final String[] NOUNS = {"groceries", "dentist", "report", "car", "trip", "invoice", "rent", "flights", "garage", "notes"};
+
+    private final DataSource dataSource;
+    private final SplittableRandom random;
+    private final double skew;
+    private final double[] typeMix;
+
+    /**
+     * @param typeMix share of STANDARD, DEADLINE and SAVING todos, in {@link Todo.TodoType} order
+     */
+    DatasetGenerator(DataSource dataSource, long seed, double skew, double[] typeMix) {
+        this.dataSource = dataSource;
+        this.random = new SplittableRandom(seed);
+        this.skew = skew;
+        this.typeMix = typeMix;
+    }
+
+    /**
+     * Users and collections are created once; later calls only add todos
+     */
+    Dataset ensureDataset(int users, int collections, String passwordHash) throws SQLException {
+        if (count("users") < users) {
+            insertUsers(users - (int) count("users"), passwordHash);
+        }
+        long[] userIds = ids("select id from users order by id");
+        if (count("todo_collections") < collections) {
+            insertCollections(userIds, collections - (int) count("todo_collections"));
+        }
+        return loadDataset();
+    }
+
+    /**
+     * Append todos until the table holds at least {@code target} rows
+     */
+    void growTodos(Dataset dataset, long target) throws SQLException {
+        long existing = count("todos");
+        if (existing >= target) {
+            return;
+        }
+        SkewedSampler collections = new SkewedSampler(dataset.collectionIds.length, skew);
+        Todo.TodoType[] types = Todo.TodoType.values();
+        LocalDateTime now = LocalDateTime.now();
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement insert = connection.prepareStatement(
+                     "insert into todos (title, description, completed, type, due_date, target_amount, current_amount,"
+                             + " created_at, updated_at, collection_id) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            connection.setAutoCommit(false);
+            long started = System.nanoTime();
+            for (long i = existing; i < target; i++) {
+                Todo.TodoType type = types[pickType()];
+                Timestamp createdAt = Timestamp.valueOf(now.minusMinutes(random.nextInt(525_600)));
+
+                insert.setString(1, VERBS[random.nextInt(VERBS.length)] + " " + NOUNS[random.nextInt(NOUNS.length)]);
+                insert.setString(2, random.nextInt(4) == 0 ? null : "Generated todo " + i);
+                insert.setBoolean(3, random.nextInt(3) == 0);
+                insert.setString(4, type.name());
+                insert.setObject(5, type == Todo.TodoType.DEADLINE
+                        ? LocalDate.now().plusDays(random.nextInt(-60, 120)) : null);
+                if (type == Todo.TodoType.SAVING) {
+                    BigDecimal targetAmount = BigDecimal.valueOf(random.nextInt(100, 1_000_000), 2);
+                    insert.setBigDecimal(6, targetAmount);
+                    insert.setBigDecimal(7, BigDecimal.valueOf(random.nextLong(targetAmount.unscaledValue().longValue() + 1), 2));
+                } else {
+                    insert.setBigDecimal(6, null);
+                    insert.setBigDecimal(7, BigDecimal.ZERO);
+                }
+                insert.setTimestamp(8, createdAt);
+                insert.setTimestamp(9, createdAt);
+                insert.setLong(10, dataset.collectionIds[collections.next(random)]);
+                insert.addBatch();
+
+                if ((i + 1 - existing) % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+                if ((i + 1 - existing) % 1_000_000 == 0) {
+                    log.info("Inserted {} of {} todos ({} s)", i + 1, target, (System.nanoTime() - started) / 1_000_000_000);
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+    }
+
+    Dataset loadDataset() throws SQLException {
+        List<String> usernames = new ArrayList<>();
+        List<String> emails = new ArrayList<>();
+        List<Long> userIds = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet users = statement.executeQuery("select id, username, email from users order by id")) {
+            while (users.next()) {
+                userIds.add(users.getLong(1));
+                usernames.add(users.getString(2));
+                emails.add(users.getString(3));
+            }
+        }
+
+        long[] collectionIds = ids("select id from todo_collections order by id");
+        long[] collectionOwners = ids("select user_id from todo_collections order by id");
+        return new Dataset(userIds.stream().mapToLong(Long::longValue).toArray(),
+                usernames.toArray(String[]::new), emails.toArray(String[]::new), collectionIds, collectionOwners);
+    }
+
+    long count(String table) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("select count(*) from " + table)) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+
+    private void insertUsers(int count, String passwordHash) throws SQLException {
+        long offset = count("users");
+        LocalDateTime now = LocalDateTime.now();
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement insert = connection.prepareStatement(
+                     "insert into users (username, name, email, password, created_at, updated_at) values (?, ?, ?, ?, ?, ?)")) {
+            connection.setAutoCommit(false);
+            for (int i = 0; i < count; i++) {
+                long n = offset + i;
+                Timestamp createdAt = Timestamp.valueOf(now.minusDays(random.nextInt(730)));
+                insert.setString(1, "user_" + n);
+                insert.setString(2, "Generated User");
+                insert.setString(3, "user_" + n + "@example.com");
+                insert.setString(4, passwordHash);
+                insert.setTimestamp(5, createdAt);
+                insert.setTimestamp(6, createdAt);
+                insert.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+    }
+
+    private void insertCollections(long[] userIds, int count) throws SQLException {
+        SkewedSampler owners = new SkewedSampler(userIds.length, skew);
+        LocalDateTime now = LocalDateTime.now();
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement insert = connection.prepareStatement(
+                     "insert into todo_collections (name, description, created_at, updated_at, user_id) values (?, ?, ?, ?, ?)")) {
+            connection.setAutoCommit(false);
+            for (int i = 0; i < count; i++) {
+                Timestamp createdAt = Timestamp.valueOf(now.minusMinutes(random.nextInt(525_600)));
+                insert.setString(1, NOUNS[random.nextInt(NOUNS.length)] + " list " + i);
+                insert.setString(2, null);
+                insert.setTimestamp(3, createdAt);
+                insert.setTimestamp(4, createdAt);
+                insert.setLong(5, userIds[owners.next(random)]);
+                insert.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+    }
+
+    private int pickType() {
+        double draw = random.nextDouble();
+        double cumulative = 0;
+        for (int i = 0; i < typeMix.length; i++) {
+            cumulative += typeMix[i];
+            if (draw < cumulative) {
+                return i;
+            }
+        }
+        return typeMix.length - 1;
+    }
+
+    private long[] ids(String sql) throws SQLException {
+        List<Long> ids = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(sql)) {
+            while (result.next()) {
+                ids.add(result.getLong(1));
+            }
+        }
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * Ids of the generated rows; collectionOwners[i] is the user id owning collectionIds[i]
+     */
+    static class Dataset {
+        final long[] userIds;
+        final String[] usernames;
+        final String[] emails;
+        final long[] collectionIds;
+        final long[] collectionOwners;
+
+        Dataset(long[] userIds, String[] usernames, String[] emails, long[] collectionIds, long[] collectionOwners) {
+            this.userIds = userIds;
+            this.usernames = usernames;
+            this.emails = emails;
+            this.collectionIds = collectionIds;
+            this.collectionOwners = collectionOwners;
+        }
+
+        int userIndex(long userId) {
+            int index = Arrays.binarySearch(userIds, userId);
+            if (index < 0) {
+                throw new IllegalStateException("Unknown user " + userId);
+            }
+            return index;
+        }
+    }
+}
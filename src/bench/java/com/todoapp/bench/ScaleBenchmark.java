@@ -0,0 +1,362 @@
+package com.todoapp.bench;
+
+import java.io.File;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.todoapp.TodoAppBackendApplication;
+import com.todoapp.bench.DatasetGenerator.Dataset;
+import com.todoapp.entity.TodoCollection;
+import com.todoapp.entity.User;
+import com.todoapp.repository.TodoCollectionRepository;
+import com.todoapp.repository.TodoRepository;
+import com.todoapp.repository.UserRepository;
+import com.todoapp.service.JwtService;
+
+/**
+ * Persistence scale benchmark. Boots the full application against an embedded H2 file database
+ * (or the database given by spring.datasource.url), grows a synthetic dataset through each scale point
+ * and times every repository finder and read endpoint there. Requests pick collections with the same
+ * skew the data was generated with, so hot collections are also the most requested.
+ * Results are printed as a latency curve and written as JSON to scale.report.
+ *
+ * mvn -Pscale-bench compile exec:java -Dscale.points=10000,100000,1000000,10000000
+ */
+public class ScaleBenchmark {
+
+    /**
+     * Sparse fieldset of a task list view, for the ?fields= variants
+     */
+    private static final List<String> LIST_FIELDS = List.of("id", "title", "completed", "dueDate");
+
+    private final ConfigurableApplicationContext context;
+    private final Environment environment;
+    private final DataSource dataSource;
+    private final UserRepository userRepository;
+    private final TodoCollectionRepository collectionRepository;
+    private final TodoRepository todoRepository;
+    private final JwtService jwtService;
+    private final UserDetailsService userDetailsService;
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final Map<String, String> tokens = new HashMap<>();
+    private final SplittableRandom random;
+    private final String baseUrl;
+    private long requestCounter;
+
+    ScaleBenchmark(ConfigurableApplicationContext context) {
+        this.context = context;
+        this.environment = context.getEnvironment();
+        this.dataSource = context.getBean(DataSource.class);
+        this.userRepository = context.getBean(UserRepository.class);
+        this.collectionRepository = context.getBean(TodoCollectionRepository.class);
+        this.todoRepository = context.getBean(TodoRepository.class);
+        this.jwtService = context.getBean(JwtService.class);
+        this.userDetailsService = context.getBean(UserDetailsService.class);
+        this.random = new SplittableRandom(environment.getProperty("dataset.seed", Long.class, 42L) + 1);
+        this.baseUrl = "http://localhost:" + environment.getProperty("local.server.port");
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> arguments = new ArrayList<>(Arrays.asList(args));
+        arguments.add("--server.port=0");
+        // H2 and span exporter threads outlive the embedded Tomcat; its leak warnings are noise here
+        arguments.add("--logging.level.org.apache.catalina.loader=ERROR");
+        if (System.getProperty("spring.datasource.url") == null && System.getenv("SPRING_DATASOURCE_URL") == null) {
+            arguments.add("--spring.datasource.url=jdbc:h2:file:./target/scale-bench/todo;MODE=PostgreSQL");
+            arguments.add("--spring.datasource.driver-class-name=org.h2.Driver");
+            arguments.add("--spring.datasource.username=sa");
+            arguments.add("--spring.datasource.password=");
+            arguments.add("--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect");
+        }
+
+        try (ConfigurableApplicationContext context =
+                     SpringApplication.run(TodoAppBackendApplication.class, arguments.toArray(String[]::new))) {
+            new ScaleBenchmark(context).run();
+        }
+    }
+
+    void run() throws Exception {
+        int users = environment.getProperty("dataset.users", Integer.class, 1_000);
+        int collections = environment.getProperty("dataset.collections", Integer.class, 10_000);
+        double skew = environment.getProperty("dataset.skew", Double.class, 1.0);
+        double[] typeMix = parseTypeMix(environment.getProperty("dataset.type-mix", "0.6,0.25,0.15"));
+        long[] scalePoints = Arrays.stream(environment.getProperty("scale.points", "10000,100000,1000000").split(","))
+                .map(String::trim).mapToLong(Long::parseLong).toArray();
+        int warmup = environment.getProperty("scale.warmup", Integer.class, 20);
+        int samples = environment.getProperty("scale.samples", Integer.class, 200);
+        boolean measure = environment.getProperty("scale.measure", Boolean.class, true);
+
+        DatasetGenerator generator = new DatasetGenerator(
+                dataSource, environment.getProperty("dataset.seed", Long.class, 42L), skew, typeMix);
+        // Every generated user shares one real BCrypt hash, computed once
+        String passwordHash = context.getBean(PasswordEncoder.class).encode("Generated1!");
+        Dataset dataset = generator.ensureDataset(users, collections, passwordHash);
+        SkewedSampler collectionSampler = new SkewedSampler(dataset.collectionIds.length, skew);
+
+        List<ScalePoint> results = new ArrayList<>();
+        for (long todos : scalePoints) {
+            long started = System.nanoTime();
+            generator.growTodos(dataset, todos);
+            System.out.printf("%nScale point: %,d todos (dataset ready in %,d ms)%n",
+                    generator.count("todos"), (System.nanoTime() - started) / 1_000_000);
+            if (!measure) {
+                continue;
+            }
+
+            ScalePoint point = new ScalePoint(generator.count("todos"));
+            for (Map.Entry<String, Operation> operation : operations().entrySet()) {
+                point.results.add(measure(operation.getKey(), operation.getValue(),
+                        dataset, collectionSampler, warmup, samples));
+            }
+            point.print();
+            results.add(point);
+        }
+
+        if (measure) {
+            printCurve(results);
+            writeReport(results, users, collections, skew, typeMix);
+        }
+    }
+
+    private Map<String, Operation> operations() {
+        Map<String, Operation> operations = new LinkedHashMap<>();
+        operations.put("UserRepository.findByUsername", pick -> userRepository.findByUsername(pick.username));
+        operations.put("UserRepository.findByEmail", pick -> userRepository.findByEmail(pick.email));
+        operations.put("UserRepository.existsByUsername", pick -> userRepository.existsByUsername(pick.username));
+        operations.put("UserRepository.existsByEmail", pick -> userRepository.existsByEmail(pick.email));
+        operations.put("UserRepository.findById", pick -> userRepository.findById(pick.userId));
+        operations.put("TodoCollectionRepository.findByUserOrderByCreatedAtDesc",
+                pick -> collectionRepository.findByUserOrderByCreatedAtDesc(pick.user()));
+        operations.put("TodoCollectionRepository.findByIdAndUser",
+                pick -> collectionRepository.findByIdAndUser(pick.collectionId, pick.user()));
+        operations.put("TodoCollectionRepository.findById", pick -> collectionRepository.findById(pick.collectionId));
+        operations.put("TodoRepository.findByCollectionOrderByCreatedAtDesc",
+                pick -> todoRepository.findByCollectionOrderByCreatedAtDesc(pick.collection()));
+        operations.put("TodoRepository.findByIdAndCollection",
+                pick -> todoRepository.findByIdAndCollection(pick.todoId, pick.collection()));
+        operations.put("TodoRepository.findById", pick -> todoRepository.findById(pick.todoId));
+        operations.put("TodoRepository.findFieldsByCollectionId",
+                pick -> todoRepository.findFieldsByCollectionId(pick.collectionId, LIST_FIELDS));
+        operations.put("GET /api/collections", pick -> get("/api/collections", pick));
+        operations.put("GET /api/collections/{id}", pick -> get("/api/collections/" + pick.collectionId, pick));
+        operations.put("GET /api/collections/{id}/tasks",
+                pick -> get("/api/collections/" + pick.collectionId + "/tasks", pick));
+        operations.put("GET /api/collections?fields=",
+                pick -> get("/api/collections?fields=id,name,todos." + String.join(",todos.", LIST_FIELDS), pick));
+        operations.put("GET /api/collections/{id}/tasks?fields=",
+                pick -> get("/api/collections/" + pick.collectionId + "/tasks?fields=" + String.join(",", LIST_FIELDS), pick));
+        return operations;
+    }
+
+    private Result measure(String name, Operation operation, Dataset dataset, SkewedSampler sampler,
+                           int warmup, int samples) throws Exception {
+        long[] latencies = new long[samples];
+        for (int i = -warmup; i < samples; i++) {
+            Pick pick = pick(dataset, sampler);
+            long start = System.nanoTime();
+            operation.run(pick);
+            long elapsed = System.nanoTime() - start;
+            if (i >= 0) {
+                latencies[i] = elapsed;
+            }
+        }
+        return new Result(name, latencies);
+    }
+
+    /**
+     * Choose the target rows and load the entities a finder needs before the clock starts
+     */
+    private Pick pick(Dataset dataset, SkewedSampler sampler) throws SQLException {
+        int collectionIndex = sampler.next(random);
+        long collectionId = dataset.collectionIds[collectionIndex];
+        int userIndex = dataset.userIndex(dataset.collectionOwners[collectionIndex]);
+        Pick pick = new Pick(dataset.userIds[userIndex], dataset.usernames[userIndex], dataset.emails[userIndex],
+                collectionId, anyTodoOf(collectionId));
+        pick.user = userRepository.findById(pick.userId).orElseThrow();
+        pick.collection = collectionRepository.findById(collectionId).orElseThrow();
+        return pick;
+    }
+
+    private long anyTodoOf(long collectionId) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                     "select id from todos where collection_id = ? order by id limit 1")) {
+            statement.setLong(1, collectionId);
+            try (ResultSet result = statement.executeQuery()) {
+                return result.next() ? result.getLong(1) : -1;
+            }
+        }
+    }
+
+    private void get(String path, Pick pick) throws Exception {
+        String token = tokens.computeIfAbsent(pick.username,
+                username -> jwtService.generateToken(userDetailsService.loadUserByUsername(username)));
+        long n = requestCounter++;
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + token)
+                // A fresh client address per request keeps the per-client rate limit out of the measurement
+                .header("X-Forwarded-For", "10." + (n >> 16 & 0xff) + "." + (n >> 8 & 0xff) + "." + (n & 0xff))
+                .timeout(Duration.ofMinutes(2))
+                .GET()
+                .build();
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET " + path + " returned " + response.statusCode());
+        }
+    }
+
+    private static void printCurve(List<ScalePoint> points) {
+        System.out.printf("%nLatency curve, p50 / p99 in ms%n%-56s", "operation");
+        for (ScalePoint point : points) {
+            System.out.printf("%20s", String.format("%,d", point.todos));
+        }
+        System.out.println();
+        for (int i = 0; i < points.get(0).results.size(); i++) {
+            System.out.printf("%-56s", points.get(0).results.get(i).operation);
+            for (ScalePoint point : points) {
+                Result result = point.results.get(i);
+                System.out.printf("%20s", String.format("%.2f / %.2f", result.p50Millis, result.p99Millis));
+            }
+            System.out.println();
+        }
+    }
+
+    private void writeReport(List<ScalePoint> points, int users, int collections, double skew, double[] typeMix)
+            throws Exception {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("database", environment.getProperty("spring.datasource.url"));
+        report.put("users", users);
+        report.put("collections", collections);
+        report.put("skew", skew);
+        report.put("typeMix", typeMix);
+        report.put("scalePoints", points);
+
+        File file = new File(environment.getProperty("scale.report", "target/scale-report.json"));
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        context.getBean(ObjectMapper.class).copy()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(file, report);
+        System.out.printf("%nReport written to %s%n", file.getAbsolutePath());
+    }
+
+    private static double[] parseTypeMix(String mix) {
+        double[] shares = Arrays.stream(mix.split(",")).map(String::trim).mapToDouble(Double::parseDouble).toArray();
+        if (shares.length != 3) {
+            throw new IllegalArgumentException("dataset.type-mix needs STANDARD,DEADLINE,SAVING shares: " + mix);
+        }
+        double total = Arrays.stream(shares).sum();
+        return Arrays.stream(shares).map(share -> share / total).toArray();
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        void run(Pick pick) throws Exception;
+    }
+
+    private static final class Pick {
+        private final long userId;
+        private final String username;
+        private final String email;
+        private final long collectionId;
+        private final long todoId;
+        private User user;
+        private TodoCollection collection;
+
+        private Pick(long userId, String username, String email, long collectionId, long todoId) {
+            this.userId = userId;
+            this.username = username;
+            this.email = email;
+            this.collectionId = collectionId;
+            this.todoId = todoId;
+        }
+
+        private User user() { return user; }
+        private TodoCollection collection() { return collection; }
+    }
+
+    public static class ScalePoint {
+        private final long todos;
+        private final List<Result> results = new ArrayList<>();
+
+        ScalePoint(long todos) {
+            this.todos = todos;
+        }
+
+        public long getTodos() { return todos; }
+        public List<Result> getResults() { return results; }
+
+        void print() {
+            System.out.printf("%-56s %8s %10s %10s %10s %10s %10s%n",
+                    "operation", "samples", "mean ms", "p50 ms", "p90 ms", "p99 ms", "max ms");
+            for (Result result : results) {
+                System.out.printf("%-56s %8d %10.3f %10.3f %10.3f %10.3f %10.3f%n", result.operation, result.samples,
+                        result.meanMillis, result.p50Millis, result.p90Millis, result.p99Millis, result.maxMillis);
+            }
+        }
+    }
+
+    public static class Result {
+        private final String operation;
+        private final int samples;
+        private final double meanMillis;
+        private final double p50Millis;
+        private final double p90Millis;
+        private final double p99Millis;
+        private final double maxMillis;
+
+        Result(String operation, long[] latencies) {
+            long[] sorted = latencies.clone();
+            Arrays.sort(sorted);
+            this.operation = operation;
+            this.samples = sorted.length;
+            this.meanMillis = Arrays.stream(sorted).average().orElse(0) / 1e6;
+            this.p50Millis = percentile(sorted, 0.50);
+            this.p90Millis = percentile(sorted, 0.90);
+            this.p99Millis = percentile(sorted, 0.99);
+            this.maxMillis = sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1e6;
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+
+        public String getOperation() { return operation; }
+        public int getSamples() { return samples; }
+        public double getMeanMillis() { return meanMillis; }
+        public double getP50Millis() { return p50Millis; }
+        public double getP90Millis() { return p90Millis; }
+        public double getP99Millis() { return p99Millis; }
+        public double getMaxMillis() { return maxMillis; }
+    }
+}
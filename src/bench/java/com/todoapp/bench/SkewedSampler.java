@@ -0,0 +1,34 @@
+package com.todoapp.bench;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Zipf-like sampler over n ranks: rank i is drawn with weight 1 / (i + 1)^skew.
+ * A skew of 0 is uniform; around 1 a few heavy users or collections hold most of the rows.
+ */
+class SkewedSampler {
+
+    private final double[] cumulative;
+
+    SkewedSampler(int n, double skew) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("Sampler needs at least one rank");
+        }
+        cumulative = new double[n];
+        double total = 0;
+        for (int i = 0; i < n; i++) {
+            total += 1.0 / Math.pow(i + 1, skew);
+            cumulative[i] = total;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= total;
+        }
+    }
+
+    int next(SplittableRandom random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cumulative.length - 1);
+    }
+}
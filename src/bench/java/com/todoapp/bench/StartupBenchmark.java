@@ -0,0 +1,295 @@
+package com.todoapp.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Startup benchmark: time from process launch to the first answered request, for the packaging
+ * and startup options of the fast-start build. Each run launches a fresh JVM on an embedded H2 file
+ * database, polls /actuator/health/readiness until it is UP and then logs in as the default user.
+ * The fast-start layout ships no H2, so the driver jar of this benchmark's own class path is added
+ * to every launch: appended to the class path, or on loader.path for the fat jar.
+ * The AppCDS archive is trained first, the same way the fast-start stage of the Dockerfile does it.
+ * Results are printed and written as JSON to startup.report.
+ *
+ * mvn -Pfast-start package -DskipTests
+ * mvn -Pscale-bench compile exec:java -Dexec.mainClass=com.todoapp.bench.StartupBenchmark -Dstartup.runs=5
+ */
+public class StartupBenchmark {
+
+    private static final String MAIN_CLASS = "com.todoapp.TodoAppBackendApplication";
+    private static final long TIMEOUT_NANOS = TimeUnit.MINUTES.toNanos(3);
+
+    /**
+     * Launch options per mode; later modes add to the earlier ones
+     */
+    private static final Map<String, String> MODES = new LinkedHashMap<>();
+
+    static {
+        MODES.put("fat-jar", "fat jar with the default profile");
+        MODES.put("exploded", "thin jar plus lib/ on the class path");
+        MODES.put("fast-start", "exploded, fast-start profile: lazy infrastructure beans, no schema update");
+        MODES.put("fast-start-aot", "fast-start with the AOT-processed context");
+        MODES.put("fast-start-aot-cds", "fast-start-aot with the AppCDS archive");
+    }
+
+    private final Path layout;
+    private final Path fatJar;
+    private final Path workDirectory;
+    private final Path h2;
+    private final String java;
+    private final List<String> jvmArgs;
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    StartupBenchmark(Path layout, Path fatJar, Path workDirectory, Path h2, List<String> jvmArgs) {
+        this.layout = layout;
+        this.fatJar = fatJar;
+        this.workDirectory = workDirectory;
+        this.h2 = h2;
+        this.jvmArgs = jvmArgs;
+        this.java = ProcessHandle.current().info().command().orElse("java");
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path layout = Path.of(System.getProperty("startup.layout", "target/fast-start"));
+        int runs = Integer.getInteger("startup.runs", 5);
+        List<String> modes = Arrays.stream(System.getProperty("startup.modes", String.join(",", MODES.keySet()))
+                .split(",")).map(String::trim).collect(Collectors.toList());
+        List<String> jvmArgs = Arrays.stream(System.getProperty("startup.jvm-args", "").split(" "))
+                .filter(arg -> !arg.isBlank()).collect(Collectors.toList());
+        File report = new File(System.getProperty("startup.report", "target/startup-report.json"));
+
+        Path fatJar;
+        try (var jars = Files.list(Path.of("target"))) {
+            fatJar = jars.filter(path -> path.getFileName().toString().matches("todoapp-backend-.*-SNAPSHOT\\.jar"))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("No application jar in target/; run mvn -Pfast-start package"));
+        }
+        if (!Files.isDirectory(layout.resolve("lib"))) {
+            throw new IllegalStateException("No fast-start layout in " + layout + "; run mvn -Pfast-start package");
+        }
+
+        Path h2 = Path.of(Class.forName("org.h2.Driver").getProtectionDomain().getCodeSource().getLocation().toURI());
+        StartupBenchmark benchmark = new StartupBenchmark(layout, fatJar, Path.of("target/startup-bench"), h2, jvmArgs);
+        benchmark.prepare(modes.contains("fast-start-aot-cds"));
+
+        List<Result> results = new ArrayList<>();
+        for (String mode : modes) {
+            if (!MODES.containsKey(mode)) {
+                throw new IllegalArgumentException("Unknown mode " + mode + "; known modes: " + MODES.keySet());
+            }
+            long[] ready = new long[runs];
+            long[] firstRequest = new long[runs];
+            for (int run = 0; run < runs; run++) {
+                long[] sample = benchmark.launch(mode, run);
+                ready[run] = sample[0];
+                firstRequest[run] = sample[1];
+                System.out.printf("%-20s run %d: ready %,6d ms, first request %,6d ms%n",
+                        mode, run + 1, ready[run], firstRequest[run]);
+            }
+            results.add(new Result(mode, MODES.get(mode), ready, firstRequest));
+        }
+
+        System.out.printf("%n%-20s %14s %14s %20s%n", "mode", "ready p50 ms", "min ms", "first request p50 ms");
+        for (Result result : results) {
+            System.out.printf("%-20s %,14d %,14d %,20d%n",
+                    result.mode, result.readyMedianMillis, result.readyMinMillis, result.firstRequestMedianMillis);
+        }
+
+        File parent = report.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(report, results);
+        System.out.printf("%nReport written to %s%n", report.getAbsolutePath());
+    }
+
+    /**
+     * Create the database schema and default user once; with cds, record the classes a started and
+     * warmed-up instance loads and dump them into the archive
+     */
+    void prepare(boolean cds) throws Exception {
+        Files.createDirectories(workDirectory);
+        Path classList = workDirectory.resolve("classes.lst");
+        List<String> command = command("fast-start-aot");
+        if (cds) {
+            command.add(1, "-XX:DumpLoadedClassList=" + classList);
+        }
+        command.addAll(List.of("--startup.exit-after-ready=true", "--spring.jpa.hibernate.ddl-auto=update",
+                "--warmup.enabled=true", "--warmup.iterations=20"));
+        run(command, "training");
+        if (!cds) {
+            return;
+        }
+
+        // Archived lambda proxies crash JDK 17 on load when their host class is excluded; skip them
+        Path filtered = workDirectory.resolve("classes-filtered.lst");
+        Files.write(filtered, Files.readAllLines(classList).stream()
+                .filter(line -> !line.startsWith("@lambda-proxy"))
+                .collect(Collectors.toList()));
+        List<String> dump = new ArrayList<>(List.of(java, "-Xshare:dump",
+                "-XX:SharedClassListFile=" + filtered,
+                "-XX:SharedArchiveFile=" + workDirectory.resolve("app.jsa"),
+                "-cp", classPath()));
+        run(dump, "cds-dump");
+    }
+
+    /**
+     * @return milliseconds from launch to readiness UP and to the first login response
+     */
+    long[] launch(String mode, int run) throws Exception {
+        int port = freePort();
+        List<String> command = command(mode);
+        command.add("--server.port=" + port);
+        Path log = workDirectory.resolve(mode + "-" + run + ".log");
+
+        long launched = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log.toFile()).start();
+        try {
+            String baseUrl = "http://localhost:" + port;
+            while (!ready(baseUrl)) {
+                if (!process.isAlive() || System.nanoTime() - launched > TIMEOUT_NANOS) {
+                    throw new IllegalStateException(mode + " did not become ready; see " + log);
+                }
+                Thread.sleep(10);
+            }
+            long ready = System.nanoTime();
+
+            HttpResponse<Void> login = httpClient.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"admin\",\"password\":\"password\"}"))
+                    .build(), HttpResponse.BodyHandlers.discarding());
+            long answered = System.nanoTime();
+            if (login.statusCode() != 200) {
+                throw new IllegalStateException(mode + " login returned " + login.statusCode() + "; see " + log);
+            }
+            return new long[] {
+                    TimeUnit.NANOSECONDS.toMillis(ready - launched),
+                    TimeUnit.NANOSECONDS.toMillis(answered - launched)};
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private boolean ready(String baseUrl) throws InterruptedException {
+        try {
+            return httpClient.send(HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health/readiness"))
+                    .timeout(Duration.ofSeconds(5)).build(), HttpResponse.BodyHandlers.discarding())
+                    .statusCode() == 200;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private List<String> command(String mode) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.addAll(jvmArgs);
+        if (mode.endsWith("-cds")) {
+            command.add("-XX:SharedArchiveFile=" + workDirectory.resolve("app.jsa"));
+        }
+        if (mode.contains("-aot")) {
+            command.add("-Dspring.aot.enabled=true");
+        }
+        if (mode.equals("fat-jar")) {
+            command.addAll(List.of("-Dloader.path=" + h2, "-cp", fatJar.toString(),
+                    "org.springframework.boot.loader.PropertiesLauncher"));
+        } else {
+            command.addAll(List.of("-cp", classPath(), MAIN_CLASS));
+        }
+        if (mode.startsWith("fast-start")) {
+            command.add("--spring.profiles.active=fast-start");
+        }
+        command.add("--spring.datasource.url=jdbc:h2:file:" + workDirectory.toAbsolutePath().resolve("todo")
+                + ";MODE=PostgreSQL");
+        command.add("--spring.datasource.driver-class-name=org.h2.Driver");
+        command.add("--spring.datasource.username=sa");
+        command.add("--spring.datasource.password=");
+        command.add("--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect");
+        command.add("--security.audit.file=" + workDirectory.resolve("security-audit.log"));
+        command.add("--seed.default-user.password=password");
+        return command;
+    }
+
+    /**
+     * Same class path string for the training run, the dump and every CDS run, as AppCDS requires
+     */
+    private String classPath() throws IOException {
+        try (var jars = Files.list(layout)) {
+            Path applicationJar = jars.filter(path -> path.toString().endsWith(".jar")).findFirst()
+                    .orElseThrow(() -> new IllegalStateException("No application jar in " + layout));
+            return applicationJar + File.pathSeparator + layout.resolve("lib") + File.separator + "*"
+                    + File.pathSeparator + h2;
+        }
+    }
+
+    private void run(List<String> command, String name) throws Exception {
+        Path log = workDirectory.resolve(name + ".log");
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log.toFile()).start();
+        if (!process.waitFor(5, TimeUnit.MINUTES) || process.exitValue() != 0) {
+            process.destroyForcibly();
+            throw new IllegalStateException(name + " failed; see " + log);
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    public static class Result {
+        private final String mode;
+        private final String description;
+        private final long[] readyMillis;
+        private final long[] firstRequestMillis;
+        private final long readyMedianMillis;
+        private final long readyMinMillis;
+        private final long firstRequestMedianMillis;
+
+        Result(String mode, String description, long[] readyMillis, long[] firstRequestMillis) {
+            this.mode = mode;
+            this.description = description;
+            this.readyMillis = readyMillis;
+            this.firstRequestMillis = firstRequestMillis;
+            this.readyMedianMillis = median(readyMillis);
+            this.readyMinMillis = Arrays.stream(readyMillis).min().orElse(0);
+            this.firstRequestMedianMillis = median(firstRequestMillis);
+        }
+
+        private static long median(long[] values) {
+            long[] sorted = values.clone();
+            Arrays.sort(sorted);
+            return sorted.length == 0 ? 0 : sorted[(sorted.length - 1) / 2];
+        }
+
+        public String getMode() { return mode; }
+        public String getDescription() { return description; }
+        public long[] getReadyMillis() { return readyMillis; }
+        public long[] getFirstRequestMillis() { return firstRequestMillis; }
+        public long getReadyMedianMillis() { return readyMedianMillis; }
+        public long getReadyMinMillis() { return readyMinMillis; }
+        public long getFirstRequestMedianMillis() { return firstRequestMedianMillis; }
+    }
+}
@@ -0,0 +1,39 @@
+package com.todoapp.loadtest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latencies of one endpoint, in microseconds. Response time is measured from when the request was
+ * meant to be sent under the fixed arrival schedule, so queueing behind a slow server is counted
+ * (no coordinated omission); service time is measured from when it was actually sent.
+ */
+class EndpointStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private final String endpoint;
+    private final Histogram responseTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final Histogram serviceTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder errors = new LongAdder();
+
+    EndpointStats(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    void record(long intendedStartNanos, long sentNanos, long completedNanos, boolean success) {
+        responseTime.recordValue(Math.min(HIGHEST_TRACKABLE_MICROS, (completedNanos - intendedStartNanos) / 1_000));
+        serviceTime.recordValue(Math.min(HIGHEST_TRACKABLE_MICROS, (completedNanos - sentNanos) / 1_000));
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    String getEndpoint() { return endpoint; }
+    Histogram getResponseTime() { return responseTime; }
+    Histogram getServiceTime() { return serviceTime; }
+    long getErrors() { return errors.sum(); }
+}
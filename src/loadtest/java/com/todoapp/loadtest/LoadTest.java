@@ -0,0 +1,311 @@
+package com.todoapp.loadtest;
+
+import java.io.File;
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.todoapp.TodoAppBackendApplication;
+import com.todoapp.diagnostics.QueryBudget;
+
+/**
+ * Open-model HTTP load test. Starts the application on an in-memory H2 database (or targets
+ * loadtest.target) and launches {@link UserJourney user journeys} at a fixed arrival rate,
+ * independent of how fast the server answers. Per-endpoint HdrHistogram percentiles are printed,
+ * written as JSON to loadtest.report and as percentile distributions (.hgrm) next to it.
+ * In the embedded mode the run fails if any route went over its SQL {@link QueryBudget query budget}.
+ *
+ * loadtest.thread-modes=platform,virtual runs the embedded scenario once per request execution mode,
+ * each on a fresh application with the same Hikari pool, and writes a p99 and throughput comparison
+ * to thread-modes.json; the virtual mode needs the java21 profile and a Java 21+ runtime.
+ *
+ * mvn -Pload-test compile exec:java -Dloadtest.rate=20 -Dloadtest.duration=120
+ * mvn -Pjava21,load-test compile exec:java -Dloadtest.rate=200 -Dloadtest.thread-modes=platform,virtual
+ */
+public class LoadTest {
+
+    // Registered by VirtualThreadConfig (src/main/java21) when the virtual-thread mode is active
+    private static final String VIRTUAL_THREAD_CUSTOMIZER = "virtualThreadProtocolHandlerCustomizer";
+
+    private final String baseUrl;
+    private final double rate;
+    private final long durationNanos;
+    private final long warmupNanos;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .executor(Executors.newCachedThreadPool())
+            .build();
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+    private final Map<String, EndpointStats> warmupStats = new ConcurrentHashMap<>();
+    private final LongAdder completedJourneys = new LongAdder();
+    private final LongAdder failedJourneys = new LongAdder();
+    private long maxSchedulerLagNanos;
+
+    LoadTest(String baseUrl, double rate, long durationSeconds, long warmupSeconds) {
+        this.baseUrl = baseUrl;
+        this.rate = rate;
+        this.durationNanos = TimeUnit.SECONDS.toNanos(durationSeconds);
+        this.warmupNanos = TimeUnit.SECONDS.toNanos(warmupSeconds);
+    }
+
+    public static void main(String[] args) throws Exception {
+        double rate = Double.parseDouble(System.getProperty("loadtest.rate", "5"));
+        long duration = Long.getLong("loadtest.duration", 60);
+        long warmup = Long.getLong("loadtest.warmup", 10);
+        String target = System.getProperty("loadtest.target", "");
+        String threadModes = System.getProperty("loadtest.thread-modes", "");
+        File report = new File(System.getProperty("loadtest.report", "target/loadtest/report.json"));
+
+        if (!target.isEmpty()) {
+            new LoadTest(target, rate, duration, warmup).run(report);
+            return;
+        }
+        if (threadModes.isEmpty()) {
+            runEmbedded(args, null, rate, duration, warmup, report);
+            return;
+        }
+
+        // Same scenario once per request execution mode, each on a fresh application and database
+        Map<String, LoadTest> runs = new LinkedHashMap<>();
+        for (String mode : threadModes.split(",")) {
+            mode = mode.trim();
+            File modeReport = new File(new File(report.getAbsoluteFile().getParentFile(), mode), report.getName());
+            runs.put(mode, runEmbedded(args, mode, rate, duration, warmup, modeReport));
+        }
+        compare(runs, new File(report.getAbsoluteFile().getParentFile(), "thread-modes.json"));
+    }
+
+    /**
+     * Run against the application started in-process on H2. With a thread mode (platform or virtual)
+     * spring.threads.virtual.enabled is set accordingly and the mode is checked to be in effect.
+     */
+    private static LoadTest runEmbedded(String[] args, String threadMode, double rate, long duration, long warmup,
+                                        File report) throws Exception {
+        List<String> arguments = new ArrayList<>(List.of(args));
+        String database = threadMode != null ? "loadtest-" + threadMode : "loadtest";
+        arguments.add("--server.port=0");
+        arguments.add("--spring.datasource.url=jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1;MODE=PostgreSQL");
+        arguments.add("--spring.datasource.driver-class-name=org.h2.Driver");
+        arguments.add("--spring.datasource.username=sa");
+        arguments.add("--spring.datasource.password=");
+        arguments.add("--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect");
+        arguments.add("--spring.jpa.hibernate.ddl-auto=create-drop");
+        arguments.add("--logging.level.org.apache.catalina.loader=ERROR");
+        if (threadMode != null) {
+            if (!threadMode.equals("platform") && !threadMode.equals("virtual")) {
+                throw new IllegalArgumentException("Unknown thread mode " + threadMode + "; use platform or virtual");
+            }
+            arguments.add("--spring.threads.virtual.enabled=" + threadMode.equals("virtual"));
+        }
+        try (ConfigurableApplicationContext context =
+                     SpringApplication.run(TodoAppBackendApplication.class, arguments.toArray(String[]::new))) {
+            if (threadMode != null) {
+                boolean virtual = context.containsBean(VIRTUAL_THREAD_CUSTOMIZER);
+                if (virtual != threadMode.equals("virtual")) {
+                    throw new IllegalStateException("Thread mode " + threadMode + " is not in effect;"
+                            + " the virtual mode needs mvn -Pjava21,load-test on a Java 21+ runtime");
+                }
+                System.out.printf("%nThread mode %s, Hikari maximum pool size %s%n", threadMode,
+                        context.getEnvironment().getProperty("spring.datasource.hikari.maximum-pool-size", "10"));
+            }
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            LoadTest loadTest = new LoadTest(baseUrl, rate, duration, warmup);
+            loadTest.run(report);
+
+            QueryBudget queryBudget = context.getBean(QueryBudget.class);
+            System.out.printf("%nMax SQL statements per request%n");
+            queryBudget.getMaxStatementsByRoute().forEach((route, statements) ->
+                    System.out.printf("%-45s %4d (budget %d)%n", route, statements, queryBudget.budgetFor(route)));
+            queryBudget.verify();
+            return loadTest;
+        }
+    }
+
+    /**
+     * Side-by-side p99 response time and achieved throughput per endpoint for each thread mode
+     */
+    private static void compare(Map<String, LoadTest> runs, File comparison) throws Exception {
+        List<String> modes = new ArrayList<>(runs.keySet());
+        List<String> endpoints = new ArrayList<>();
+        runs.values().forEach(run -> run.sortedStats().forEach(stats -> {
+            if (!endpoints.contains(stats.getEndpoint())) {
+                endpoints.add(stats.getEndpoint());
+            }
+        }));
+        endpoints.sort(null);
+
+        System.out.printf("%nThread modes compared (p99 response time ms / throughput req/s)%n%-36s", "endpoint");
+        modes.forEach(mode -> System.out.printf(" %22s", mode));
+        System.out.println();
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (String endpoint : endpoints) {
+            System.out.printf("%-36s", endpoint);
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("endpoint", endpoint);
+            for (String mode : modes) {
+                LoadTest run = runs.get(mode);
+                EndpointStats stats = run.stats.get(endpoint);
+                double p99 = stats != null ? millis(stats.getResponseTime(), 99) : Double.NaN;
+                double throughput = stats != null ? run.throughput(stats) : 0;
+                System.out.printf(" %11.2f / %8.1f", p99, throughput);
+                Map<String, Object> values = new LinkedHashMap<>();
+                values.put("p99Millis", p99);
+                values.put("throughputPerSecond", throughput);
+                values.put("errors", stats != null ? stats.getErrors() : 0);
+                row.put(mode, values);
+            }
+            System.out.println();
+            rows.add(row);
+        }
+        System.out.printf("%-36s", "journeys completed / failed");
+        Map<String, Object> journeys = new LinkedHashMap<>();
+        for (String mode : modes) {
+            LoadTest run = runs.get(mode);
+            System.out.printf(" %22s", run.completedJourneys.sum() + " / " + run.failedJourneys.sum());
+            Map<String, Object> counts = new LinkedHashMap<>();
+            counts.put("completed", run.completedJourneys.sum());
+            counts.put("failed", run.failedJourneys.sum());
+            journeys.put(mode, counts);
+        }
+        System.out.println();
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("modes", modes);
+        summary.put("journeys", journeys);
+        summary.put("endpoints", rows);
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(comparison, summary);
+        System.out.printf("%nComparison written to %s%n", comparison.getAbsolutePath());
+    }
+
+    private double throughput(EndpointStats endpoint) {
+        return endpoint.getResponseTime().getTotalCount() / (durationNanos / 1e9);
+    }
+
+    void run(File report) throws Exception {
+        System.out.printf("Load test against %s: %.1f journeys/s for %d s after %d s warm-up%n",
+                baseUrl, rate, TimeUnit.NANOSECONDS.toSeconds(durationNanos), TimeUnit.NANOSECONDS.toSeconds(warmupNanos));
+
+        // Unbounded so a slow server never delays the next arrival; the backlog shows up as latency instead
+        ExecutorService journeys = Executors.newCachedThreadPool();
+        long intervalNanos = (long) (1e9 / rate);
+        long start = System.nanoTime();
+        long end = start + warmupNanos + durationNanos;
+
+        for (long journey = 0; ; journey++) {
+            long arrival = start + journey * intervalNanos;
+            if (arrival >= end) {
+                break;
+            }
+            long now;
+            while ((now = System.nanoTime()) < arrival) {
+                LockSupport.parkNanos(arrival - now);
+            }
+            maxSchedulerLagNanos = Math.max(maxSchedulerLagNanos, now - arrival);
+
+            Map<String, EndpointStats> target = arrival - start < warmupNanos ? warmupStats : stats;
+            UserJourney userJourney = new UserJourney(httpClient, objectMapper, baseUrl,
+                    endpoint -> target.computeIfAbsent(endpoint, EndpointStats::new), journey, arrival);
+            journeys.execute(() -> runJourney(userJourney, target == stats));
+        }
+
+        journeys.shutdown();
+        if (!journeys.awaitTermination(5, TimeUnit.MINUTES)) {
+            System.out.println("Some journeys were still running after 5 minutes and are not included");
+        }
+        printSummary();
+        writeReport(report);
+    }
+
+    private void runJourney(UserJourney journey, boolean measured) {
+        boolean completed;
+        try {
+            completed = journey.run();
+        } catch (Exception e) {
+            completed = false;
+        }
+        if (measured) {
+            (completed ? completedJourneys : failedJourneys).increment();
+        }
+    }
+
+    private void printSummary() {
+        System.out.printf("%nJourneys: %d completed, %d failed; max scheduler lag %.1f ms%n",
+                completedJourneys.sum(), failedJourneys.sum(), maxSchedulerLagNanos / 1e6);
+        System.out.printf("%-36s %7s %6s %9s %9s %9s %9s %9s %12s%n", "endpoint (response time, ms)",
+                "count", "errors", "p50", "p90", "p99", "p99.9", "max", "svc p99");
+        for (EndpointStats endpoint : sortedStats()) {
+            Histogram response = endpoint.getResponseTime();
+            System.out.printf("%-36s %7d %6d %9.2f %9.2f %9.2f %9.2f %9.2f %12.2f%n", endpoint.getEndpoint(),
+                    response.getTotalCount(), endpoint.getErrors(),
+                    millis(response, 50), millis(response, 90), millis(response, 99), millis(response, 99.9),
+                    response.getMaxValue() / 1e3, millis(endpoint.getServiceTime(), 99));
+        }
+    }
+
+    private void writeReport(File report) throws Exception {
+        File directory = report.getAbsoluteFile().getParentFile();
+        directory.mkdirs();
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("target", baseUrl);
+        summary.put("arrivalRatePerSecond", rate);
+        summary.put("durationSeconds", TimeUnit.NANOSECONDS.toSeconds(durationNanos));
+        summary.put("completedJourneys", completedJourneys.sum());
+        summary.put("failedJourneys", failedJourneys.sum());
+        summary.put("maxSchedulerLagMillis", maxSchedulerLagNanos / 1e6);
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        for (EndpointStats endpoint : sortedStats()) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("endpoint", endpoint.getEndpoint());
+            entry.put("count", endpoint.getResponseTime().getTotalCount());
+            entry.put("errors", endpoint.getErrors());
+            entry.put("responseTimeMillis", percentiles(endpoint.getResponseTime()));
+            entry.put("serviceTimeMillis", percentiles(endpoint.getServiceTime()));
+            endpoints.add(entry);
+
+            String fileName = endpoint.getEndpoint().replaceAll("[^A-Za-z0-9]+", "_") + ".hgrm";
+            try (PrintStream out = new PrintStream(new File(directory, fileName))) {
+                endpoint.getResponseTime().outputPercentileDistribution(out, 1000.0);
+            }
+        }
+        summary.put("endpoints", endpoints);
+
+        objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(report, summary);
+        System.out.printf("%nReport written to %s%n", report.getAbsolutePath());
+    }
+
+    private List<EndpointStats> sortedStats() {
+        List<EndpointStats> sorted = new ArrayList<>(stats.values());
+        sorted.sort((a, b) -> a.getEndpoint().compareTo(b.getEndpoint()));
+        return sorted;
+    }
+
+    private static Map<String, Double> percentiles(Histogram histogram) {
+        Map<String, Double> percentiles = new LinkedHashMap<>();
+        percentiles.put("p50", millis(histogram, 50));
+        percentiles.put("p90", millis(histogram, 90));
+        percentiles.put("p99", millis(histogram, 99));
+        percentiles.put("p99.9", millis(histogram, 99.9));
+        percentiles.put("max", histogram.getMaxValue() / 1e3);
+        return percentiles;
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1e3;
+    }
+}
@@ -0,0 +1,141 @@
+package com.todoapp.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * One scripted user: register, log in, create collections, add tasks of every type, add money to the
+ * saving goal, complete a task and list everything. Each step starts as soon as the previous one
+ * completes; the first step starts at the journey's scheduled arrival time.
+ */
+class UserJourney {
+
+    private static final int COLLECTIONS = 2;
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final Function<String, EndpointStats> stats;
+    private final long journey;
+    private final String clientAddress;
+
+    private long intendedStartNanos;
+    private String token;
+
+    UserJourney(HttpClient httpClient, ObjectMapper objectMapper, String baseUrl,
+                Function<String, EndpointStats> stats, long journey, long arrivalNanos) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+        this.stats = stats;
+        this.journey = journey;
+        this.intendedStartNanos = arrivalNanos;
+        // Each simulated user gets its own address, as real clients would, so per-client rate limits apply per user
+        this.clientAddress = "10." + (journey >> 16 & 0xff) + "." + (journey >> 8 & 0xff) + "." + (journey & 0xff);
+    }
+
+    /**
+     * @return false if a step failed and the rest of the journey was abandoned
+     */
+    boolean run() throws IOException, InterruptedException {
+        String username = "lt_" + Long.toString(journey, 36) + "_" + Long.toString(System.nanoTime() & 0xffff, 36);
+        String password = "Passw0rd!23";
+
+        JsonNode registered = send("POST /api/auth/register", "POST", "/api/auth/register", Map.of(
+                "username", username,
+                "email", username + "@example.com",
+                "password", password,
+                "confirmPassword", password,
+                "name", "Load Test"));
+        if (registered == null) {
+            return false;
+        }
+        JsonNode loggedIn = send("POST /api/auth/login", "POST", "/api/auth/login",
+                Map.of("username", username, "password", password));
+        if (loggedIn == null) {
+            return false;
+        }
+        token = loggedIn.path("token").asText();
+
+        long firstCollection = -1;
+        long savingTask = -1;
+        long standardTask = -1;
+        for (int c = 0; c < COLLECTIONS; c++) {
+            JsonNode collection = send("POST /api/collections", "POST", "/api/collections",
+                    Map.of("name", "Collection " + c, "description", "Created by the load test"));
+            if (collection == null) {
+                return false;
+            }
+            long collectionId = collection.path("data").path("id").asLong();
+            if (firstCollection < 0) {
+                firstCollection = collectionId;
+            }
+            String tasks = "/api/collections/" + collectionId + "/tasks";
+
+            JsonNode standard = send("POST /api/collections/{id}/tasks", "POST", tasks,
+                    Map.of("title", "Buy groceries", "description", "Milk and eggs", "type", "STANDARD"));
+            JsonNode deadline = send("POST /api/collections/{id}/tasks", "POST", tasks,
+                    Map.of("title", "File taxes", "type", "DEADLINE", "dueDate", LocalDate.now().plusDays(30).toString()));
+            JsonNode saving = send("POST /api/collections/{id}/tasks", "POST", tasks,
+                    Map.of("title", "Holiday fund", "type", "SAVING", "targetAmount", 1500, "currentAmount", 100));
+            if (standard == null || deadline == null || saving == null) {
+                return false;
+            }
+            standardTask = standard.path("data").path("id").asLong();
+            savingTask = saving.path("data").path("id").asLong();
+        }
+
+        if (send("POST /api/tasks/{id}/add-money", "POST", "/api/tasks/" + savingTask + "/add-money",
+                Map.of("amount", 25.50)) == null) {
+            return false;
+        }
+        if (send("PUT /api/tasks/{id}", "PUT", "/api/tasks/" + standardTask,
+                Map.of("title", "Buy groceries", "description", "Milk and eggs", "completed", true)) == null) {
+            return false;
+        }
+
+        return send("GET /api/collections", "GET", "/api/collections", null) != null
+                && send("GET /api/collections/{id}", "GET", "/api/collections/" + firstCollection, null) != null
+                && send("GET /api/collections/{id}/tasks", "GET", "/api/collections/" + firstCollection + "/tasks", null) != null;
+    }
+
+    private JsonNode send(String endpoint, String method, String path, Object body)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofMinutes(2))
+                .header("X-Forwarded-For", clientAddress)
+                .header("Content-Type", "application/json")
+                .method(method, body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+
+        long sent = System.nanoTime();
+        HttpResponse<byte[]> response;
+        try {
+            response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            long failed = System.nanoTime();
+            stats.apply(endpoint).record(intendedStartNanos, sent, failed, false);
+            intendedStartNanos = failed;
+            return null;
+        }
+        long completed = System.nanoTime();
+        boolean success = response.statusCode() / 100 == 2;
+        stats.apply(endpoint).record(intendedStartNanos, sent, completed, success);
+        intendedStartNanos = completed;
+        return success ? objectMapper.readTree(response.body()) : null;
+    }
+}
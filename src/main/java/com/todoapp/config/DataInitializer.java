@@ -2,33 +2,53 @@ package com.todoapp.config;
 
 import com.todoapp.entity.User;
 import com.todoapp.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+/**
+ * Seeds a default account for local development. Nothing is created unless
+ * seed.default-user.password is set, so deployed databases never get a well-known login.
+ */
 @Component
 public class DataInitializer implements CommandLineRunner {
 
+    private static final Logger log = LoggerFactory.getLogger(DataInitializer.class);
+
     @Autowired
     private UserRepository userRepository;
 
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Value("${seed.default-user.username:admin}")
+    private String username;
+
+    @Value("${seed.default-user.email:admin@example.com}")
+    private String email;
+
+    @Value("${seed.default-user.password:}")
+    private String password;
+
     @Override
     public void run(String... args) throws Exception {
+        if (password.isEmpty()) {
+            return;
+        }
         // Create default user if it doesn't exist
-        if (!userRepository.existsByEmail("admin@example.com")) {
+        if (!userRepository.existsByUsername(username) && !userRepository.existsByEmail(email)) {
             User defaultUser = new User();
-            defaultUser.setName("Admin User");
-            defaultUser.setEmail("admin@example.com");
-            defaultUser.setPassword(passwordEncoder.encode("password"));
+            defaultUser.setUsername(username);
+            defaultUser.setName("Default User");
+            defaultUser.setEmail(email);
+            defaultUser.setPassword(passwordEncoder.encode(password));
             userRepository.save(defaultUser);
-            
-            System.out.println("Default user created:");
-            System.out.println("Email: admin@example.com");
-            System.out.println("Password: password");
+
+            log.info("Default user {} created", username);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,173 @@
+package com.todoapp.config;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.NonNull;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.CorsConfigurationSource;
+import org.springframework.web.cors.CorsProcessor;
+import org.springframework.web.cors.CorsUtils;
+import org.springframework.web.cors.DefaultCorsProcessor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.todoapp.config.RateLimitingConfig.RateLimiter;
+import com.todoapp.config.SecurityHeadersConfig.SecurityHeaders;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Single servlet filter in front of Spring Security that does all per-request edge work:
+ * writes the precomputed security headers once, answers CORS preflights without entering the
+ * security chain or consuming a rate-limit token, and then applies rate limiting.
+ *
+ * Preflight decisions are computed by Spring's {@link DefaultCorsProcessor} the first time an
+ * (origin, method, requested headers) combination is seen and replayed from a bounded cache after that.
+ */
+public class EdgeFilter extends OncePerRequestFilter {
+
+    private static final int MAX_CACHED_PREFLIGHTS = 1024;
+
+    private static final String[] CORS_RESPONSE_HEADERS = {
+        HttpHeaders.VARY,
+        HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN,
+        HttpHeaders.ACCESS_CONTROL_ALLOW_METHODS,
+        HttpHeaders.ACCESS_CONTROL_ALLOW_HEADERS,
+        HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS,
+        HttpHeaders.ACCESS_CONTROL_ALLOW_CREDENTIALS,
+        HttpHeaders.ACCESS_CONTROL_MAX_AGE
+    };
+
+    private final SecurityHeaders securityHeaders;
+    private final CorsConfigurationSource corsConfigurationSource;
+    private final RateLimiter rateLimiter;
+    private final ObservationRegistry observationRegistry;
+    private final CorsProcessor corsProcessor = new DefaultCorsProcessor();
+
+    // Keyed by configuration identity, then by origin / method / requested headers
+    private final Map<CorsConfiguration, Map<String, PreflightDecision>> preflightCache = new ConcurrentHashMap<>();
+
+    public EdgeFilter(SecurityHeaders securityHeaders,
+                      CorsConfigurationSource corsConfigurationSource,
+                      RateLimiter rateLimiter,
+                      ObservationRegistry observationRegistry) {
+        this.securityHeaders = securityHeaders;
+        this.corsConfigurationSource = corsConfigurationSource;
+        this.rateLimiter = rateLimiter;
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        // The span covers this filter's own work only, not the rest of the chain
+        Observation observation = Observation.createNotStarted("todoapp.filter", observationRegistry)
+                .contextualName("edge filter")
+                .lowCardinalityKeyValue("filter", "edge")
+                .start();
+        boolean proceed;
+        try (Observation.Scope scope = observation.openScope()) {
+            proceed = applyEdgePolicies(request, response);
+        } catch (IOException | RuntimeException e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+
+        if (proceed) {
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    /**
+     * @return true if the request continues down the chain; otherwise the response has been written
+     */
+    private boolean applyEdgePolicies(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        securityHeaders.writeTo(request, response);
+
+        if (CorsUtils.isPreFlightRequest(request)) {
+            CorsConfiguration configuration = corsConfigurationSource.getCorsConfiguration(request);
+            if (configuration != null) {
+                answerPreflight(configuration, request, response);
+                return false;
+            }
+        }
+
+        return rateLimiter.tryAcquire(request, response);
+    }
+
+    private void answerPreflight(CorsConfiguration configuration,
+                                 HttpServletRequest request,
+                                 HttpServletResponse response) throws IOException {
+
+        String key = request.getHeader(HttpHeaders.ORIGIN) + '\n'
+                + request.getHeader(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD) + '\n'
+                + request.getHeader(HttpHeaders.ACCESS_CONTROL_REQUEST_HEADERS);
+
+        Map<String, PreflightDecision> decisions =
+                preflightCache.computeIfAbsent(configuration, c -> new ConcurrentHashMap<>());
+        PreflightDecision decision = decisions.get(key);
+        if (decision != null) {
+            decision.replay(response);
+            return;
+        }
+
+        // Cache miss: let Spring decide and write the response, then remember what it wrote
+        boolean allowed = corsProcessor.processRequest(configuration, request, response);
+        if (decisions.size() < MAX_CACHED_PREFLIGHTS) {
+            decisions.putIfAbsent(key, PreflightDecision.capture(allowed, response));
+        }
+    }
+
+    /**
+     * Headers and outcome of one preflight as written by {@link DefaultCorsProcessor}
+     */
+    private static final class PreflightDecision {
+        private static final byte[] REJECTED_BODY = "Invalid CORS request".getBytes();
+
+        private final boolean allowed;
+        private final String[][] headers;
+
+        private PreflightDecision(boolean allowed, String[][] headers) {
+            this.allowed = allowed;
+            this.headers = headers;
+        }
+
+        private static PreflightDecision capture(boolean allowed, HttpServletResponse response) {
+            List<String[]> captured = new ArrayList<>();
+            for (String name : CORS_RESPONSE_HEADERS) {
+                Collection<String> values = response.getHeaders(name);
+                for (String value : values) {
+                    captured.add(new String[] {name, value});
+                }
+            }
+            return new PreflightDecision(allowed, captured.toArray(new String[0][]));
+        }
+
+        private void replay(HttpServletResponse response) throws IOException {
+            for (String[] header : headers) {
+                response.addHeader(header[0], header[1]);
+            }
+            if (!allowed) {
+                response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+                response.getOutputStream().write(REJECTED_BODY);
+                response.flushBuffer();
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.todoapp.config;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.cors.CorsConfigurationSource;
+
+import com.todoapp.config.RateLimitingConfig.RateLimiter;
+import com.todoapp.config.SecurityHeadersConfig.SecurityHeaders;
+
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * Servlet filter registrations outside the Spring Security chain
+ */
+@Configuration
+public class EdgeFilterConfig {
+
+    /**
+     * Runs ahead of Spring Security, whose filter chain is registered at order -100, so preflights
+     * and rate-limited requests never reach authentication.
+     */
+    @Bean
+    public FilterRegistrationBean<EdgeFilter> edgeFilter(SecurityHeaders securityHeaders,
+                                                         CorsConfigurationSource corsConfigurationSource,
+                                                         RateLimiter rateLimiter,
+                                                         ObservationRegistry observationRegistry) {
+        FilterRegistrationBean<EdgeFilter> registration = new FilterRegistrationBean<>(
+                new EdgeFilter(securityHeaders, corsConfigurationSource, rateLimiter, observationRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    /**
+     * The JWT filter is a component so it can be injected into the security chain;
+     * keep Boot from also registering it as a plain servlet filter, which ran it twice.
+     */
+    @Bean
+    public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration(
+            JwtAuthenticationFilter jwtAuthenticationFilter) {
+        FilterRegistrationBean<JwtAuthenticationFilter> registration =
+                new FilterRegistrationBean<>(jwtAuthenticationFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+}
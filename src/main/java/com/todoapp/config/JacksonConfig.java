@@ -0,0 +1,246 @@
+package com.todoapp.config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConversionException;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StreamUtils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.exc.InvalidDefinitionException;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+/**
+ * JSON binding of the API. Blackbird replaces the reflective getter, setter and constructor calls
+ * of Jackson's bean (de)serializers with generated lambdas; Spring Boot registers Module beans with
+ * the application ObjectMapper. Record bodies (the typed requests and the ApiResponse envelope)
+ * go through an ObjectReader or ObjectWriter built once per declared type instead of per request.
+ *
+ * Clients that send Accept: application/cbor or application/x-jackson-smile get the same
+ * documents in that binary encoding, and may send request bodies in it. The binary mappers come
+ * from Spring Boot's Jackson2ObjectMapperBuilder, so spring.jackson.* settings and the registered
+ * modules apply to every format alike. JSON stays the default when the client does not ask.
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public BlackbirdModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    /**
+     * Replaces Spring Boot's default JSON converter
+     */
+    @Bean
+    public CachingJsonHttpMessageConverter cachingJsonHttpMessageConverter(ObjectMapper objectMapper) {
+        return new CachingJsonHttpMessageConverter(objectMapper);
+    }
+
+    @Bean
+    public CachingCborHttpMessageConverter cachingCborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new CachingCborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public CachingSmileHttpMessageConverter cachingSmileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new CachingSmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    /**
+     * JSON converter with a reader and a writer cached per declared record type. Other types, and
+     * bodies in a charset other than UTF-8, take the regular per-request path.
+     */
+    public static class CachingJsonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+        private final RecordCodecs codecs;
+
+        public CachingJsonHttpMessageConverter(ObjectMapper objectMapper) {
+            super(objectMapper);
+            this.codecs = new RecordCodecs(objectMapper, true);
+        }
+
+        @Override
+        public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage)
+                throws IOException, HttpMessageNotReadableException {
+            return codecs.read(type, inputMessage, () -> super.read(type, contextClass, inputMessage));
+        }
+
+        @Override
+        protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage)
+                throws IOException, HttpMessageNotWritableException {
+            if (!codecs.tryWrite(object, type, outputMessage)) {
+                super.writeInternal(object, type, outputMessage);
+            }
+        }
+    }
+
+    /**
+     * CBOR (application/cbor) counterpart of the JSON converter
+     */
+    public static class CachingCborHttpMessageConverter extends MappingJackson2CborHttpMessageConverter {
+
+        private final RecordCodecs codecs;
+
+        public CachingCborHttpMessageConverter(ObjectMapper objectMapper) {
+            super(objectMapper);
+            this.codecs = new RecordCodecs(objectMapper, false);
+        }
+
+        @Override
+        public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage)
+                throws IOException, HttpMessageNotReadableException {
+            return codecs.read(type, inputMessage, () -> super.read(type, contextClass, inputMessage));
+        }
+
+        @Override
+        protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage)
+                throws IOException, HttpMessageNotWritableException {
+            if (!codecs.tryWrite(object, type, outputMessage)) {
+                super.writeInternal(object, type, outputMessage);
+            }
+        }
+    }
+
+    /**
+     * Smile (application/x-jackson-smile) counterpart of the JSON converter
+     */
+    public static class CachingSmileHttpMessageConverter extends MappingJackson2SmileHttpMessageConverter {
+
+        private final RecordCodecs codecs;
+
+        public CachingSmileHttpMessageConverter(ObjectMapper objectMapper) {
+            super(objectMapper);
+            this.codecs = new RecordCodecs(objectMapper, false);
+        }
+
+        @Override
+        public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage)
+                throws IOException, HttpMessageNotReadableException {
+            return codecs.read(type, inputMessage, () -> super.read(type, contextClass, inputMessage));
+        }
+
+        @Override
+        protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage)
+                throws IOException, HttpMessageNotWritableException {
+            if (!codecs.tryWrite(object, type, outputMessage)) {
+                super.writeInternal(object, type, outputMessage);
+            }
+        }
+    }
+
+    /**
+     * Readers and writers of one converter's ObjectMapper, cached by declared record type. Decides
+     * which bodies take the cached path, so each converter only delegates to it. A text format
+     * (utf8Only) leaves bodies in any other charset to the converter's regular path.
+     */
+    static class RecordCodecs {
+
+        /**
+         * The converter's own read, for bodies the cache does not handle
+         */
+        @FunctionalInterface
+        interface Fallback {
+            Object read() throws IOException;
+        }
+
+        private final ObjectMapper objectMapper;
+        private final boolean utf8Only;
+        private final ConcurrentMap<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+        private final ConcurrentMap<Type, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+        RecordCodecs(ObjectMapper objectMapper, boolean utf8Only) {
+            this.objectMapper = objectMapper;
+            this.utf8Only = utf8Only;
+        }
+
+        Object read(Type type, HttpInputMessage inputMessage, Fallback fallback) throws IOException {
+            if (!isRecordType(type) || !isSupportedCharset(inputMessage.getHeaders().getContentType())) {
+                return fallback.read();
+            }
+            ObjectReader reader = readers.get(type);
+            if (reader == null) {
+                reader = readers.computeIfAbsent(type, key -> objectMapper.readerFor(objectMapper.constructType(key)));
+            }
+            try (InputStream body = inputMessage.getBody()) {
+                return reader.readValue(body);
+            } catch (InvalidDefinitionException e) {
+                throw new HttpMessageConversionException("Type definition error: " + e.getType(), e);
+            } catch (JsonProcessingException e) {
+                throw new HttpMessageNotReadableException("Parse error: " + e.getOriginalMessage(), e, inputMessage);
+            }
+        }
+
+        /**
+         * @return false if the body is left to the converter's regular path
+         */
+        boolean tryWrite(Object object, @Nullable Type type, HttpOutputMessage outputMessage) throws IOException {
+            if (!(object instanceof Record) || !isRecordType(type)
+                    || !isSupportedCharset(outputMessage.getHeaders().getContentType())) {
+                return false;
+            }
+            ObjectWriter writer = writers.get(type);
+            if (writer == null) {
+                writer = writers.computeIfAbsent(type, key -> objectMapper.writerFor(objectMapper.constructType(key)));
+            }
+            try {
+                writer.writeValue(StreamUtils.nonClosing(outputMessage.getBody()), object);
+            } catch (InvalidDefinitionException e) {
+                throw new HttpMessageConversionException("Type definition error: " + e.getType(), e);
+            } catch (JsonProcessingException e) {
+                throw new HttpMessageNotWritableException("Could not write content: " + e.getOriginalMessage(), e);
+            }
+            return true;
+        }
+
+        private boolean isSupportedCharset(@Nullable MediaType contentType) {
+            return !utf8Only || contentType == null || contentType.getCharset() == null
+                    || StandardCharsets.UTF_8.equals(contentType.getCharset());
+        }
+
+        /**
+         * Records without type variables to resolve, so the type alone is the cache key
+         */
+        static boolean isRecordType(@Nullable Type type) {
+            Type raw = type instanceof ParameterizedType parameterized ? parameterized.getRawType() : type;
+            return raw instanceof Class<?> clazz && clazz.isRecord() && isConcrete(type);
+        }
+
+        private static boolean isConcrete(Type type) {
+            if (type instanceof Class<?>) {
+                return true;
+            }
+            if (type instanceof ParameterizedType parameterized) {
+                for (Type argument : parameterized.getActualTypeArguments()) {
+                    if (!isConcrete(argument)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            return false;
+        }
+    }
+}
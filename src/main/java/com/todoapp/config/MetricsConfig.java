@@ -0,0 +1,64 @@
+package com.todoapp.config;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+
+/**
+ * Service level objective buckets for the routes we alert on.
+ * Route timers themselves (http.server.requests), repository invocation timers and Hikari pool
+ * timers are registered by Spring Boot; histograms for them are enabled in application.properties.
+ */
+@Configuration
+public class MetricsConfig {
+
+    // Auth routes include a calibrated BCrypt hash (about 250 ms)
+    private static final double[] AUTH_SLO = slo(
+            Duration.ofMillis(250), Duration.ofMillis(500), Duration.ofSeconds(1), Duration.ofSeconds(2));
+
+    private static final double[] READ_SLO = slo(
+            Duration.ofMillis(25), Duration.ofMillis(50), Duration.ofMillis(100), Duration.ofMillis(250));
+
+    private static final Map<String, double[]> SLO_BY_ROUTE = Map.of(
+            "/api/auth/login", AUTH_SLO,
+            "/api/auth/register", AUTH_SLO,
+            "/api/auth/refresh", READ_SLO,
+            "/api/collections", READ_SLO,
+            "/api/collections/{id}", READ_SLO,
+            "/api/collections/{collectionId}/tasks", READ_SLO);
+
+    @Bean
+    public MeterFilter routeSloMeterFilter() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!"http.server.requests".equals(id.getName())) {
+                    return config;
+                }
+                double[] slo = SLO_BY_ROUTE.get(id.getTag("uri"));
+                if (slo == null) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .serviceLevelObjectives(slo)
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+
+    // Timer SLO boundaries are expressed in nanoseconds
+    private static double[] slo(Duration... boundaries) {
+        double[] nanos = new double[boundaries.length];
+        for (int i = 0; i < boundaries.length; i++) {
+            nanos[i] = boundaries[i].toNanos();
+        }
+        return nanos;
+    }
+}
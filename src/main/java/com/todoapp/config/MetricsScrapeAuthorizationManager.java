@@ -0,0 +1,46 @@
+package com.todoapp.config;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Access to /actuator/prometheus: an admin, or the scraper presenting the HTTP Basic credential
+ * security.metrics.scrape-username / scrape-password (Prometheus basic_auth). With no scrape password
+ * configured only admins can read metrics.
+ */
+@Component
+public class MetricsScrapeAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    private static final String BASIC_PREFIX = "Basic ";
+
+    private final AuthorizationManager<RequestAuthorizationContext> admin = AuthorityAuthorizationManager.hasRole("ADMIN");
+    private final byte[] expectedHeader;
+
+    public MetricsScrapeAuthorizationManager(
+            @Value("${security.metrics.scrape-username:prometheus}") String username,
+            @Value("${security.metrics.scrape-password:}") String password) {
+        this.expectedHeader = password.isEmpty() ? null : (BASIC_PREFIX + Base64.getEncoder()
+                .encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8)))
+                .getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        String header = context.getRequest().getHeader("Authorization");
+        if (expectedHeader != null && header != null
+                && MessageDigest.isEqual(expectedHeader, header.getBytes(StandardCharsets.US_ASCII))) {
+            return new AuthorizationDecision(true);
+        }
+        return admin.check(authentication, context);
+    }
+}
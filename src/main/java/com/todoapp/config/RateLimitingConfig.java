@@ -1,19 +1,21 @@
 package com.todoapp.config;
 
 import java.io.IOException;
-import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.HexFormat;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.core.annotation.Order;
 
-import jakarta.servlet.Filter;
-import jakarta.servlet.FilterChain;
-import jakarta.servlet.ServletException;
-import jakarta.servlet.ServletRequest;
-import jakarta.servlet.ServletResponse;
+import com.todoapp.diagnostics.RateLimitDecisionEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
@@ -26,54 +28,138 @@ public class RateLimitingConfig {
 
     private final ConcurrentHashMap<String, RateLimitBucket> rateLimitBuckets = new ConcurrentHashMap<>();
 
+    /**
+     * Rate limiter applied by the {@link EdgeFilter} before authentication runs
+     */
     @Bean
-    @Order(2)
-    public Filter rateLimitingFilter() {
-        return new RateLimitingFilter();
+    public RateLimiter rateLimiter(MeterRegistry meterRegistry) {
+        return new RateLimiter(meterRegistry);
     }
 
-    private static class RateLimitBucket {
-        private int requests;
-        private LocalDateTime windowStart;
+    /**
+     * Fixed-window counter. Window start and request count are packed into one atomic word
+     * and updated with CAS, so concurrent requests never block (or pin a virtual thread) on a monitor.
+     */
+    static class RateLimitBucket {
+        private static final int COUNT_BITS = 20;
+        private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+        // windowStartMillis << COUNT_BITS | requests
+        private final AtomicLong state;
         private final int maxRequests;
-        private final long windowMinutes;
+        private final long windowMillis;
+        private final DecisionCounters decisions;
 
-        public RateLimitBucket(int maxRequests, long windowMinutes) {
+        public RateLimitBucket(int maxRequests, long windowMinutes, DecisionCounters decisions) {
             this.maxRequests = maxRequests;
-            this.windowMinutes = windowMinutes;
-            this.windowStart = LocalDateTime.now();
-            this.requests = 0;
+            this.decisions = decisions;
+            this.windowMillis = TimeUnit.MINUTES.toMillis(windowMinutes);
+            this.state = new AtomicLong(System.currentTimeMillis() << COUNT_BITS);
         }
 
-        public synchronized boolean tryConsume() {
-            LocalDateTime now = LocalDateTime.now();
-            
-            // Reset window if expired
-            if (ChronoUnit.MINUTES.between(windowStart, now) >= windowMinutes) {
-                windowStart = now;
-                requests = 0;
+        public boolean tryConsume() {
+            while (true) {
+                long current = state.get();
+                long windowStart = current >>> COUNT_BITS;
+                long requests = current & COUNT_MASK;
+                long now = System.currentTimeMillis();
+
+                // Reset window if expired
+                if (now - windowStart >= windowMillis) {
+                    windowStart = now;
+                    requests = 0;
+                }
+
+                if (requests >= maxRequests) {
+                    return false;
+                }
+                if (state.compareAndSet(current, (windowStart << COUNT_BITS) | (requests + 1))) {
+                    return true;
+                }
             }
-
-            if (requests < maxRequests) {
-                requests++;
-                return true;
-            }
-            return false;
         }
 
         public int getRemainingRequests() {
-            return Math.max(0, maxRequests - requests);
+            return (int) Math.max(0, maxRequests - (state.get() & COUNT_MASK));
+        }
+    }
+
+    /**
+     * Allowed/rejected decision counters of one endpoint type, shared by all of its buckets
+     */
+    static class DecisionCounters {
+        private final String type;
+        private final Counter allowed;
+        private final Counter rejected;
+
+        DecisionCounters(MeterRegistry meterRegistry, String type) {
+            this.type = type;
+            this.allowed = decisionCounter(meterRegistry, type, "allowed");
+            this.rejected = decisionCounter(meterRegistry, type, "rejected");
+        }
+
+        private static Counter decisionCounter(MeterRegistry meterRegistry, String type, String outcome) {
+            return Counter.builder("ratelimit.decisions")
+                    .description("Rate limit decisions by endpoint type")
+                    .tag("type", type)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
         }
     }
 
-    private class RateLimitingFilter implements Filter {
+    public class RateLimiter {
+
+        /**
+         * Header carrying an exemption key issued by {@link #issueExemption()}
+         */
+        public static final String EXEMPTION_HEADER = "X-Rate-Limit-Exemption";
 
-        @Override
-        public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
-                throws IOException, ServletException {
+        private final DecisionCounters loginDecisions;
+        private final DecisionCounters registerDecisions;
+        private final DecisionCounters authDecisions;
+        private final DecisionCounters apiDecisions;
+        private volatile byte[] exemptionKey;
 
-            HttpServletRequest httpRequest = (HttpServletRequest) request;
-            HttpServletResponse httpResponse = (HttpServletResponse) response;
+        RateLimiter(MeterRegistry meterRegistry) {
+            this.loginDecisions = new DecisionCounters(meterRegistry, "login");
+            this.registerDecisions = new DecisionCounters(meterRegistry, "register");
+            this.authDecisions = new DecisionCounters(meterRegistry, "auth");
+            this.apiDecisions = new DecisionCounters(meterRegistry, "api");
+        }
+
+        /**
+         * Issue a random key that exempts requests presenting it in {@link #EXEMPTION_HEADER} until it
+         * is revoked, for in-process traffic such as the JIT warm-up. Replaces any earlier key.
+         */
+        public String issueExemption() {
+            byte[] random = new byte[32];
+            new SecureRandom().nextBytes(random);
+            String key = HexFormat.of().formatHex(random);
+            exemptionKey = key.getBytes(StandardCharsets.US_ASCII);
+            return key;
+        }
+
+        public void revokeExemption() {
+            exemptionKey = null;
+        }
+
+        private boolean isExempt(HttpServletRequest httpRequest) {
+            byte[] key = exemptionKey;
+            String header = httpRequest.getHeader(EXEMPTION_HEADER);
+            return key != null && header != null
+                    && MessageDigest.isEqual(key, header.getBytes(StandardCharsets.US_ASCII));
+        }
+
+        /**
+         * Consume one request from the caller's bucket.
+         * @return true if the request may proceed; otherwise a 429 response has been written
+         */
+        public boolean tryAcquire(HttpServletRequest httpRequest, HttpServletResponse httpResponse)
+                throws IOException {
+
+            if (isExempt(httpRequest)) {
+                return true;
+            }
 
             String clientId = getClientIdentifier(httpRequest);
             String endpoint = httpRequest.getRequestURI();
@@ -81,18 +167,34 @@ public class RateLimitingConfig {
             // Get appropriate bucket based on endpoint
             RateLimitBucket bucket = getBucketForEndpoint(clientId, endpoint);
 
-            if (bucket.tryConsume()) {
+            boolean allowed = bucket.tryConsume();
+            recordDecisionEvent(bucket, allowed);
+
+            if (allowed) {
+                bucket.decisions.allowed.increment();
                 // Add rate limit headers
                 addRateLimitHeaders(httpResponse, bucket);
-                chain.doFilter(request, response);
+                return true;
             } else {
                 // Rate limit exceeded
+                bucket.decisions.rejected.increment();
                 httpResponse.setStatus(429); // Too Many Requests
                 httpResponse.setContentType("application/json");
                 httpResponse.getWriter().write(
                     "{\"error\":\"Rate limit exceeded\",\"message\":\"Too many requests. Please try again later.\"}"
                 );
                 addRateLimitHeaders(httpResponse, bucket);
+                return false;
+            }
+        }
+
+        private void recordDecisionEvent(RateLimitBucket bucket, boolean allowed) {
+            RateLimitDecisionEvent event = new RateLimitDecisionEvent();
+            if (event.shouldCommit()) {
+                event.type = bucket.decisions.type;
+                event.allowed = allowed;
+                event.remaining = bucket.getRemainingRequests();
+                event.commit();
             }
         }
 
@@ -109,31 +211,36 @@ public class RateLimitingConfig {
             String bucketKey;
             int maxRequests;
             long windowMinutes;
+            DecisionCounters decisions;
 
             if (endpoint.startsWith("/api/auth/login")) {
                 // Strict rate limiting for login attempts (5 attempts per minute)
                 bucketKey = "login:" + clientId;
+                decisions = loginDecisions;
                 maxRequests = 5;
                 windowMinutes = 1;
             } else if (endpoint.startsWith("/api/auth/register")) {
                 // Moderate rate limiting for registration (3 attempts per hour)
                 bucketKey = "register:" + clientId;
+                decisions = registerDecisions;
                 maxRequests = 3;
                 windowMinutes = 60;
             } else if (endpoint.startsWith("/api/auth/")) {
                 // General auth endpoints (10 per minute)
                 bucketKey = "auth:" + clientId;
+                decisions = authDecisions;
                 maxRequests = 10;
                 windowMinutes = 1;
             } else {
                 // General API endpoints (100 per minute)
                 bucketKey = "api:" + clientId;
+                decisions = apiDecisions;
                 maxRequests = 100;
                 windowMinutes = 1;
             }
 
             return rateLimitBuckets.computeIfAbsent(bucketKey, 
-                key -> new RateLimitBucket(maxRequests, windowMinutes));
+                key -> new RateLimitBucket(maxRequests, windowMinutes, decisions));
         }
 
         private void addRateLimitHeaders(HttpServletResponse response, RateLimitBucket bucket) {
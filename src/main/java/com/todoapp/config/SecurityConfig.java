@@ -13,7 +13,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -32,10 +31,12 @@ public class SecurityConfig {
     @Autowired
     private UserDetailsService userDetailsService;
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
+    @Autowired
+    private MetricsScrapeAuthorizationManager metricsScrapeAuthorization;
+
+    // BCrypt runs on the bounded hashing pool (see PasswordHashingService)
+    @Autowired
+    private PasswordEncoder passwordEncoder;
 
     @Bean
     public AuthenticationManager authenticationManager(AuthenticationConfiguration config) throws Exception {
@@ -46,7 +47,7 @@ public class SecurityConfig {
     public AuthenticationProvider authenticationProvider() {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
         return authProvider;
     }
 
@@ -61,23 +62,18 @@ public class SecurityConfig {
                 .requestMatchers(
                     new AntPathRequestMatcher("/api/auth/**"),
                     new AntPathRequestMatcher("/actuator/health"),
+                    new AntPathRequestMatcher("/actuator/health/liveness"),
+                    new AntPathRequestMatcher("/actuator/health/readiness"),
                     new AntPathRequestMatcher("/error")
                 ).permitAll()
+                // Metrics for the scraper's credential or an admin, never anonymous
+                .requestMatchers(new AntPathRequestMatcher("/actuator/prometheus")).access(metricsScrapeAuthorization)
+                // Remaining actuator endpoints (diagnostics) are for operators only
+                .requestMatchers(new AntPathRequestMatcher("/actuator/**")).hasRole("ADMIN")
                 .anyRequest().authenticated()
             )
-            // Security Headers following Google recommendations
-            .headers(headers -> headers
-                .frameOptions(frameOptions -> frameOptions.deny()) // Prevent clickjacking
-                .contentTypeOptions(contentType -> contentType.and()) // Prevent MIME sniffing
-                .httpStrictTransportSecurity(hstsConfig -> hstsConfig
-                    .maxAgeInSeconds(31536000) // 1 year
-                    .includeSubDomains(true)
-                )
-                .referrerPolicy(referrer -> referrer.policy(org.springframework.security.web.header.writers.ReferrerPolicyHeaderWriter.ReferrerPolicy.STRICT_ORIGIN_WHEN_CROSS_ORIGIN))
-                .permissionsPolicy(permissions -> permissions.policy(
-                    "camera=(), microphone=(), geolocation=(), payment=(), usb=()"
-                ))
-            );
+            // Security headers are written once by EdgeFilter (see SecurityHeadersConfig)
+            .headers(headers -> headers.disable());
 
         return http.build();
     }
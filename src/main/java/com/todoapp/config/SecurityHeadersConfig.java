@@ -1,16 +1,9 @@
 package com.todoapp.config;
 
-import java.io.IOException;
-
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.core.annotation.Order;
 
-import jakarta.servlet.Filter;
-import jakarta.servlet.FilterChain;
-import jakarta.servlet.ServletException;
-import jakarta.servlet.ServletRequest;
-import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 /**
@@ -21,25 +14,20 @@ import jakarta.servlet.http.HttpServletResponse;
 public class SecurityHeadersConfig {
 
     /**
-     * Custom security headers filter that adds additional security headers
-     * beyond what Spring Security provides by default
+     * Precomputed security header set, written once per response by the {@link EdgeFilter}.
+     * Replaces both the former headers filter and Spring Security's header writers,
+     * which used to set several of the same headers a second time.
      */
     @Bean
-    @Order(1)
-    public Filter securityHeadersFilter() {
-        return new SecurityHeadersFilter();
+    public SecurityHeaders securityHeaders() {
+        return new SecurityHeaders();
     }
 
-    private static class SecurityHeadersFilter implements Filter {
-        
-        @Override
-        public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
-                throws IOException, ServletException {
-            
-            HttpServletResponse httpResponse = (HttpServletResponse) response;
-            
+    public static class SecurityHeaders {
+
+        private static final String[][] COMMON_HEADERS = {
             // Content Security Policy (CSP) - Prevents XSS attacks
-            httpResponse.setHeader("Content-Security-Policy",
+            {"Content-Security-Policy",
                 "default-src 'self'; " +
                 "script-src 'self' 'unsafe-inline' 'unsafe-eval'; " +
                 "style-src 'self' 'unsafe-inline' https://fonts.googleapis.com; " +
@@ -48,39 +36,61 @@ public class SecurityHeadersConfig {
                 "connect-src 'self' http://localhost:8080 https:; " +
                 "frame-ancestors 'none'; " +
                 "base-uri 'self'; " +
-                "form-action 'self'"
-            );
-            
+                "form-action 'self'"},
             // X-Content-Type-Options - Prevents MIME sniffing
-            httpResponse.setHeader("X-Content-Type-Options", "nosniff");
-            
+            {"X-Content-Type-Options", "nosniff"},
             // X-Frame-Options - Prevents clickjacking (backup for frame-ancestors)
-            httpResponse.setHeader("X-Frame-Options", "DENY");
-            
+            {"X-Frame-Options", "DENY"},
             // X-XSS-Protection - Legacy XSS protection
-            httpResponse.setHeader("X-XSS-Protection", "1; mode=block");
-            
+            {"X-XSS-Protection", "1; mode=block"},
             // Referrer Policy - Controls referrer information
-            httpResponse.setHeader("Referrer-Policy", "strict-origin-when-cross-origin");
-            
+            {"Referrer-Policy", "strict-origin-when-cross-origin"},
             // Permissions Policy - Controls browser feature access
-            httpResponse.setHeader("Permissions-Policy",
+            {"Permissions-Policy",
                 "camera=(), microphone=(), geolocation=(), payment=(), usb=(), " +
-                "fullscreen=(self), accelerometer=(), gyroscope=(), magnetometer=()"
-            );
-            
+                "fullscreen=(self), accelerometer=(), gyroscope=(), magnetometer=()"},
             // Clear Server header to avoid information disclosure
-            httpResponse.setHeader("Server", "");
-            
-            // Cache Control for sensitive endpoints
-            String requestURI = ((jakarta.servlet.http.HttpServletRequest) request).getRequestURI();
+            {"Server", ""}
+        };
+
+        // Cache Control for sensitive endpoints
+        private static final String[][] SENSITIVE_CACHE_HEADERS = {
+            {"Cache-Control", "no-store, no-cache, must-revalidate, private"},
+            {"Pragma", "no-cache"},
+            {"Expires", "0"}
+        };
+
+        // Default Cache Control for everything else (formerly written by Spring Security)
+        private static final String[][] DEFAULT_CACHE_HEADERS = {
+            {"Cache-Control", "no-cache, no-store, max-age=0, must-revalidate"},
+            {"Pragma", "no-cache"},
+            {"Expires", "0"}
+        };
+
+        // HSTS - 1 year including subdomains, only meaningful (and only sent) over HTTPS
+        private static final String[] HSTS_HEADER = {
+            "Strict-Transport-Security", "max-age=31536000 ; includeSubDomains"
+        };
+
+        public void writeTo(HttpServletRequest request, HttpServletResponse response) {
+            write(response, COMMON_HEADERS);
+
+            String requestURI = request.getRequestURI();
             if (requestURI.contains("/api/auth/") || requestURI.contains("/api/users/")) {
-                httpResponse.setHeader("Cache-Control", "no-store, no-cache, must-revalidate, private");
-                httpResponse.setHeader("Pragma", "no-cache");
-                httpResponse.setHeader("Expires", "0");
+                write(response, SENSITIVE_CACHE_HEADERS);
+            } else {
+                write(response, DEFAULT_CACHE_HEADERS);
+            }
+
+            if (request.isSecure()) {
+                response.setHeader(HSTS_HEADER[0], HSTS_HEADER[1]);
+            }
+        }
+
+        private static void write(HttpServletResponse response, String[][] headers) {
+            for (String[] header : headers) {
+                response.setHeader(header[0], header[1]);
             }
-            
-            chain.doFilter(request, response);
         }
     }
-}
\ No newline at end of file
+}
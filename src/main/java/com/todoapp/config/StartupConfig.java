@@ -0,0 +1,36 @@
+package com.todoapp.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Startup behaviour of the fast-start profile (application-fast-start.properties).
+ * With lazy initialization on, application beans still start eagerly because every one of them
+ * is on the request path; only framework infrastructure and the diagnostics endpoints wait for
+ * first use. startup.exit-after-ready ends the process once it is ready, for AppCDS training runs.
+ */
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerApplicationBeans() {
+        return (beanName, beanDefinition, beanType) -> beanType.getName().startsWith("com.todoapp.")
+                && !beanType.isAnnotationPresent(Endpoint.class);
+    }
+
+    @Bean
+    public ApplicationListener<ApplicationReadyEvent> exitAfterReady(
+            @Value("${startup.exit-after-ready:false}") boolean exitAfterReady) {
+        return event -> {
+            if (exitAfterReady) {
+                System.exit(SpringApplication.exit(event.getApplicationContext()));
+            }
+        };
+    }
+}
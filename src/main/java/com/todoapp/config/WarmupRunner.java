@@ -0,0 +1,223 @@
+package com.todoapp.config;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todoapp.config.RateLimitingConfig.RateLimiter;
+import com.todoapp.repository.UserRepository;
+
+/**
+ * JIT warm-up before the instance takes traffic. Runs as an application runner, so readiness
+ * stays REFUSING_TRAFFIC (/actuator/health/readiness reports OUT_OF_SERVICE) until it returns.
+ * Drives the real HTTP stack in-process as a throwaway user: login, token refresh, the JWT filter,
+ * collection and task CRUD and JSON serialization, for warmup.iterations or until
+ * warmup.max-duration-seconds, then deletes the user with everything it created. Its requests
+ * present a rate-limit exemption key issued for the run, so they neither trip nor share the
+ * per-client limits.
+ * Failures are logged and never block startup. warmup.enabled is read at run time rather than
+ * through a bean condition, so an AOT-processed build can still switch it on.
+ */
+@Component
+public class WarmupRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(WarmupRunner.class);
+
+    private final Environment environment;
+    private final ObjectMapper objectMapper;
+    private final UserRepository userRepository;
+    private final RateLimiter rateLimiter;
+    private final boolean enabled;
+    private final int iterations;
+    private final long maxDurationNanos;
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    private String baseUrl;
+    private String exemptionKey;
+    private String token;
+    private volatile Summary summary;
+
+    /**
+     * Outcome of a run: the scratch user and how many iterations completed or failed
+     */
+    public record Summary(String username, int completed, int failed) {
+    }
+
+    public WarmupRunner(
+            Environment environment,
+            ObjectMapper objectMapper,
+            UserRepository userRepository,
+            RateLimiter rateLimiter,
+            @Value("${warmup.enabled:false}") boolean enabled,
+            @Value("${warmup.iterations:200}") int iterations,
+            @Value("${warmup.max-duration-seconds:60}") long maxDurationSeconds) {
+        this.environment = environment;
+        this.objectMapper = objectMapper;
+        this.userRepository = userRepository;
+        this.rateLimiter = rateLimiter;
+        this.enabled = enabled;
+        this.iterations = iterations;
+        this.maxDurationNanos = TimeUnit.SECONDS.toNanos(maxDurationSeconds);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        String port = environment.getProperty("local.server.port");
+        if (port == null) {
+            log.warn("JIT warm-up skipped: no embedded web server");
+            return;
+        }
+        baseUrl = "http://localhost:" + port;
+
+        // The password shares nothing with the username: the scratch account is a real, if short-lived, login
+        SecureRandom random = new SecureRandom();
+        String username = "warmup_" + HexFormat.of().formatHex(randomBytes(random, 6));
+        String password = "Wu1!" + HexFormat.of().formatHex(randomBytes(random, 16));
+
+        long start = System.nanoTime();
+        long firstIterationNanos = 0;
+        long lastIterationNanos = 0;
+        int completed = 0;
+        int failed = 0;
+        try {
+            exemptionKey = rateLimiter.issueExemption();
+            if (send("POST", "/api/auth/register", Map.of(
+                    "username", username,
+                    "email", username + "@warmup.invalid",
+                    "password", password,
+                    "confirmPassword", password,
+                    "name", "Warmup User")) == null) {
+                log.warn("JIT warm-up skipped: the scratch user could not be registered");
+                return;
+            }
+
+            while (completed + failed < iterations && System.nanoTime() - start < maxDurationNanos) {
+                long iterationStart = System.nanoTime();
+                if (iteration(username, password)) {
+                    completed++;
+                } else {
+                    failed++;
+                }
+                lastIterationNanos = System.nanoTime() - iterationStart;
+                if (firstIterationNanos == 0) {
+                    firstIterationNanos = lastIterationNanos;
+                }
+            }
+        } catch (IOException e) {
+            log.warn("JIT warm-up aborted: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            rateLimiter.revokeExemption();
+            userRepository.findByUsername(username).ifPresent(userRepository::delete);
+            summary = new Summary(username, completed, failed);
+        }
+
+        log.info("JIT warm-up finished: {} iterations ({} failed) in {} ms; first iteration {} ms, last {} ms",
+                completed, failed, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                TimeUnit.NANOSECONDS.toMillis(firstIterationNanos), TimeUnit.NANOSECONDS.toMillis(lastIterationNanos));
+    }
+
+    /**
+     * @return the outcome of the last run, or null if warm-up has not run
+     */
+    public Summary getSummary() {
+        return summary;
+    }
+
+    /**
+     * One pass over the hot request paths
+     * @return false if a step failed
+     */
+    private boolean iteration(String username, String password) throws IOException, InterruptedException {
+        token = null;
+        JsonNode loggedIn = send("POST", "/api/auth/login", Map.of("username", username, "password", password));
+        if (loggedIn == null) {
+            return false;
+        }
+        JsonNode refreshed = send("POST", "/api/auth/refresh",
+                Map.of("refreshToken", loggedIn.path("refreshToken").asText()));
+        if (refreshed == null) {
+            return false;
+        }
+        token = refreshed.path("token").asText();
+
+        JsonNode collection = send("POST", "/api/collections",
+                Map.of("name", "Warm-up", "description", "Created by the JIT warm-up"));
+        if (collection == null) {
+            return false;
+        }
+        long collectionId = collection.path("data").path("id").asLong();
+        String tasks = "/api/collections/" + collectionId + "/tasks";
+
+        JsonNode standard = send("POST", tasks,
+                Map.of("title", "Buy groceries", "description", "Milk and eggs", "type", "STANDARD"));
+        JsonNode deadline = send("POST", tasks,
+                Map.of("title", "File taxes", "type", "DEADLINE", "dueDate", LocalDate.now().plusDays(30).toString()));
+        JsonNode saving = send("POST", tasks,
+                Map.of("title", "Holiday fund", "type", "SAVING", "targetAmount", 1500, "currentAmount", 100));
+        if (standard == null || deadline == null || saving == null) {
+            return false;
+        }
+        long standardTask = standard.path("data").path("id").asLong();
+        long savingTask = saving.path("data").path("id").asLong();
+
+        return send("POST", "/api/tasks/" + savingTask + "/add-money", Map.of("amount", 25.50)) != null
+                && send("PUT", "/api/tasks/" + standardTask,
+                        Map.of("title", "Buy groceries", "description", "Milk and eggs", "completed", true)) != null
+                && send("GET", "/api/collections", null) != null
+                && send("GET", "/api/collections/" + collectionId, null) != null
+                && send("GET", tasks, null) != null
+                && send("DELETE", "/api/tasks/" + standardTask, null) != null
+                && send("DELETE", "/api/collections/" + collectionId, null) != null;
+    }
+
+    private static byte[] randomBytes(SecureRandom random, int length) {
+        byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+
+    /**
+     * @return the parsed response body, or null unless the response was 2xx
+     */
+    private JsonNode send(String method, String path, Object body) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header(RateLimiter.EXEMPTION_HEADER, exemptionKey)
+                .header("Content-Type", "application/json")
+                .method(method, body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        HttpResponse<byte[]> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() / 100 != 2) {
+            log.debug("JIT warm-up {} {} returned {}", method, path, response.statusCode());
+            return null;
+        }
+        return objectMapper.readTree(response.body());
+    }
+}
@@ -1,6 +1,7 @@
 package com.todoapp.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -10,10 +11,15 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.todoapp.dto.AuthResponse;
 import com.todoapp.dto.LoginRequest;
+import com.todoapp.dto.RefreshTokenRequest;
 import com.todoapp.dto.RegisterRequest;
+import com.todoapp.service.AccountLockedException;
 import com.todoapp.service.AuthService;
+import com.todoapp.service.PasswordHashingUnavailableException;
+import com.todoapp.service.SecurityAuditLog;
 import com.todoapp.util.SecurityValidator;
 
+import io.micrometer.observation.annotation.Observed;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
@@ -23,6 +29,7 @@ import jakarta.validation.Valid;
  */
 @RestController
 @RequestMapping("/api/auth")
+@Observed(name = "todoapp.controller")
 public class AuthController {
 
     @Autowired
@@ -31,6 +38,9 @@ public class AuthController {
     @Autowired
     private SecurityValidator securityValidator;
 
+    @Autowired
+    private SecurityAuditLog securityAuditLog;
+
     @PostMapping("/register")
     public ResponseEntity<AuthResponse> register(
             @Valid @RequestBody RegisterRequest request,
@@ -89,6 +99,9 @@ public class AuthController {
                 logSecurityEvent("REGISTER_FAILED", request.getUsername(), httpRequest);
                 return ResponseEntity.badRequest().body(response);
             }
+        } catch (PasswordHashingUnavailableException e) {
+            logSecurityEvent("REGISTER_THROTTLED", request.getUsername(), httpRequest);
+            return serviceBusy();
         } catch (Exception e) {
             logSecurityEvent("REGISTER_ERROR", request.getUsername(), httpRequest);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -140,6 +153,14 @@ public class AuthController {
                 logSecurityEvent("LOGIN_FAILED", request.getUsername(), httpRequest);
                 return ResponseEntity.badRequest().body(response);
             }
+        } catch (AccountLockedException e) {
+            logSecurityEvent("LOGIN_LOCKED", request.getUsername(), httpRequest);
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(new AuthResponse(false, "Too many failed attempts. Please try again later.", null, null));
+        } catch (PasswordHashingUnavailableException e) {
+            logSecurityEvent("LOGIN_THROTTLED", request.getUsername(), httpRequest);
+            return serviceBusy();
         } catch (Exception e) {
             logSecurityEvent("LOGIN_ERROR", request.getUsername(), httpRequest);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -147,6 +168,28 @@ public class AuthController {
         }
     }
 
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(
+            @Valid @RequestBody RefreshTokenRequest request,
+            HttpServletRequest httpRequest) {
+
+        AuthResponse response = authService.refresh(request);
+        if (response.isSuccess()) {
+            return ResponseEntity.ok(response);
+        }
+        logSecurityEvent("REFRESH_REJECTED", null, httpRequest);
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+    }
+
+    /**
+     * Fast 503 when the password hashing pool is saturated
+     */
+    private ResponseEntity<AuthResponse> serviceBusy() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(new AuthResponse(false, "Service is busy. Please try again shortly.", null, null));
+    }
+
     /**
      * Log security events for monitoring and alerting
      */
@@ -154,9 +197,8 @@ public class AuthController {
         String clientIP = getClientIP(request);
         String userAgent = request.getHeader("User-Agent");
         
-        // In production, this should log to a security monitoring system
-        System.out.printf("[SECURITY] %s - User: %s, IP: %s, UserAgent: %s%n", 
-            event, username, clientIP, userAgent);
+        // Handed to the asynchronous audit pipeline; never blocks the request thread under DROP
+        securityAuditLog.record(event, username, clientIP, userAgent);
     }
 
     /**
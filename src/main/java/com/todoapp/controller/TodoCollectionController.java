@@ -16,16 +16,24 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.todoapp.dto.ApiResponse;
+import com.todoapp.dto.CollectionRequest;
+import com.todoapp.dto.CollectionResponse;
+import com.todoapp.dto.FieldSelection;
 import com.todoapp.entity.TodoCollection;
 import com.todoapp.entity.User;
 import com.todoapp.repository.UserRepository;
 import com.todoapp.service.TodoCollectionService;
 
+import io.micrometer.observation.annotation.Observed;
+
 @RestController
 @RequestMapping("/api/collections")
 @CrossOrigin(origins = "*")
+@Observed(name = "todoapp.controller")
 public class TodoCollectionController {
 
     @Autowired
@@ -43,77 +51,98 @@ public class TodoCollectionController {
     }
 
     @GetMapping
-    public ResponseEntity<Map<String, Object>> getAllCollections() {
+    public ResponseEntity<ApiResponse<List<CollectionResponse>>> getAllCollections() {
         User user = getCurrentUser();
         if (user == null) {
-            return ResponseEntity.badRequest().body(Map.of("success", false, "message", "User not found"));
+            return ResponseEntity.badRequest().body(ApiResponse.error("User not found"));
         }
 
         List<TodoCollection> collections = todoCollectionService.getAllCollectionsByUser(user);
-        return ResponseEntity.ok(Map.of("success", true, "data", collections));
+        return ResponseEntity.ok(ApiResponse.ok(CollectionResponse.from(collections)));
+    }
+
+    /**
+     * Sparse fieldset: ?fields=id,name,todos.id,todos.title selects only those columns,
+     * with the tasks of every collection in one query
+     */
+    @GetMapping(params = "fields")
+    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getAllCollectionFields(@RequestParam String fields) {
+        FieldSelection selection;
+        try {
+            selection = FieldSelection.ofCollections(fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
+
+        User user = getCurrentUser();
+        if (user == null) {
+            return ResponseEntity.badRequest().body(ApiResponse.error("User not found"));
+        }
+
+        return ResponseEntity.ok(ApiResponse.ok(todoCollectionService.getCollectionFieldsByUser(user, selection)));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Map<String, Object>> getCollection(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<CollectionResponse>> getCollection(@PathVariable Long id) {
         User user = getCurrentUser();
         if (user == null) {
-            return ResponseEntity.badRequest().body(Map.of("success", false, "message", "User not found"));
+            return ResponseEntity.badRequest().body(ApiResponse.error("User not found"));
         }
 
         Optional<TodoCollection> collection = todoCollectionService.getCollectionByIdAndUser(id, user);
         if (collection.isPresent()) {
-            return ResponseEntity.ok(Map.of("success", true, "data", collection.get()));
+            return ResponseEntity.ok(ApiResponse.ok(CollectionResponse.from(collection.get())));
         } else {
             return ResponseEntity.notFound().build();
         }
     }
 
     @PostMapping
-    public ResponseEntity<Map<String, Object>> createCollection(@RequestBody Map<String, String> request) {
+    public ResponseEntity<ApiResponse<CollectionResponse>> createCollection(@RequestBody CollectionRequest request) {
         User user = getCurrentUser();
         if (user == null) {
-            return ResponseEntity.badRequest().body(Map.of("success", false, "message", "User not found"));
+            return ResponseEntity.badRequest().body(ApiResponse.error("User not found"));
         }
 
-        String name = request.get("name");
-        String description = request.get("description");
+        String name = request.name();
+        String description = request.description();
 
         if (name == null || name.trim().isEmpty()) {
-            return ResponseEntity.badRequest().body(Map.of("success", false, "message", "Collection name is required"));
+            return ResponseEntity.badRequest().body(ApiResponse.error("Collection name is required"));
         }
 
         TodoCollection collection = todoCollectionService.createCollection(name, description, user);
-        return ResponseEntity.ok(Map.of("success", true, "data", collection));
+        return ResponseEntity.ok(ApiResponse.ok(CollectionResponse.from(collection)));
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<Map<String, Object>> updateCollection(@PathVariable Long id, @RequestBody Map<String, String> request) {
+    public ResponseEntity<ApiResponse<CollectionResponse>> updateCollection(@PathVariable Long id, @RequestBody CollectionRequest request) {
         User user = getCurrentUser();
         if (user == null) {
-            return ResponseEntity.badRequest().body(Map.of("success", false, "message", "User not found"));
+            return ResponseEntity.badRequest().body(ApiResponse.error("User not found"));
         }
 
-        String name = request.get("name");
-        String description = request.get("description");
+        String name = request.name();
+        String description = request.description();
 
         TodoCollection collection = todoCollectionService.updateCollection(id, name, description, user);
         if (collection != null) {
-            return ResponseEntity.ok(Map.of("success", true, "data", collection));
+            return ResponseEntity.ok(ApiResponse.ok(CollectionResponse.from(collection)));
         } else {
             return ResponseEntity.notFound().build();
         }
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Map<String, Object>> deleteCollection(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<Void>> deleteCollection(@PathVariable Long id) {
         User user = getCurrentUser();
         if (user == null) {
-            return ResponseEntity.badRequest().body(Map.of("success", false, "message", "User not found"));
+            return ResponseEntity.badRequest().body(ApiResponse.error("User not found"));
         }
 
         boolean deleted = todoCollectionService.deleteCollection(id, user);
         if (deleted) {
-            return ResponseEntity.ok(Map.of("success", true, "message", "Collection deleted successfully"));
+            return ResponseEntity.ok(ApiResponse.ok("Collection deleted successfully"));
         } else {
             return ResponseEntity.notFound().build();
         }
@@ -1,7 +1,5 @@
 package com.todoapp.controller;
 
-import java.math.BigDecimal;
-import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -18,8 +16,15 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.todoapp.dto.AddMoneyRequest;
+import com.todoapp.dto.ApiResponse;
+import com.todoapp.dto.CreateTodoRequest;
+import com.todoapp.dto.FieldSelection;
+import com.todoapp.dto.TodoResponse;
+import com.todoapp.dto.UpdateTodoRequest;
 import com.todoapp.entity.Todo;
 import com.todoapp.entity.TodoCollection;
 import com.todoapp.entity.User;
@@ -27,9 +32,12 @@ import com.todoapp.repository.UserRepository;
 import com.todoapp.service.TodoCollectionService;
 import com.todoapp.service.TodoService;
 
+import io.micrometer.observation.annotation.Observed;
+
 @RestController
 @RequestMapping("/api")
 @CrossOrigin(origins = "*")
+@Observed(name = "todoapp.controller")
 public class TodoController {
 
     @Autowired
@@ -50,10 +58,10 @@ public class TodoController {
     }
 
     @PostMapping("/collections/{collectionId}/tasks")
-    public ResponseEntity<Map<String, Object>> createTodo(@PathVariable Long collectionId, @RequestBody Map<String, Object> request) {
+    public ResponseEntity<ApiResponse<TodoResponse>> createTodo(@PathVariable Long collectionId, @RequestBody CreateTodoRequest request) {
         User user = getCurrentUser();
         if (user == null) {
-            return ResponseEntity.badRequest().body(Map.of("success", false, "message", "User not found"));
+            return ResponseEntity.badRequest().body(ApiResponse.error("User not found"));
         }
 
         Optional<TodoCollection> collectionOpt = todoCollectionService.getCollectionByIdAndUser(collectionId, user);
@@ -65,42 +73,41 @@ public class TodoController {
 
         try {
             Todo todo = new Todo();
-            todo.setTitle((String) request.get("title"));
-            todo.setDescription((String) request.get("description"));
+            todo.setTitle(request.title());
+            todo.setDescription(request.description());
             todo.setCollection(collection);
 
-            String type = (String) request.get("type");
-            if (type != null) {
-                todo.setType(Todo.TodoType.valueOf(type.toUpperCase()));
+            if (request.type() != null) {
+                todo.setType(request.type());
             }
 
             // Handle type-specific fields
-            if (todo.getType() == Todo.TodoType.DEADLINE && request.get("dueDate") != null) {
-                todo.setDueDate(LocalDate.parse((String) request.get("dueDate")));
+            if (todo.getType() == Todo.TodoType.DEADLINE && request.dueDate() != null) {
+                todo.setDueDate(request.dueDate());
             }
 
             if (todo.getType() == Todo.TodoType.SAVING) {
-                if (request.get("targetAmount") != null) {
-                    todo.setTargetAmount(new BigDecimal(request.get("targetAmount").toString()));
+                if (request.targetAmount() != null) {
+                    todo.setTargetAmount(request.targetAmount());
                 }
-                if (request.get("currentAmount") != null) {
-                    todo.setCurrentAmount(new BigDecimal(request.get("currentAmount").toString()));
+                if (request.currentAmount() != null) {
+                    todo.setCurrentAmount(request.currentAmount());
                 }
             }
 
             Todo savedTodo = todoService.createTodo(todo);
-            return ResponseEntity.ok(Map.of("success", true, "data", savedTodo));
+            return ResponseEntity.ok(ApiResponse.ok(TodoResponse.from(savedTodo)));
 
         } catch (Exception e) {
-            return ResponseEntity.badRequest().body(Map.of("success", false, "message", "Error creating todo: " + e.getMessage()));
+            return ResponseEntity.badRequest().body(ApiResponse.error("Error creating todo: " + e.getMessage()));
         }
     }
 
     @GetMapping("/collections/{collectionId}/tasks")
-    public ResponseEntity<Map<String, Object>> getTodosByCollection(@PathVariable Long collectionId) {
+    public ResponseEntity<ApiResponse<List<TodoResponse>>> getTodosByCollection(@PathVariable Long collectionId) {
         User user = getCurrentUser();
         if (user == null) {
-            return ResponseEntity.badRequest().body(Map.of("success", false, "message", "User not found"));
+            return ResponseEntity.badRequest().body(ApiResponse.error("User not found"));
         }
 
         Optional<TodoCollection> collectionOpt = todoCollectionService.getCollectionByIdAndUser(collectionId, user);
@@ -109,98 +116,112 @@ public class TodoController {
         }
 
         List<Todo> todos = todoService.getAllTodosByCollection(collectionOpt.get());
-        return ResponseEntity.ok(Map.of("success", true, "data", todos));
+        return ResponseEntity.ok(ApiResponse.ok(TodoResponse.from(todos)));
+    }
+
+    /**
+     * Sparse fieldset: ?fields=id,title,completed,dueDate selects only those columns
+     */
+    @GetMapping(value = "/collections/{collectionId}/tasks", params = "fields")
+    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getTodoFieldsByCollection(
+            @PathVariable Long collectionId, @RequestParam String fields) {
+        FieldSelection selection;
+        try {
+            selection = FieldSelection.ofTodos(fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
+
+        User user = getCurrentUser();
+        if (user == null) {
+            return ResponseEntity.badRequest().body(ApiResponse.error("User not found"));
+        }
+
+        Optional<TodoCollection> collectionOpt = todoCollectionService.getCollectionByIdAndUser(collectionId, user);
+        if (!collectionOpt.isPresent()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        return ResponseEntity.ok(ApiResponse.ok(
+                todoService.getTodoFieldsByCollection(collectionOpt.get(), selection.fields())));
     }
 
     @PostMapping("/tasks/{taskId}/add-money")
-    public ResponseEntity<Map<String, Object>> addMoneyToSavingGoal(@PathVariable Long taskId, @RequestBody Map<String, Object> request) {
+    public ResponseEntity<ApiResponse<TodoResponse>> addMoneyToSavingGoal(@PathVariable Long taskId, @RequestBody AddMoneyRequest request) {
         User user = getCurrentUser();
         if (user == null) {
-            return ResponseEntity.badRequest().body(Map.of("success", false, "message", "User not found"));
+            return ResponseEntity.badRequest().body(ApiResponse.error("User not found"));
         }
 
         try {
-            BigDecimal amount = new BigDecimal(request.get("amount").toString());
-            
-            // We need to find the collection that contains this task
-            // For now, we'll search through all user's collections
-            List<TodoCollection> collections = todoCollectionService.getAllCollectionsByUser(user);
+            if (request.amount() == null) {
+                return ResponseEntity.badRequest().body(ApiResponse.error("Error adding money: amount is required"));
+            }
+
+            // Find the task among the user's collections
+            Optional<Todo> todoOpt = todoService.getTodoByIdAndUser(taskId, user);
             Todo updatedTodo = null;
 
-            for (TodoCollection collection : collections) {
-                updatedTodo = todoService.addMoneyToSavingGoal(taskId, amount, collection);
-                if (updatedTodo != null) {
-                    break;
-                }
+            if (todoOpt.isPresent()) {
+                updatedTodo = todoService.addMoneyToSavingGoal(taskId, request.amount(), todoOpt.get().getCollection());
             }
 
             if (updatedTodo != null) {
-                return ResponseEntity.ok(Map.of("success", true, "data", updatedTodo));
+                return ResponseEntity.ok(ApiResponse.ok(TodoResponse.from(updatedTodo)));
             } else {
                 return ResponseEntity.notFound().build();
             }
 
         } catch (Exception e) {
-            return ResponseEntity.badRequest().body(Map.of("success", false, "message", "Error adding money: " + e.getMessage()));
+            return ResponseEntity.badRequest().body(ApiResponse.error("Error adding money: " + e.getMessage()));
         }
     }
 
     @PutMapping("/tasks/{taskId}")
-    public ResponseEntity<Map<String, Object>> updateTodo(@PathVariable Long taskId, @RequestBody Map<String, Object> request) {
+    public ResponseEntity<ApiResponse<TodoResponse>> updateTodo(@PathVariable Long taskId, @RequestBody UpdateTodoRequest request) {
         User user = getCurrentUser();
         if (user == null) {
-            return ResponseEntity.badRequest().body(Map.of("success", false, "message", "User not found"));
+            return ResponseEntity.badRequest().body(ApiResponse.error("User not found"));
         }
 
         try {
-            // Find the collection that contains this task
-            List<TodoCollection> collections = todoCollectionService.getAllCollectionsByUser(user);
+            // Find the task among the user's collections
+            Optional<Todo> todoOpt = todoService.getTodoByIdAndUser(taskId, user);
             Todo updatedTodo = null;
 
-            for (TodoCollection collection : collections) {
-                Optional<Todo> todoOpt = todoService.getTodoByIdAndCollection(taskId, collection);
-                if (todoOpt.isPresent()) {
-                    Todo todo = new Todo();
-                    todo.setTitle((String) request.get("title"));
-                    todo.setDescription((String) request.get("description"));
-                    todo.setCompleted((Boolean) request.get("completed"));
-                    
-                    updatedTodo = todoService.updateTodo(taskId, todo, collection);
-                    break;
-                }
+            if (todoOpt.isPresent()) {
+                Todo todo = new Todo();
+                todo.setTitle(request.title());
+                todo.setDescription(request.description());
+                todo.setCompleted(request.completed());
+
+                updatedTodo = todoService.updateTodo(taskId, todo, todoOpt.get().getCollection());
             }
 
             if (updatedTodo != null) {
-                return ResponseEntity.ok(Map.of("success", true, "data", updatedTodo));
+                return ResponseEntity.ok(ApiResponse.ok(TodoResponse.from(updatedTodo)));
             } else {
                 return ResponseEntity.notFound().build();
             }
 
         } catch (Exception e) {
-            return ResponseEntity.badRequest().body(Map.of("success", false, "message", "Error updating todo: " + e.getMessage()));
+            return ResponseEntity.badRequest().body(ApiResponse.error("Error updating todo: " + e.getMessage()));
         }
     }
 
     @DeleteMapping("/tasks/{taskId}")
-    public ResponseEntity<Map<String, Object>> deleteTodo(@PathVariable Long taskId) {
+    public ResponseEntity<ApiResponse<Void>> deleteTodo(@PathVariable Long taskId) {
         User user = getCurrentUser();
         if (user == null) {
-            return ResponseEntity.badRequest().body(Map.of("success", false, "message", "User not found"));
+            return ResponseEntity.badRequest().body(ApiResponse.error("User not found"));
         }
 
-        // Find the collection that contains this task
-        List<TodoCollection> collections = todoCollectionService.getAllCollectionsByUser(user);
-        boolean deleted = false;
-
-        for (TodoCollection collection : collections) {
-            if (todoService.deleteTodo(taskId, collection)) {
-                deleted = true;
-                break;
-            }
-        }
+        // Find the task among the user's collections
+        Optional<Todo> todoOpt = todoService.getTodoByIdAndUser(taskId, user);
+        boolean deleted = todoOpt.isPresent() && todoService.deleteTodo(taskId, todoOpt.get().getCollection());
 
         if (deleted) {
-            return ResponseEntity.ok(Map.of("success", true, "message", "Todo deleted successfully"));
+            return ResponseEntity.ok(ApiResponse.ok("Todo deleted successfully"));
         } else {
             return ResponseEntity.notFound().build();
         }
@@ -0,0 +1,92 @@
+package com.todoapp.diagnostics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+
+/**
+ * Bytes allocated per request, by route, read from the HotSpot per-thread allocation counter.
+ * The counter is a cheap thread-local read; meters are cached per method and route so recording
+ * does not allocate once a route has been seen.
+ */
+@Component
+public class AllocationMetrics {
+
+    static final long UNSUPPORTED = -1;
+
+    private static final String UNKNOWN = "UNKNOWN";
+    // Tomcat accepts any token as a method and this runs before security: other methods share one tag
+    private static final Set<String> KNOWN_METHODS =
+            Arrays.stream(HttpMethod.values()).map(HttpMethod::name).collect(Collectors.toUnmodifiableSet());
+
+    private final com.sun.management.ThreadMXBean threadMXBean;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Map<String, DistributionSummary>> summariesByMethod = new ConcurrentHashMap<>();
+
+    public AllocationMetrics(MeterRegistry meterRegistry,
+                             @Value("${diagnostics.allocation.enabled:true}") boolean enabled) {
+        this.meterRegistry = meterRegistry;
+        this.threadMXBean = enabled ? supportedThreadMXBean() : null;
+    }
+
+    /**
+     * @return bytes allocated so far by the current thread, or {@link #UNSUPPORTED}
+     */
+    long currentThreadAllocatedBytes() {
+        // Returns -1 where the JVM cannot measure the thread (for example virtual threads)
+        return threadMXBean != null ? threadMXBean.getCurrentThreadAllocatedBytes() : UNSUPPORTED;
+    }
+
+    /**
+     * @return the bytes allocated since allocatedBefore, or {@link #UNSUPPORTED}
+     */
+    long allocatedSince(long allocatedBefore) {
+        if (allocatedBefore == UNSUPPORTED) {
+            return UNSUPPORTED;
+        }
+        long allocatedAfter = currentThreadAllocatedBytes();
+        return allocatedAfter == UNSUPPORTED ? UNSUPPORTED : allocatedAfter - allocatedBefore;
+    }
+
+    void record(String method, String route, long allocatedBytes) {
+        if (allocatedBytes < 0) {
+            return;
+        }
+        String methodTag = KNOWN_METHODS.contains(method) ? method : UNKNOWN;
+        String uri = route != null ? route : UNKNOWN;
+        summariesByMethod
+                .computeIfAbsent(methodTag, m -> new ConcurrentHashMap<>())
+                .computeIfAbsent(uri, u -> DistributionSummary.builder("http.server.requests.allocation")
+                        .description("Bytes allocated on the request thread while serving a request")
+                        .baseUnit(BaseUnits.BYTES)
+                        .tag("method", methodTag)
+                        .tag("uri", uri)
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(1024.0)
+                        .maximumExpectedValue(256.0 * 1024 * 1024)
+                        .register(meterRegistry))
+                .record(allocatedBytes);
+    }
+
+    private static com.sun.management.ThreadMXBean supportedThreadMXBean() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean)
+                || !bean.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        if (!bean.isThreadAllocatedMemoryEnabled()) {
+            bean.setThreadAllocatedMemoryEnabled(true);
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,95 @@
+package com.todoapp.diagnostics;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import io.micrometer.observation.ObservationRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import net.ttddyy.observation.tracing.DataSourceObservationListener;
+
+/**
+ * Wires the slow-request flight recorder into the filter chain, the MVC handler and the DataSource,
+ * and the JFR repository call event into every Spring Data repository
+ */
+@Configuration
+public class DiagnosticsConfig implements WebMvcConfigurer {
+
+    private final RequestProfilingAdvice requestProfilingAdvice;
+
+    public DiagnosticsConfig(RequestProfilingAdvice requestProfilingAdvice) {
+        this.requestProfilingAdvice = requestProfilingAdvice;
+    }
+
+    /**
+     * Ahead of EdgeFilter so the filter phase covers every application filter
+     */
+    @Bean
+    public FilterRegistrationBean<RequestProfilingFilter> requestProfilingFilter(SlowRequestRecorder recorder,
+                                                                               AllocationMetrics allocationMetrics,
+                                                                               QueryBudget queryBudget) {
+        FilterRegistrationBean<RequestProfilingFilter> registration =
+                new FilterRegistrationBean<>(new RequestProfilingFilter(recorder, allocationMetrics, queryBudget));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+        return registration;
+    }
+
+    @Override
+    public void addInterceptors(@NonNull InterceptorRegistry registry) {
+        registry.addInterceptor(requestProfilingAdvice);
+    }
+
+    /**
+     * Wrap the connection pool so each JDBC execution is reported to the recorder, counted against
+     * the query budget and traced as jdbc.connection / jdbc.query spans
+     */
+    @Bean
+    public static BeanPostProcessor sqlProfilingDataSourcePostProcessor(ObjectProvider<SlowRequestRecorder> recorder,
+                                                                       ObjectProvider<QueryBudget> queryBudget,
+                                                                       ObjectProvider<ObservationRegistry> observationRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    DataSourceObservationListener observationListener =
+                            new DataSourceObservationListener(observationRegistry::getObject);
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(new SqlProfilingListener(recorder.getObject(), queryBudget.getObject()))
+                            .listener(observationListener)
+                            .methodListener(observationListener)
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Add the JFR repository call interceptor to each repository proxy as it is created
+     */
+    @Bean
+    public static BeanPostProcessor repositoryCallEventPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(@NonNull Object bean, @NonNull String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, information) -> proxyFactory.addAdvice(
+                                    new RepositoryCallEventInterceptor(information.getRepositoryInterface()))));
+                }
+                return bean;
+            }
+        };
+    }
+}
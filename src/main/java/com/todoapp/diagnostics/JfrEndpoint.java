@@ -0,0 +1,140 @@
+package com.todoapp.diagnostics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+/**
+ * Admin-only actuator endpoint (/actuator/jfr) controlling one in-process JDK Flight Recorder recording:
+ * GET for status, POST to start, DELETE to stop and GET /actuator/jfr/{name} for the data of the
+ * recording named in the status. No attach tooling or JVM flags are needed.
+ */
+@Component
+@Endpoint(id = "jfr")
+public class JfrEndpoint {
+
+    private final long maxSizeBytes;
+    private final Duration maxAge;
+
+    private Recording recording;
+    private Path dumpFile;
+
+    public JfrEndpoint(
+            @Value("${diagnostics.jfr.max-size-mb:100}") long maxSizeMb,
+            @Value("${diagnostics.jfr.max-age-minutes:30}") long maxAgeMinutes) {
+        this.maxSizeBytes = maxSizeMb * 1024 * 1024;
+        this.maxAge = Duration.ofMinutes(maxAgeMinutes);
+    }
+
+    @ReadOperation
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        if (recording == null) {
+            status.put("state", "NONE");
+            return status;
+        }
+        status.put("state", recording.getState().name());
+        status.put("name", recording.getName());
+        status.put("startTime", recording.getStartTime());
+        status.put("stopTime", recording.getStopTime());
+        status.put("size", recording.getSize());
+        return status;
+    }
+
+    /**
+     * Start a new recording, replacing any previous one.
+     * @param settings JFR settings name: "default" (about 1% overhead) or "profile"
+     * @param durationSeconds optional fixed duration, after which the recording stops itself
+     */
+    @WriteOperation
+    public synchronized Map<String, Object> start(@Nullable String settings, @Nullable Long durationSeconds)
+            throws IOException {
+        if (durationSeconds != null && durationSeconds <= 0) {
+            throw new InvalidEndpointRequestException("durationSeconds must be positive", "Invalid duration");
+        }
+        Configuration configuration = configuration(settings != null ? settings : "default");
+        closeRecording();
+
+        recording = new Recording(configuration);
+        recording.setName("todoapp-" + Instant.now().getEpochSecond());
+        recording.setToDisk(true);
+        recording.setMaxSize(maxSizeBytes);
+        recording.setMaxAge(maxAge);
+        if (durationSeconds != null) {
+            recording.setDuration(Duration.ofSeconds(durationSeconds));
+        }
+        recording.start();
+        return status();
+    }
+
+    private static Configuration configuration(String settings) {
+        try {
+            return Configuration.getConfiguration(settings);
+        } catch (IOException | ParseException e) {
+            throw new InvalidEndpointRequestException("Unknown JFR settings '" + settings + "'", "Unknown JFR settings");
+        }
+    }
+
+    @DeleteOperation
+    public synchronized Map<String, Object> stop() {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+        }
+        return status();
+    }
+
+    /**
+     * Recording data so far; a running recording keeps running
+     * @param name the recording name from the status; any other name is not found
+     */
+    @ReadOperation(produces = "application/octet-stream")
+    public synchronized Resource download(@Selector String name) {
+        if (recording == null || !recording.getName().equals(name) || recording.getState() == RecordingState.NEW) {
+            return null;
+        }
+        try {
+            if (dumpFile == null) {
+                dumpFile = Files.createTempFile("todoapp-", ".jfr");
+            }
+            recording.dump(dumpFile);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new FileSystemResource(dumpFile);
+    }
+
+    @PreDestroy
+    public synchronized void closeRecording() throws IOException {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+        if (dumpFile != null) {
+            Files.deleteIfExists(dumpFile);
+            dumpFile = null;
+        }
+    }
+}
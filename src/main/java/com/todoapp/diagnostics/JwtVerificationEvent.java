@@ -0,0 +1,22 @@
+package com.todoapp.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event around one JWT parse and validation in JwtService
+ */
+@Name("com.todoapp.JwtVerification")
+@Label("JWT Verification")
+@Category({"TodoApp", "Security"})
+@Description("Parsing and validating a bearer token")
+@StackTrace(false)
+public class JwtVerificationEvent extends Event {
+
+    @Label("Valid")
+    public boolean valid;
+}
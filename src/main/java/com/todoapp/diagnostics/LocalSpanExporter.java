@@ -0,0 +1,148 @@
+package com.todoapp.diagnostics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+/**
+ * Span exporter that needs no network: keeps the most recent finished spans in a fixed-size ring
+ * (served by {@link TracesEndpoint} and injectable in tests) and, when diagnostics.tracing.file is
+ * set, appends every span as one JSON line to that file.
+ */
+@Component
+public class LocalSpanExporter implements SpanExporter {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalSpanExporter.class);
+
+    private final AtomicReferenceArray<SpanData> ring;
+    private final AtomicLong exported = new AtomicLong();
+    private final ObjectMapper objectMapper;
+    private final Path file;
+    private Writer writer;
+
+    public LocalSpanExporter(
+            ObjectMapper objectMapper,
+            @Value("${diagnostics.tracing.capacity:2000}") int capacity,
+            @Value("${diagnostics.tracing.file:}") String file) {
+        this.objectMapper = objectMapper;
+        this.ring = new AtomicReferenceArray<>(capacity);
+        this.file = file.isEmpty() ? null : Paths.get(file);
+    }
+
+    @Override
+    public CompletableResultCode export(Collection<SpanData> spans) {
+        for (SpanData span : spans) {
+            ring.set((int) (exported.getAndIncrement() % ring.length()), span);
+        }
+        if (file != null) {
+            return writeToFile(spans);
+        }
+        return CompletableResultCode.ofSuccess();
+    }
+
+    /**
+     * Spans still held in the ring, oldest first
+     */
+    public List<SpanData> getSpans() {
+        long end = exported.get();
+        long start = Math.max(0, end - ring.length());
+        List<SpanData> spans = new ArrayList<>((int) (end - start));
+        for (long i = start; i < end; i++) {
+            SpanData span = ring.get((int) (i % ring.length()));
+            if (span != null) {
+                spans.add(span);
+            }
+        }
+        return spans;
+    }
+
+    public void clear() {
+        for (int i = 0; i < ring.length(); i++) {
+            ring.set(i, null);
+        }
+    }
+
+    static Map<String, Object> toMap(SpanData span) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("traceId", span.getTraceId());
+        map.put("spanId", span.getSpanId());
+        map.put("parentSpanId", span.getParentSpanContext().isValid() ? span.getParentSpanId() : null);
+        map.put("name", span.getName());
+        map.put("kind", span.getKind().name());
+        map.put("startEpochMicros", TimeUnit.NANOSECONDS.toMicros(span.getStartEpochNanos()));
+        map.put("durationMicros", TimeUnit.NANOSECONDS.toMicros(span.getEndEpochNanos() - span.getStartEpochNanos()));
+        map.put("status", span.getStatus().getStatusCode().name());
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        span.getAttributes().forEach((key, value) -> attributes.put(key.getKey(), value));
+        map.put("attributes", attributes);
+        return map;
+    }
+
+    private synchronized CompletableResultCode writeToFile(Collection<SpanData> spans) {
+        try {
+            if (writer == null) {
+                Path parent = file.toAbsolutePath().getParent();
+                if (parent != null) {
+                    Files.createDirectories(parent);
+                }
+                writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            for (SpanData span : spans) {
+                writer.write(objectMapper.writeValueAsString(toMap(span)));
+                writer.write('\n');
+            }
+            writer.flush();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            log.warn("Spans could not be written to {}: {}", file, e.getMessage());
+            closeWriter();
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public synchronized CompletableResultCode shutdown() {
+        closeWriter();
+        return CompletableResultCode.ofSuccess();
+    }
+
+    private void closeWriter() {
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                log.warn("Span file could not be closed: {}", e.getMessage());
+            }
+            writer = null;
+        }
+    }
+}
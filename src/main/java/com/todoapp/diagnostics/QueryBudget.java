@@ -0,0 +1,202 @@
+package com.todoapp.diagnostics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-request SQL statement budget. Counts every JDBC statement of a request from its profile and
+ * keeps the highest count seen per route ("GET /api/collections"), so query-count regressions
+ * such as N+1 lazy loading can be asserted with {@link #assertQueries(String, int)}.
+ * In LOG mode a request over budget is logged once with the stack of its first statement over
+ * the budget; in FAIL mode that statement throws {@link QueryBudgetExceededException} instead.
+ */
+@Component
+public class QueryBudget {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryBudget.class);
+
+    private static final String UNMATCHED_ROUTE = "UNMATCHED";
+    private static final String UNKNOWN_METHOD = "UNKNOWN";
+    // Any token is accepted as a method; other methods share one key so routes stays bounded
+    private static final Set<String> KNOWN_METHODS =
+            Arrays.stream(HttpMethod.values()).map(HttpMethod::name).collect(Collectors.toUnmodifiableSet());
+    private static final int LOGGED_STATEMENTS = 20;
+
+    public enum Mode {
+        OFF, LOG, FAIL
+    }
+
+    private final Mode mode;
+    private final int maxStatements;
+    private final Map<String, Integer> routeBudgets;
+    private final Map<String, RouteQueries> routes = new ConcurrentHashMap<>();
+
+    public QueryBudget(
+            @Value("${diagnostics.query-budget.mode:LOG}") Mode mode,
+            @Value("${diagnostics.query-budget.max-statements:20}") int maxStatements,
+            @Value("${diagnostics.query-budget.routes:}") String routeBudgets) {
+        this.mode = mode;
+        this.maxStatements = maxStatements;
+        this.routeBudgets = parseRouteBudgets(routeBudgets);
+    }
+
+    /**
+     * Parses "GET /api/collections=5,GET /api/todos=3" into per-route budgets
+     */
+    private static Map<String, Integer> parseRouteBudgets(String value) {
+        Map<String, Integer> budgets = new HashMap<>();
+        for (String entry : value.split(",")) {
+            int separator = entry.lastIndexOf('=');
+            if (separator > 0) {
+                budgets.put(entry.substring(0, separator).trim(),
+                        Integer.parseInt(entry.substring(separator + 1).trim()));
+            }
+        }
+        return budgets;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public int budgetFor(String route) {
+        return routeBudgets.getOrDefault(route, maxStatements);
+    }
+
+    /**
+     * Called after each statement of a profiled request; captures the offending stack once
+     */
+    void onStatement(RequestProfile profile) {
+        if (mode == Mode.OFF || profile.overBudgetAt != null) {
+            return;
+        }
+        String route = routeKey(profile.method, profile.route);
+        int budget = budgetFor(route);
+        if (profile.statementCount <= budget) {
+            return;
+        }
+        String message = route + " ran statement " + profile.statementCount + " over its budget of " + budget;
+        profile.overBudgetAt = new Throwable(message);
+        if (mode == Mode.FAIL) {
+            throw new QueryBudgetExceededException(message);
+        }
+    }
+
+    /**
+     * Called when the request completes, before its profile is reset
+     */
+    void end(RequestProfile profile, String uri) {
+        if (mode == Mode.OFF) {
+            return;
+        }
+        String route = routeKey(profile.method, profile.route);
+        routes.computeIfAbsent(route, key -> new RouteQueries()).record(profile, uri);
+
+        if (profile.overBudgetAt != null && mode == Mode.LOG) {
+            log.warn("Request {} {} ran {} SQL statements, over its budget of {}; statements: {}",
+                    profile.method, uri, profile.statementCount, budgetFor(route),
+                    statements(profile), profile.overBudgetAt);
+        }
+    }
+
+    /**
+     * Throws if any request to the route ran more than max statements since the last reset
+     */
+    public void assertQueries(String route, int max) {
+        RouteQueries queries = routes.get(route);
+        if (queries != null && queries.maxStatements > max) {
+            throw new AssertionError(route + " ran up to " + queries.maxStatements + " SQL statements per request"
+                    + " (expected at most " + max + ", worst request " + queries.worstUri + "): "
+                    + queries.worstStatements);
+        }
+    }
+
+    /**
+     * Asserts every route seen since the last reset against its configured budget
+     */
+    public void verify() {
+        List<String> failures = new ArrayList<>();
+        for (Map.Entry<String, RouteQueries> entry : routes.entrySet()) {
+            try {
+                assertQueries(entry.getKey(), budgetFor(entry.getKey()));
+            } catch (AssertionError e) {
+                failures.add(e.getMessage());
+            }
+        }
+        if (!failures.isEmpty()) {
+            throw new AssertionError("Query budget exceeded:\n  " + String.join("\n  ", failures));
+        }
+    }
+
+    /**
+     * Highest statement count of a single request, per route, since the last reset
+     */
+    public Map<String, Integer> getMaxStatementsByRoute() {
+        Map<String, Integer> result = new TreeMap<>();
+        routes.forEach((route, queries) -> result.put(route, queries.maxStatements));
+        return result;
+    }
+
+    public Map<String, Long> getRequestsOverBudgetByRoute() {
+        Map<String, Long> result = new TreeMap<>();
+        routes.forEach((route, queries) -> result.put(route, queries.overBudget.sum()));
+        return result;
+    }
+
+    public void reset() {
+        routes.clear();
+    }
+
+    private static String routeKey(String method, String route) {
+        return (KNOWN_METHODS.contains(method) ? method : UNKNOWN_METHOD) + " " + (route != null ? route : UNMATCHED_ROUTE);
+    }
+
+    private static List<String> statements(RequestProfile profile) {
+        int kept = Math.min(Math.min(profile.statementCount, profile.statementSql.length), LOGGED_STATEMENTS);
+        List<String> statements = new ArrayList<>(kept);
+        for (int i = 0; i < kept; i++) {
+            statements.add(profile.statementSql[i]);
+        }
+        return statements;
+    }
+
+    /**
+     * Statement counts of one route; the statements of the worst request are kept for the report
+     */
+    private static final class RouteQueries {
+        private final LongAdder overBudget = new LongAdder();
+        private volatile int maxStatements;
+        private volatile String worstUri;
+        private volatile List<String> worstStatements = Collections.emptyList();
+
+        private void record(RequestProfile profile, String uri) {
+            if (profile.overBudgetAt != null) {
+                overBudget.increment();
+            }
+            if (profile.statementCount > maxStatements) {
+                synchronized (this) {
+                    if (profile.statementCount > maxStatements) {
+                        worstStatements = statements(profile);
+                        worstUri = uri;
+                        maxStatements = profile.statementCount;
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.todoapp.diagnostics;
+
+/**
+ * Thrown from the statement that takes a request over its query budget when the budget runs in
+ * FAIL mode, so an N+1 regression surfaces as an error at the call site that caused it.
+ */
+public class QueryBudgetExceededException extends RuntimeException {
+
+    public QueryBudgetExceededException(String message) {
+        super(message);
+    }
+}
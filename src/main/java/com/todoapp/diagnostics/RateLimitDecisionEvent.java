@@ -0,0 +1,28 @@
+package com.todoapp.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one rate-limit decision made by the edge filter
+ */
+@Name("com.todoapp.RateLimitDecision")
+@Label("Rate Limit Decision")
+@Category({"TodoApp", "Security"})
+@Description("A request was allowed or rejected by the rate limiter")
+@StackTrace(false)
+public class RateLimitDecisionEvent extends Event {
+
+    @Label("Endpoint Type")
+    public String type;
+
+    @Label("Allowed")
+    public boolean allowed;
+
+    @Label("Remaining Requests")
+    public int remaining;
+}
@@ -0,0 +1,28 @@
+package com.todoapp.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event around one Spring Data repository method call
+ */
+@Name("com.todoapp.RepositoryCall")
+@Label("Repository Call")
+@Category({"TodoApp", "Persistence"})
+@Description("A Spring Data repository method invocation, including its SQL round trips")
+@StackTrace(false)
+public class RepositoryCallEvent extends Event {
+
+    @Label("Repository")
+    public Class<?> repository;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+}
@@ -0,0 +1,40 @@
+package com.todoapp.diagnostics;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.lang.NonNull;
+
+/**
+ * Emits a {@link RepositoryCallEvent} per repository call; a single isEnabled check when JFR is not recording
+ */
+class RepositoryCallEventInterceptor implements MethodInterceptor {
+
+    private final Class<?> repositoryInterface;
+
+    RepositoryCallEventInterceptor(Class<?> repositoryInterface) {
+        this.repositoryInterface = repositoryInterface;
+    }
+
+    @Override
+    public Object invoke(@NonNull MethodInvocation invocation) throws Throwable {
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        if (!event.isEnabled()) {
+            return invocation.proceed();
+        }
+        event.begin();
+        boolean succeeded = false;
+        try {
+            Object result = invocation.proceed();
+            succeeded = true;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.repository = repositoryInterface;
+                event.method = invocation.getMethod().getName();
+                event.succeeded = succeeded;
+                event.commit();
+            }
+        }
+    }
+}
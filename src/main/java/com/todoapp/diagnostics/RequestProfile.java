@@ -0,0 +1,79 @@
+package com.todoapp.diagnostics;
+
+/**
+ * Mutable timing record of the request being served. Instances are pooled by the SlowRequestRecorder
+ * and reused across requests, so profiling a request that stays under the threshold allocates nothing.
+ */
+final class RequestProfile {
+
+    static final int PHASE_FILTERS = 0;
+    static final int PHASE_CONTROLLER = 1;
+    static final int PHASE_SERIALIZATION = 2;
+
+    boolean active;
+    int phase;
+    long startNanos;
+    long handlerStartNanos;
+    long handlerEndNanos;
+    long responseWrittenNanos;
+    String method;
+    String route;
+
+    long statementStartNanos;
+    int statementCount;
+    long statementNanos;
+    // Stack of the first statement over the query budget, null while the request is within it
+    Throwable overBudgetAt;
+
+    // Only the first maxStatements statements are kept individually; the rest are just counted
+    final String[] statementSql;
+    final int[] statementBinds;
+    final int[] statementBatchSizes;
+    final long[] statementDurations;
+    final byte[] statementPhases;
+
+    RequestProfile(int maxStatements) {
+        this.statementSql = new String[maxStatements];
+        this.statementBinds = new int[maxStatements];
+        this.statementBatchSizes = new int[maxStatements];
+        this.statementDurations = new long[maxStatements];
+        this.statementPhases = new byte[maxStatements];
+    }
+
+    void begin(String method, long now) {
+        active = true;
+        this.method = method;
+        phase = PHASE_FILTERS;
+        startNanos = now;
+        handlerStartNanos = 0;
+        handlerEndNanos = 0;
+        responseWrittenNanos = 0;
+        route = null;
+        statementCount = 0;
+        statementNanos = 0;
+        overBudgetAt = null;
+    }
+
+    void end() {
+        active = false;
+        method = null;
+        route = null;
+        overBudgetAt = null;
+        // Drop references to SQL strings so they are not kept alive by an idle pooled profile
+        for (int i = 0; i < Math.min(statementCount, statementSql.length); i++) {
+            statementSql[i] = null;
+        }
+    }
+
+    void addStatement(String sql, int binds, int batchSize, long durationNanos) {
+        int index = statementCount++;
+        statementNanos += durationNanos;
+        if (index < statementSql.length) {
+            statementSql[index] = sql;
+            statementBinds[index] = binds;
+            statementBatchSizes[index] = batchSize;
+            statementDurations[index] = durationNanos;
+            statementPhases[index] = (byte) phase;
+        }
+    }
+}
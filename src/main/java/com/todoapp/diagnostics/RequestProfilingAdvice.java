@@ -0,0 +1,75 @@
+package com.todoapp.diagnostics;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Marks the controller and serialization phases of the current request profile:
+ * the controller phase starts in preHandle and ends when the handler returns its body;
+ * serialization runs from there until the request completes.
+ */
+@ControllerAdvice
+public class RequestProfilingAdvice implements HandlerInterceptor, ResponseBodyAdvice<Object> {
+
+    private final SlowRequestRecorder recorder;
+
+    public RequestProfilingAdvice(SlowRequestRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                             @NonNull Object handler) {
+        RequestProfile profile = recorder.current();
+        if (profile != null) {
+            profile.handlerStartNanos = System.nanoTime();
+            profile.route = (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            profile.phase = RequestProfile.PHASE_CONTROLLER;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean supports(@NonNull MethodParameter returnType,
+                            @NonNull Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, @NonNull MethodParameter returnType,
+                                  @NonNull MediaType selectedContentType,
+                                  @NonNull Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  @NonNull ServerHttpRequest request, @NonNull ServerHttpResponse response) {
+        RequestProfile profile = recorder.current();
+        if (profile != null && profile.phase == RequestProfile.PHASE_CONTROLLER) {
+            profile.handlerEndNanos = System.nanoTime();
+            profile.phase = RequestProfile.PHASE_SERIALIZATION;
+        }
+        return body;
+    }
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                @NonNull Object handler, Exception ex) {
+        RequestProfile profile = recorder.current();
+        if (profile != null && profile.handlerStartNanos != 0) {
+            long now = System.nanoTime();
+            if (profile.handlerEndNanos == 0) {
+                profile.handlerEndNanos = now;
+            }
+            profile.responseWrittenNanos = now;
+            profile.phase = RequestProfile.PHASE_FILTERS;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.todoapp.diagnostics;
+
+import java.io.IOException;
+
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Outermost application filter: opens the request profile and hands it to the recorder when the
+ * response is complete, so the filter phase includes the edge, security and JWT filters.
+ * Also accounts the bytes allocated on the request thread to the matched route and checks the
+ * request's statement count against its query budget.
+ */
+public class RequestProfilingFilter extends OncePerRequestFilter {
+
+    private final SlowRequestRecorder recorder;
+    private final AllocationMetrics allocationMetrics;
+    private final QueryBudget queryBudget;
+
+    public RequestProfilingFilter(SlowRequestRecorder recorder, AllocationMetrics allocationMetrics,
+                                  QueryBudget queryBudget) {
+        this.recorder = recorder;
+        this.allocationMetrics = allocationMetrics;
+        this.queryBudget = queryBudget;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        long allocatedBefore = allocationMetrics.currentThreadAllocatedBytes();
+        recorder.begin(request.getMethod());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long allocatedBytes = allocationMetrics.allocatedSince(allocatedBefore);
+            String route = (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            allocationMetrics.record(request.getMethod(), route, allocatedBytes);
+            RequestProfile profile = recorder.current();
+            if (profile != null) {
+                queryBudget.end(profile, request.getRequestURI());
+            }
+            recorder.end(request.getMethod(), request.getRequestURI(), response.getStatus(), allocatedBytes);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.todoapp.diagnostics;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable snapshot of one request that crossed the slow-request threshold
+ */
+public final class SlowRequest {
+
+    private static final String[] PHASE_NAMES = {"filters", "controller", "serialization"};
+
+    private final Instant timestamp;
+    private final String method;
+    private final String uri;
+    private final String route;
+    private final int status;
+    private final String thread;
+    private final double totalMs;
+    private final double filtersMs;
+    private final double controllerMs;
+    private final double serializationMs;
+    private final Long allocatedBytes;
+    private final int sqlCount;
+    private final double sqlMs;
+    private final int sqlNotCaptured;
+    private final List<Statement> statements;
+
+    SlowRequest(RequestProfile profile, long endNanos, String method, String uri, int status, long allocatedBytes) {
+        long total = endNanos - profile.startNanos;
+        long controller = 0;
+        long serialization = 0;
+        if (profile.handlerStartNanos != 0) {
+            controller = profile.handlerEndNanos - profile.handlerStartNanos;
+            serialization = profile.responseWrittenNanos - profile.handlerEndNanos;
+        }
+
+        this.timestamp = Instant.now().minusNanos(total);
+        this.method = method;
+        this.uri = uri;
+        this.route = profile.route;
+        this.status = status;
+        this.thread = Thread.currentThread().getName();
+        this.totalMs = toMillis(total);
+        this.filtersMs = toMillis(total - controller - serialization);
+        this.controllerMs = toMillis(controller);
+        this.serializationMs = toMillis(serialization);
+        this.allocatedBytes = allocatedBytes >= 0 ? allocatedBytes : null;
+        this.sqlCount = profile.statementCount;
+        this.sqlMs = toMillis(profile.statementNanos);
+
+        int captured = Math.min(profile.statementCount, profile.statementSql.length);
+        this.sqlNotCaptured = profile.statementCount - captured;
+        List<Statement> list = new ArrayList<>(captured);
+        for (int i = 0; i < captured; i++) {
+            list.add(new Statement(
+                    PHASE_NAMES[profile.statementPhases[i]],
+                    profile.statementSql[i],
+                    profile.statementBinds[i],
+                    profile.statementBatchSizes[i],
+                    toMillis(profile.statementDurations[i])));
+        }
+        this.statements = Collections.unmodifiableList(list);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    public Instant getTimestamp() { return timestamp; }
+    public String getMethod() { return method; }
+    public String getUri() { return uri; }
+    public String getRoute() { return route; }
+    public int getStatus() { return status; }
+    public String getThread() { return thread; }
+    public double getTotalMs() { return totalMs; }
+    public double getFiltersMs() { return filtersMs; }
+    public double getControllerMs() { return controllerMs; }
+    public double getSerializationMs() { return serializationMs; }
+    public Long getAllocatedBytes() { return allocatedBytes; }
+    public int getSqlCount() { return sqlCount; }
+    public double getSqlMs() { return sqlMs; }
+    public int getSqlNotCaptured() { return sqlNotCaptured; }
+    public List<Statement> getStatements() { return statements; }
+
+    /**
+     * One JDBC execution; the SQL text has placeholders only, bind values are never captured
+     */
+    public static final class Statement {
+        private final String phase;
+        private final String sql;
+        private final int binds;
+        private final int batchSize;
+        private final double ms;
+
+        Statement(String phase, String sql, int binds, int batchSize, double ms) {
+            this.phase = phase;
+            this.sql = sql;
+            this.binds = binds;
+            this.batchSize = batchSize;
+            this.ms = ms;
+        }
+
+        public String getPhase() { return phase; }
+        public String getSql() { return sql; }
+        public int getBinds() { return binds; }
+        public int getBatchSize() { return batchSize; }
+        public double getMs() { return ms; }
+    }
+}
@@ -0,0 +1,110 @@
+package com.todoapp.diagnostics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Always-on flight recorder for slow requests.
+ * Each request fills a pooled {@link RequestProfile}; only when a request finishes above the
+ * threshold is the profile copied into a {@link SlowRequest} and stored in a fixed-size ring of the
+ * most recent slow requests. Requests under the threshold cost a few clock reads and field writes.
+ */
+@Component
+public class SlowRequestRecorder {
+
+    private final long thresholdNanos;
+    private final int maxStatements;
+    private final AtomicReferenceArray<SlowRequest> ring;
+    private final AtomicLong recorded = new AtomicLong();
+    // Profiles are pooled rather than kept per thread: on virtual threads every request is a new thread,
+    // so a per-thread profile would allocate its statement arrays on every request. The ThreadLocal only
+    // points at the pooled profile while its request runs, for the JDBC listener to find it.
+    private final BlockingQueue<RequestProfile> pool;
+    private final ThreadLocal<RequestProfile> profiles = new ThreadLocal<>();
+
+    public SlowRequestRecorder(
+            @Value("${diagnostics.slow-requests.threshold-ms:500}") long thresholdMillis,
+            @Value("${diagnostics.slow-requests.capacity:50}") int capacity,
+            @Value("${diagnostics.slow-requests.max-statements:100}") int maxStatements,
+            @Value("${diagnostics.slow-requests.pool-size:256}") int poolSize) {
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        this.maxStatements = maxStatements;
+        this.ring = new AtomicReferenceArray<>(capacity);
+        this.pool = new ArrayBlockingQueue<>(poolSize);
+    }
+
+    void begin(String method) {
+        RequestProfile profile = pool.poll();
+        if (profile == null) {
+            profile = new RequestProfile(maxStatements);
+        }
+        profile.begin(method, System.nanoTime());
+        profiles.set(profile);
+    }
+
+    /**
+     * @return the profile of the request on this thread, or null outside a profiled request
+     */
+    RequestProfile current() {
+        RequestProfile profile = profiles.get();
+        return profile != null && profile.active ? profile : null;
+    }
+
+    void end(String method, String uri, int status, long allocatedBytes) {
+        RequestProfile profile = current();
+        if (profile == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (profile.handlerStartNanos != 0) {
+            if (profile.handlerEndNanos == 0) {
+                profile.handlerEndNanos = now;
+            }
+            if (profile.responseWrittenNanos == 0) {
+                profile.responseWrittenNanos = now;
+            }
+        }
+        if (now - profile.startNanos >= thresholdNanos) {
+            SlowRequest slowRequest = new SlowRequest(profile, now, method, uri, status, allocatedBytes);
+            ring.set((int) (recorded.getAndIncrement() % ring.length()), slowRequest);
+        }
+        profile.end();
+        profiles.remove();
+        // Beyond poolSize concurrent requests the extra profiles are left to the GC
+        pool.offer(profile);
+    }
+
+    /**
+     * Recent slow requests, slowest first
+     */
+    public List<SlowRequest> getSlowRequests() {
+        List<SlowRequest> result = new ArrayList<>(ring.length());
+        for (int i = 0; i < ring.length(); i++) {
+            SlowRequest slowRequest = ring.get(i);
+            if (slowRequest != null) {
+                result.add(slowRequest);
+            }
+        }
+        result.sort(Comparator.comparingDouble(SlowRequest::getTotalMs).reversed());
+        return result;
+    }
+
+    public long getRecordedCount() {
+        return recorded.get();
+    }
+
+    public void clear() {
+        for (int i = 0; i < ring.length(); i++) {
+            ring.set(i, null);
+        }
+    }
+}
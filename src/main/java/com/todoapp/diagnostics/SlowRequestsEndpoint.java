@@ -0,0 +1,32 @@
+package com.todoapp.diagnostics;
+
+import java.util.List;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Admin-only actuator endpoint (/actuator/slowrequests) listing the recent slow requests
+ */
+@Component
+@Endpoint(id = "slowrequests")
+public class SlowRequestsEndpoint {
+
+    private final SlowRequestRecorder recorder;
+
+    public SlowRequestsEndpoint(SlowRequestRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @ReadOperation
+    public List<SlowRequest> slowRequests() {
+        return recorder.getSlowRequests();
+    }
+
+    @DeleteOperation
+    public void clear() {
+        recorder.clear();
+    }
+}
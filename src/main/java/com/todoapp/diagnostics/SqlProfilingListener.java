@@ -0,0 +1,51 @@
+package com.todoapp.diagnostics;
+
+import java.util.List;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * Adds every JDBC execution on a profiled request thread to its profile: SQL text, bind count,
+ * batch size, duration and the request phase it ran in. Each statement is also checked against the
+ * request's query budget.
+ */
+class SqlProfilingListener implements QueryExecutionListener {
+
+    private final SlowRequestRecorder recorder;
+    private final QueryBudget queryBudget;
+
+    SqlProfilingListener(SlowRequestRecorder recorder, QueryBudget queryBudget) {
+        this.recorder = recorder;
+        this.queryBudget = queryBudget;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RequestProfile profile = recorder.current();
+        if (profile != null) {
+            profile.statementStartNanos = System.nanoTime();
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RequestProfile profile = recorder.current();
+        if (profile == null || queryInfoList.isEmpty()) {
+            return;
+        }
+        long duration = System.nanoTime() - profile.statementStartNanos;
+
+        int binds = 0;
+        for (QueryInfo queryInfo : queryInfoList) {
+            for (List<?> parameters : queryInfo.getParametersList()) {
+                binds += parameters.size();
+            }
+        }
+        // A statement batch of different queries is reported under its first query
+        profile.addStatement(queryInfoList.get(0).getQuery(), binds,
+                execInfo.isBatch() ? execInfo.getBatchSize() : 0, duration);
+        queryBudget.onStatement(profile);
+    }
+}
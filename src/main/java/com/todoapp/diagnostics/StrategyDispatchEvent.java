@@ -0,0 +1,25 @@
+package com.todoapp.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for a completion strategy lookup in TodoStrategyFactory
+ */
+@Name("com.todoapp.StrategyDispatch")
+@Label("Strategy Dispatch")
+@Category({"TodoApp", "Domain"})
+@Description("A todo completion strategy was selected for a todo type")
+@StackTrace(false)
+public class StrategyDispatchEvent extends Event {
+
+    @Label("Todo Type")
+    public String todoType;
+
+    @Label("Strategy")
+    public Class<?> strategy;
+}
@@ -0,0 +1,95 @@
+package com.todoapp.diagnostics;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.trace.data.SpanData;
+
+/**
+ * Admin-only actuator endpoint (/actuator/traces) over the spans held by {@link LocalSpanExporter}.
+ * The summary flags SQL statements executed more than once in the same trace, the usual N+1 signature.
+ */
+@Component
+@Endpoint(id = "traces")
+public class TracesEndpoint {
+
+    private static final AttributeKey<String> JDBC_QUERY = AttributeKey.stringKey("jdbc.query[0]");
+
+    private final LocalSpanExporter exporter;
+
+    public TracesEndpoint(LocalSpanExporter exporter) {
+        this.exporter = exporter;
+    }
+
+    /**
+     * One summary per trace, most recent first
+     */
+    @ReadOperation
+    public List<Map<String, Object>> traces() {
+        Map<String, List<SpanData>> byTrace = new LinkedHashMap<>();
+        for (SpanData span : exporter.getSpans()) {
+            byTrace.computeIfAbsent(span.getTraceId(), id -> new ArrayList<>()).add(span);
+        }
+
+        List<Map<String, Object>> summaries = new ArrayList<>(byTrace.size());
+        byTrace.forEach((traceId, spans) -> summaries.add(0, summarize(traceId, spans)));
+        return summaries;
+    }
+
+    @ReadOperation
+    public List<Map<String, Object>> trace(@Selector String traceId) {
+        List<Map<String, Object>> spans = new ArrayList<>();
+        for (SpanData span : exporter.getSpans()) {
+            if (span.getTraceId().equals(traceId)) {
+                spans.add(LocalSpanExporter.toMap(span));
+            }
+        }
+        return spans;
+    }
+
+    @DeleteOperation
+    public void clear() {
+        exporter.clear();
+    }
+
+    private static Map<String, Object> summarize(String traceId, List<SpanData> spans) {
+        SpanData root = spans.get(0);
+        Map<String, Integer> statements = new LinkedHashMap<>();
+        for (SpanData span : spans) {
+            if (!span.getParentSpanContext().isValid() || span.getStartEpochNanos() < root.getStartEpochNanos()) {
+                root = span;
+            }
+            String query = span.getAttributes().get(JDBC_QUERY);
+            if (query != null) {
+                statements.merge(query, 1, Integer::sum);
+            }
+        }
+
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        statements.forEach((query, count) -> {
+            if (count > 1) {
+                repeated.put(query, count);
+            }
+        });
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("traceId", traceId);
+        summary.put("root", root.getName());
+        summary.put("durationMillis",
+                TimeUnit.NANOSECONDS.toMillis(root.getEndEpochNanos() - root.getStartEpochNanos()));
+        summary.put("spans", spans.size());
+        summary.put("statements", statements.values().stream().mapToInt(Integer::intValue).sum());
+        summary.put("repeatedStatements", repeated);
+        return summary;
+    }
+}
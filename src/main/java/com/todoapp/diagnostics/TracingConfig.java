@@ -0,0 +1,34 @@
+package com.todoapp.diagnostics;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.aop.ObservedAspect;
+import io.opentelemetry.exporter.otlp.http.trace.OtlpHttpSpanExporter;
+
+/**
+ * Tracing beans Boot does not provide: the aspect behind {@code @Observed} controller and service
+ * spans, and an OTLP exporter that only exists when a collector endpoint is configured.
+ * Boot's own OTLP auto-configuration is excluded because in 3.1 it always exports to localhost:4318.
+ * Spans always go to the {@link LocalSpanExporter} as well.
+ */
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    public ObservedAspect observedAspect(ObservationRegistry observationRegistry) {
+        return new ObservedAspect(observationRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty("management.otlp.tracing.endpoint")
+    public OtlpHttpSpanExporter otlpHttpSpanExporter(
+            @Value("${management.otlp.tracing.endpoint}") String endpoint) {
+        return OtlpHttpSpanExporter.builder()
+                .setEndpoint(endpoint)
+                .build();
+    }
+}
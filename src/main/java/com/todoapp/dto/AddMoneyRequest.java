@@ -0,0 +1,9 @@
+package com.todoapp.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Body of POST /api/tasks/{taskId}/add-money
+ */
+public record AddMoneyRequest(BigDecimal amount) {
+}
@@ -0,0 +1,23 @@
+package com.todoapp.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Response envelope of the collection and task endpoints: {"success", "data"} on success,
+ * {"success", "message"} for errors and deletions. Null members are left out.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ApiResponse<T>(boolean success, T data, String message) {
+
+    public static <T> ApiResponse<T> ok(T data) {
+        return new ApiResponse<>(true, data, null);
+    }
+
+    public static <T> ApiResponse<T> ok(String message) {
+        return new ApiResponse<>(true, null, message);
+    }
+
+    public static <T> ApiResponse<T> error(String message) {
+        return new ApiResponse<>(false, null, message);
+    }
+}
@@ -4,6 +4,7 @@ public class AuthResponse {
     private boolean success;
     private String message;
     private String token;
+    private String refreshToken;
     private UserDto user;
 
     // Constructors
@@ -21,6 +22,14 @@ public class AuthResponse {
         this.user = user;
     }
 
+    public AuthResponse(boolean success, String message, String token, String refreshToken, UserDto user) {
+        this.success = success;
+        this.message = message;
+        this.token = token;
+        this.refreshToken = refreshToken;
+        this.user = user;
+    }
+
     // Getters and Setters
     public boolean isSuccess() {
         return success;
@@ -46,6 +55,14 @@ public class AuthResponse {
         this.token = token;
     }
 
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
     public UserDto getUser() {
         return user;
     }
@@ -0,0 +1,7 @@
+package com.todoapp.dto;
+
+/**
+ * Body of POST and PUT /api/collections
+ */
+public record CollectionRequest(String name, String description) {
+}
@@ -0,0 +1,32 @@
+package com.todoapp.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.todoapp.entity.TodoCollection;
+
+/**
+ * Collection as returned by the API, with its tasks
+ */
+public record CollectionResponse(
+        Long id,
+        String name,
+        String description,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        List<TodoResponse> todos) {
+
+    public static CollectionResponse from(TodoCollection collection) {
+        return new CollectionResponse(collection.getId(), collection.getName(), collection.getDescription(),
+                collection.getCreatedAt(), collection.getUpdatedAt(), TodoResponse.from(collection.getTodos()));
+    }
+
+    public static List<CollectionResponse> from(List<TodoCollection> collections) {
+        List<CollectionResponse> responses = new ArrayList<>(collections.size());
+        for (TodoCollection collection : collections) {
+            responses.add(from(collection));
+        }
+        return responses;
+    }
+}
@@ -0,0 +1,20 @@
+package com.todoapp.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.todoapp.entity.Todo;
+
+/**
+ * Body of POST /api/collections/{collectionId}/tasks. The type is matched case-insensitively
+ * (spring.jackson.mapper.accept-case-insensitive-enums); dueDate only applies to DEADLINE tasks,
+ * the amounts only to SAVING tasks.
+ */
+public record CreateTodoRequest(
+        String title,
+        String description,
+        Todo.TodoType type,
+        LocalDate dueDate,
+        BigDecimal targetAmount,
+        BigDecimal currentAmount) {
+}
@@ -0,0 +1,80 @@
+package com.todoapp.dto;
+
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Sparse fieldset of a listing, from ?fields=a,b,c. Field names are the members of TodoResponse and
+ * CollectionResponse, which are also the entity attribute names. For collections, "todos.title"
+ * selects a task member and "todos" alone every task member; todoFields is empty when no task
+ * member was asked for.
+ */
+public record FieldSelection(List<String> fields, List<String> todoFields) {
+
+    public static final List<String> TODO_FIELDS = componentNames(TodoResponse.class);
+    public static final List<String> COLLECTION_FIELDS = componentNames(CollectionResponse.class).stream()
+            .filter(name -> !name.equals("todos"))
+            .toList();
+
+    private static final String TODOS_PREFIX = "todos.";
+
+    /**
+     * @throws IllegalArgumentException for an empty selection or an unknown field
+     */
+    public static FieldSelection ofTodos(String fields) {
+        List<String> selected = new ArrayList<>();
+        for (String field : split(fields)) {
+            addField(selected, field, TODO_FIELDS);
+        }
+        return new FieldSelection(selected, List.of());
+    }
+
+    /**
+     * @throws IllegalArgumentException for an empty selection or an unknown field
+     */
+    public static FieldSelection ofCollections(String fields) {
+        List<String> selected = new ArrayList<>();
+        List<String> todoFields = new ArrayList<>();
+        for (String field : split(fields)) {
+            if (field.equals("todos")) {
+                for (String todoField : TODO_FIELDS) {
+                    addField(todoFields, todoField, TODO_FIELDS);
+                }
+            } else if (field.startsWith(TODOS_PREFIX)) {
+                addField(todoFields, field.substring(TODOS_PREFIX.length()), TODO_FIELDS);
+            } else {
+                addField(selected, field, COLLECTION_FIELDS);
+            }
+        }
+        if (selected.isEmpty()) {
+            throw new IllegalArgumentException("fields must name at least one collection field");
+        }
+        return new FieldSelection(selected, todoFields);
+    }
+
+    private static List<String> split(String fields) {
+        List<String> names = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .toList();
+        if (names.isEmpty()) {
+            throw new IllegalArgumentException("fields must name at least one field");
+        }
+        return names;
+    }
+
+    private static void addField(List<String> selected, String field, List<String> allowed) {
+        if (!allowed.contains(field)) {
+            throw new IllegalArgumentException("Unknown field; fields may be " + String.join(", ", allowed));
+        }
+        if (!selected.contains(field)) {
+            selected.add(field);
+        }
+    }
+
+    private static List<String> componentNames(Class<? extends Record> type) {
+        return Arrays.stream(type.getRecordComponents()).map(RecordComponent::getName).toList();
+    }
+}
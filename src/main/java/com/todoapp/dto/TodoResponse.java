@@ -0,0 +1,39 @@
+package com.todoapp.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.todoapp.entity.Todo;
+
+/**
+ * Task as returned by the API; the same members the entity used to serialize to
+ */
+public record TodoResponse(
+        Long id,
+        String title,
+        String description,
+        Boolean completed,
+        Todo.TodoType type,
+        LocalDate dueDate,
+        BigDecimal targetAmount,
+        BigDecimal currentAmount,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+
+    public static TodoResponse from(Todo todo) {
+        return new TodoResponse(todo.getId(), todo.getTitle(), todo.getDescription(), todo.getCompleted(),
+                todo.getType(), todo.getDueDate(), todo.getTargetAmount(), todo.getCurrentAmount(),
+                todo.getCreatedAt(), todo.getUpdatedAt());
+    }
+
+    public static List<TodoResponse> from(List<Todo> todos) {
+        List<TodoResponse> responses = new ArrayList<>(todos.size());
+        for (Todo todo : todos) {
+            responses.add(from(todo));
+        }
+        return responses;
+    }
+}
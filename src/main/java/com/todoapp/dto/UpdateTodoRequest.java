@@ -0,0 +1,7 @@
+package com.todoapp.dto;
+
+/**
+ * Body of PUT /api/tasks/{taskId}
+ */
+public record UpdateTodoRequest(String title, String description, Boolean completed) {
+}
@@ -0,0 +1,64 @@
+package com.todoapp.entity;
+
+import java.time.LocalDateTime;
+
+import com.todoapp.token.TokenRevocations;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * A revoked token ID or token family. Written by the servlet application and read by every process
+ * that validates tokens against the same database, including the reactive read stack.
+ */
+@Entity
+@Table(name = "revoked_tokens",
+        indexes = @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_revoked_tokens_kind_key", columnNames = {"kind", "token_key"}))
+public class RevokedToken {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private TokenRevocations.Kind kind;
+
+    @Column(name = "token_key", nullable = false)
+    private String tokenKey;
+
+    // Expiry of the revoked tokens in epoch millis; the row is useless afterwards
+    @Column(name = "expires_at", nullable = false)
+    private Long expiresAt;
+
+    @Column(name = "revoked_at")
+    private LocalDateTime revokedAt;
+
+    public RevokedToken() {}
+
+    public RevokedToken(TokenRevocations.Kind kind, String tokenKey, long expiresAt) {
+        this.kind = kind;
+        this.tokenKey = tokenKey;
+        this.expiresAt = expiresAt;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        revokedAt = LocalDateTime.now();
+    }
+
+    public Long getId() { return id; }
+    public TokenRevocations.Kind getKind() { return kind; }
+    public String getTokenKey() { return tokenKey; }
+    public Long getExpiresAt() { return expiresAt; }
+    public LocalDateTime getRevokedAt() { return revokedAt; }
+}
@@ -0,0 +1,43 @@
+package com.todoapp.repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+/**
+ * Shared by the projection fragments: one aliased selection per attribute, and tuples back to maps
+ */
+final class ProjectionSupport {
+
+    private ProjectionSupport() {
+    }
+
+    static List<Selection<?>> selections(Root<?> root, List<String> fields) {
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        for (String field : fields) {
+            selections.add(root.get(field).alias(field));
+        }
+        return selections;
+    }
+
+    static List<Map<String, Object>> rows(List<Tuple> tuples, List<String> fields) {
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            rows.add(row(tuple, fields));
+        }
+        return rows;
+    }
+
+    static Map<String, Object> row(Tuple tuple, List<String> fields) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (String field : fields) {
+            row.put(field, tuple.get(field));
+        }
+        return row;
+    }
+}
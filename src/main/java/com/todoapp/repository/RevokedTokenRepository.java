@@ -0,0 +1,25 @@
+package com.todoapp.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.todoapp.entity.RevokedToken;
+import com.todoapp.token.TokenRevocations;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+    List<RevokedToken> findByExpiresAtGreaterThanEqual(long now);
+
+    Optional<RevokedToken> findByKindAndTokenKey(TokenRevocations.Kind kind, String tokenKey);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt < :now")
+    int deleteExpired(long now);
+}
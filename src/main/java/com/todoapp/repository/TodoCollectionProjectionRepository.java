@@ -0,0 +1,17 @@
+package com.todoapp.repository;
+
+import java.util.List;
+import java.util.Map;
+
+import com.todoapp.entity.User;
+
+/**
+ * Sparse-fieldset reads of collections; see {@link TodoProjectionRepository}
+ */
+public interface TodoCollectionProjectionRepository {
+
+    /**
+     * The user's collections, newest first. The id is always selected, for loading their todos.
+     */
+    List<Map<String, Object>> findFieldsByUser(User user, List<String> fields);
+}
@@ -0,0 +1,41 @@
+package com.todoapp.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.todoapp.entity.TodoCollection;
+import com.todoapp.entity.User;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Criteria multiselect over the requested attributes, so the projection is in the SQL select list
+ */
+public class TodoCollectionProjectionRepositoryImpl implements TodoCollectionProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findFieldsByUser(User user, List<String> fields) {
+        List<String> selected = fields;
+        if (!fields.contains("id")) {
+            selected = new ArrayList<>(fields);
+            selected.add("id");
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<TodoCollection> collection = query.from(TodoCollection.class);
+        query.multiselect(ProjectionSupport.selections(collection, selected))
+                .where(cb.equal(collection.get("user"), user))
+                .orderBy(cb.desc(collection.get("createdAt")));
+        List<Tuple> tuples = entityManager.createQuery(query).getResultList();
+        return ProjectionSupport.rows(tuples, selected);
+    }
+}
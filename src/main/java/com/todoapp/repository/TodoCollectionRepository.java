@@ -2,13 +2,16 @@ package com.todoapp.repository;
 
 import com.todoapp.entity.TodoCollection;
 import com.todoapp.entity.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TodoCollectionRepository extends JpaRepository<TodoCollection, Long> {
+public interface TodoCollectionRepository extends JpaRepository<TodoCollection, Long>, TodoCollectionProjectionRepository {
+    // Listed with their tasks: fetch the tasks of every collection in the same query
+    @EntityGraph(attributePaths = "todos")
     List<TodoCollection> findByUserOrderByCreatedAtDesc(User user);
     Optional<TodoCollection> findByIdAndUser(Long id, User user);
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.todoapp.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sparse-fieldset reads of todos: only the named attributes are selected, and each row comes back
+ * as a map from attribute name to value in the order the fields were given
+ */
+public interface TodoProjectionRepository {
+
+    List<Map<String, Object>> findFieldsByCollectionId(Long collectionId, List<String> fields);
+
+    /**
+     * One query for all the collections, rows grouped by collection id, newest first
+     */
+    Map<Long, List<Map<String, Object>>> findFieldsByCollectionIds(Collection<Long> collectionIds, List<String> fields);
+}
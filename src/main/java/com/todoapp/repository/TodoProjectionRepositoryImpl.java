@@ -0,0 +1,63 @@
+package com.todoapp.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.todoapp.entity.Todo;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+/**
+ * Criteria multiselect over the requested attributes, so the projection is in the SQL select list
+ */
+public class TodoProjectionRepositoryImpl implements TodoProjectionRepository {
+
+    private static final String COLLECTION_ID = "_collectionId";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findFieldsByCollectionId(Long collectionId, List<String> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Todo> todo = query.from(Todo.class);
+        query.multiselect(ProjectionSupport.selections(todo, fields))
+                .where(cb.equal(todo.get("collection").get("id"), collectionId))
+                .orderBy(cb.desc(todo.get("createdAt")));
+        return ProjectionSupport.rows(entityManager.createQuery(query).getResultList(), fields);
+    }
+
+    @Override
+    public Map<Long, List<Map<String, Object>>> findFieldsByCollectionIds(Collection<Long> collectionIds,
+                                                                          List<String> fields) {
+        Map<Long, List<Map<String, Object>>> rowsByCollection = new HashMap<>();
+        if (collectionIds.isEmpty()) {
+            return rowsByCollection;
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Todo> todo = query.from(Todo.class);
+        Path<Long> collectionId = todo.get("collection").get("id");
+        List<Selection<?>> selections = new ArrayList<>(ProjectionSupport.selections(todo, fields));
+        selections.add(collectionId.alias(COLLECTION_ID));
+        query.multiselect(selections)
+                .where(collectionId.in(collectionIds))
+                .orderBy(cb.desc(todo.get("createdAt")));
+        for (Tuple tuple : entityManager.createQuery(query).getResultList()) {
+            rowsByCollection.computeIfAbsent(tuple.get(COLLECTION_ID, Long.class), id -> new ArrayList<>())
+                    .add(ProjectionSupport.row(tuple, fields));
+        }
+        return rowsByCollection;
+    }
+}
@@ -2,13 +2,15 @@ package com.todoapp.repository;
 
 import com.todoapp.entity.Todo;
 import com.todoapp.entity.TodoCollection;
+import com.todoapp.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TodoRepository extends JpaRepository<Todo, Long> {
+public interface TodoRepository extends JpaRepository<Todo, Long>, TodoProjectionRepository {
     List<Todo> findByCollectionOrderByCreatedAtDesc(TodoCollection collection);
     Optional<Todo> findByIdAndCollection(Long id, TodoCollection collection);
+    Optional<Todo> findByIdAndCollectionUser(Long id, User user);
 }
\ No newline at end of file
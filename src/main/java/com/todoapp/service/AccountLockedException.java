@@ -0,0 +1,19 @@
+package com.todoapp.service;
+
+/**
+ * Thrown when a login targets a username that is temporarily locked after repeated failures.
+ * Raised before any password verification so rejected attempts cost no BCrypt work.
+ */
+public class AccountLockedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public AccountLockedException(long retryAfterSeconds) {
+        super("Account temporarily locked");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -1,20 +1,25 @@
 package com.todoapp.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import com.todoapp.dto.AuthResponse;
 import com.todoapp.dto.LoginRequest;
+import com.todoapp.dto.RefreshTokenRequest;
 import com.todoapp.dto.RegisterRequest;
-import com.todoapp.dto.UserDto;
 import com.todoapp.entity.User;
 import com.todoapp.repository.UserRepository;
 
+import io.micrometer.observation.annotation.Observed;
+
 @Service
+@Observed(name = "todoapp.service")
 public class AuthService {
 
     @Autowired
@@ -27,21 +32,13 @@ public class AuthService {
     private JwtService jwtService;
 
     @Autowired
-    private CustomUserDetailsService userDetailsService;
+    private AuthenticationManager authenticationManager;
 
     @Autowired
-    private AuthenticationManager authenticationManager;
+    private LoginAttemptService loginAttemptService;
 
     public AuthResponse register(RegisterRequest request) {
         try {
-            // Check if user already exists by username or email
-            if (userRepository.existsByUsername(request.getUsername())) {
-                return new AuthResponse(false, "User with this username already exists");
-            }
-            if (userRepository.existsByEmail(request.getEmail())) {
-                return new AuthResponse(false, "User with this email already exists");
-            }
-
             // Create new user
             User user = new User();
             user.setUsername(request.getUsername());
@@ -49,50 +46,82 @@ public class AuthService {
             user.setEmail(request.getEmail());
             user.setPassword(passwordEncoder.encode(request.getPassword()));
 
-            User savedUser = userRepository.save(user);
-
-            // Create UserDto for response
-            UserDto userDto = new UserDto(savedUser.getId(), savedUser.getUsername(), savedUser.getName(), savedUser.getEmail());
+            // Single INSERT; duplicates are rejected by the unique constraints on username and email
+            User savedUser;
+            try {
+                savedUser = userRepository.saveAndFlush(user);
+            } catch (DataIntegrityViolationException e) {
+                // Only the failure path pays for a lookup to tell the caller which field clashed
+                if (userRepository.existsByUsername(request.getUsername())) {
+                    return new AuthResponse(false, "User with this username already exists");
+                }
+                if (userRepository.existsByEmail(request.getEmail())) {
+                    return new AuthResponse(false, "User with this email already exists");
+                }
+                return new AuthResponse(false, "Registration failed. Please try again.");
+            }
 
-            // Generate JWT token
-            UserDetails userDetails = userDetailsService.loadUserByUsername(savedUser.getUsername());
-            String jwtToken = jwtService.generateToken(userDetails);
+            // Generate JWT tokens from the saved entity, no reload needed
+            AuthenticatedUser principal = new AuthenticatedUser(savedUser);
+            JwtService.TokenPair tokens = jwtService.issueTokenPair(principal);
 
-            return new AuthResponse(true, "User registered successfully", jwtToken, userDto);
+            return new AuthResponse(true, "User registered successfully",
+                tokens.getAccessToken(), tokens.getRefreshToken(), principal.toUserDto());
 
+        } catch (PasswordHashingUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             return new AuthResponse(false, "Registration failed: " + e.getMessage());
         }
     }
 
     public AuthResponse login(LoginRequest request) {
+        // Locked usernames are rejected before the password encoder is ever reached
+        long lockoutMillis = loginAttemptService.getLockoutRemainingMillis(request.getUsername());
+        if (lockoutMillis > 0) {
+            throw new AccountLockedException((lockoutMillis + 999) / 1000);
+        }
+
         try {
-            // Authenticate user
-            authenticationManager.authenticate(
+            // Authenticate user; the provider's single user lookup yields the principal we need
+            Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
                     request.getUsername(),
                     request.getPassword()
                 )
             );
 
-            // Find user by username
-            User user = userRepository.findByUsername(request.getUsername()).orElse(null);
-            
-            if (user == null) {
+            if (!(authentication.getPrincipal() instanceof AuthenticatedUser principal)) {
                 return new AuthResponse(false, "Invalid username or password");
             }
+            loginAttemptService.recordSuccess(request.getUsername());
 
-            // Create UserDto for response
-            UserDto userDto = new UserDto(user.getId(), user.getUsername(), user.getName(), user.getEmail());
+            // Generate JWT tokens
+            JwtService.TokenPair tokens = jwtService.issueTokenPair(principal);
 
-            // Generate JWT token
-            UserDetails userDetails = userDetailsService.loadUserByUsername(user.getUsername());
-            String jwtToken = jwtService.generateToken(userDetails);
-
-            return new AuthResponse(true, "Login successful", jwtToken, userDto);
+            return new AuthResponse(true, "Login successful",
+                tokens.getAccessToken(), tokens.getRefreshToken(), principal.toUserDto());
 
+        } catch (PasswordHashingUnavailableException e) {
+            throw e;
+        } catch (BadCredentialsException e) {
+            // Unknown usernames count too, so lockouts do not reveal which accounts exist
+            loginAttemptService.recordFailure(request.getUsername());
+            return new AuthResponse(false, "Login failed: Invalid email or password");
         } catch (Exception e) {
             return new AuthResponse(false, "Login failed: Invalid email or password");
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Renew tokens with a refresh token. The presented refresh token is single-use;
+     * replaying it revokes every token issued from the same login.
+     */
+    public AuthResponse refresh(RefreshTokenRequest request) {
+        JwtService.TokenPair tokens = jwtService.rotateRefreshToken(request.getRefreshToken());
+        if (tokens == null) {
+            return new AuthResponse(false, "Invalid or expired refresh token");
+        }
+        return new AuthResponse(true, "Token refreshed", tokens.getAccessToken(), tokens.getRefreshToken(), null);
+    }
+}
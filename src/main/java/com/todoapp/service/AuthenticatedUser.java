@@ -0,0 +1,47 @@
+package com.todoapp.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import com.todoapp.dto.UserDto;
+import com.todoapp.entity.User;
+
+/**
+ * Security principal that carries the user's profile fields alongside the credentials,
+ * so an authenticated request never has to load the same user row again.
+ */
+public class AuthenticatedUser extends org.springframework.security.core.userdetails.User {
+
+    private final Long id;
+    private final String name;
+    private final String email;
+
+    public AuthenticatedUser(User user) {
+        this(user, new ArrayList<>());
+    }
+
+    public AuthenticatedUser(User user, Collection<? extends GrantedAuthority> authorities) {
+        super(user.getUsername(), user.getPassword(), authorities);
+        this.id = user.getId();
+        this.name = user.getName();
+        this.email = user.getEmail();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public UserDto toUserDto() {
+        return new UserDto(id, getUsername(), name, email);
+    }
+}
@@ -1,8 +1,9 @@
 package com.todoapp.service;
 
-import java.util.ArrayList;
+import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -14,6 +15,9 @@ import com.todoapp.repository.UserRepository;
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
 
+    private static final List<SimpleGrantedAuthority> ADMIN_AUTHORITIES =
+            List.of(new SimpleGrantedAuthority("ROLE_ADMIN"));
+
     @Autowired
     private UserRepository userRepository;
 
@@ -22,10 +26,10 @@ public class CustomUserDetailsService implements UserDetailsService {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
 
-        return org.springframework.security.core.userdetails.User.builder()
-                .username(user.getUsername())
-                .password(user.getPassword())
-                .authorities(new ArrayList<>())
-                .build();
+        // Admin-only actuator endpoints follow the persisted role, never the username
+        if (user.getRole() == User.Role.ADMIN) {
+            return new AuthenticatedUser(user, ADMIN_AUTHORITIES);
+        }
+        return new AuthenticatedUser(user);
     }
 }
\ No newline at end of file
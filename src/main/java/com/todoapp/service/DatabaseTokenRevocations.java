@@ -0,0 +1,80 @@
+package com.todoapp.service;
+
+import java.util.Optional;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import com.todoapp.entity.RevokedToken;
+import com.todoapp.repository.RevokedTokenRepository;
+import com.todoapp.token.TokenRevocations;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Token revocations written through to the revoked_tokens table, so they survive a restart and
+ * the reactive read stack, which polls that table, rejects the same tokens
+ */
+@Component
+public class DatabaseTokenRevocations extends TokenRevocations {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    public DatabaseTokenRevocations(RevokedTokenRepository revokedTokenRepository) {
+        this.revokedTokenRepository = revokedTokenRepository;
+    }
+
+    @PostConstruct
+    void load() {
+        long now = System.currentTimeMillis();
+        revokedTokenRepository.deleteExpired(now);
+        for (RevokedToken revoked : revokedTokenRepository.findByExpiresAtGreaterThanEqual(now)) {
+            record(revoked.getKind(), revoked.getTokenKey(), revoked.getExpiresAt());
+        }
+    }
+
+    /**
+     * Falls back to the table for a family this process has not seen revoked, so a replay detected
+     * on another instance also stops rotation here. Rotation is rare enough to afford the lookup.
+     */
+    @Override
+    public boolean isFamilyRevokedInStore(String family) {
+        if (isFamilyRevoked(family)) {
+            return true;
+        }
+        if (family == null) {
+            return false;
+        }
+        Optional<RevokedToken> revoked = revokedTokenRepository.findByKindAndTokenKey(Kind.FAMILY, family);
+        revoked.ifPresent(row -> record(Kind.FAMILY, family, row.getExpiresAt()));
+        return revoked.isPresent();
+    }
+
+    /**
+     * Also delete the expired rows, so the table and the reactive stack's poll of it stay small
+     * without a restart
+     */
+    @Override
+    public void removeExpired(long now) {
+        super.removeExpired(now);
+        revokedTokenRepository.deleteExpired(now);
+    }
+
+    @Override
+    protected void onRevoked(Kind kind, String key, long expiresAt) {
+        onFirstRevoked(kind, key, expiresAt);
+    }
+
+    /**
+     * The unique (kind, token_key) constraint decides between processes which one revoked a key first
+     */
+    @Override
+    protected boolean onFirstRevoked(Kind kind, String key, long expiresAt) {
+        try {
+            revokedTokenRepository.save(new RevokedToken(kind, key, expiresAt));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+}
@@ -1,25 +1,40 @@
 package com.todoapp.service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.Key;
+import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
+import javax.crypto.Mac;
+
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import com.todoapp.diagnostics.JwtVerificationEvent;
+import com.todoapp.token.TokenRevocations;
+import com.todoapp.token.TokenVerifier;
+
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 
 /**
  * Enhanced JWT Service with security best practices
@@ -28,6 +43,19 @@ import io.jsonwebtoken.security.Keys;
 @Service
 public class JwtService {
 
+    private static final String FAMILY_CLAIM = TokenVerifier.FAMILY_CLAIM;
+    private static final long CLEANUP_INTERVAL = 1024;
+
+    private static final String ISSUER = TokenVerifier.ISSUER;
+    private static final String AUDIENCE = TokenVerifier.AUDIENCE;
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+    // Every token carries the same JOSE header, so its encoded segment is computed once
+    private static final String HEADER_SEGMENT =
+            BASE64_URL.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.US_ASCII));
+    private static final Set<String> REGISTERED_CLAIMS = Set.of(
+            Claims.SUBJECT, Claims.ID, Claims.ISSUED_AT, Claims.EXPIRATION, Claims.ISSUER, Claims.AUDIENCE);
+
     @Value("${jwt.secret}")
     private String secretKey;
 
@@ -37,11 +65,55 @@ public class JwtService {
     @Value("${jwt.refresh-token.expiration}")
     private long refreshExpiration;
 
-    // Token blacklist for logout functionality
-    private final Set<String> blacklistedTokens = ConcurrentHashMap.newKeySet();
+    // Logout blacklist and revoked refresh token families, shared with the reactive read stack
+    private final TokenRevocations revocations;
+
+    // Rotated refresh token IDs are revoked through the shared revocations, so rotation stays
+    // single-use across restarts and instances
+    private final AtomicLong rotations = new AtomicLong();
     
-    // Secure random for additional entropy
-    private final SecureRandom secureRandom = new SecureRandom();
+    // Striped secure randoms for token IDs; one shared instance serialises every login on its lock
+    private final SecureRandom[] secureRandoms = createRandomStripes();
+
+    // Derived once from jwt.secret: signing key, verifier and a prototype MAC cloned into a small pool.
+    // A pool rather than a ThreadLocal: on virtual threads every request is a new thread.
+    private Key signingKey;
+    private TokenVerifier tokenVerifier;
+    private Mac macPrototype;
+    private final BlockingQueue<Mac> macPool =
+            new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors() * 4);
+
+    private final Timer mintTimer;
+    private final Timer verifyValidTimer;
+    private final Timer verifyInvalidTimer;
+
+    public JwtService(MeterRegistry meterRegistry) {
+        this(meterRegistry, new TokenRevocations());
+    }
+
+    @Autowired
+    public JwtService(MeterRegistry meterRegistry, TokenRevocations revocations) {
+        this.revocations = revocations;
+        this.mintTimer = Timer.builder("auth.jwt.mint")
+                .description("Time to build and sign one JWT")
+                .register(meterRegistry);
+        this.verifyValidTimer = Timer.builder("auth.jwt.verify")
+                .description("Time to parse and validate a JWT")
+                .tag("outcome", "valid")
+                .register(meterRegistry);
+        this.verifyInvalidTimer = Timer.builder("auth.jwt.verify")
+                .description("Time to parse and validate a JWT")
+                .tag("outcome", "invalid")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void initSigningKey() throws GeneralSecurityException {
+        tokenVerifier = new TokenVerifier(secretKey, revocations);
+        signingKey = tokenVerifier.getSigningKey();
+        macPrototype = Mac.getInstance(MAC_ALGORITHM);
+        macPrototype.init(signingKey);
+    }
 
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
@@ -63,100 +135,220 @@ public class JwtService {
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
         // Add security claims
         extraClaims.put("type", "access");
-        extraClaims.put("iat", System.currentTimeMillis() / 1000);
         return buildToken(extraClaims, userDetails, jwtExpiration);
     }
 
     public String generateRefreshToken(UserDetails userDetails) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("type", "refresh");
-        claims.put("iat", System.currentTimeMillis() / 1000);
         return buildToken(claims, userDetails, refreshExpiration);
     }
 
+    /**
+     * Issue an access/refresh pair that starts a new token family.
+     * Every token of a family is revoked together if one of its refresh tokens is replayed.
+     */
+    public TokenPair issueTokenPair(UserDetails userDetails) {
+        return issueTokenPair(userDetails.getUsername(), generateSecureTokenId());
+    }
+
+    /**
+     * Exchange a refresh token for a new pair (single-use rotation).
+     * Costs one signature verification; no password hash or user lookup is needed.
+     * @return the new pair, or null if the token is invalid, expired, revoked or already used
+     */
+    public TokenPair rotateRefreshToken(String refreshToken) {
+        Claims claims;
+        try {
+            claims = extractAllClaims(refreshToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+
+        String tokenId = claims.getId();
+        String family = claims.get(FAMILY_CLAIM, String.class);
+        if (!TokenVerifier.REFRESH.equals(claims.get(TokenVerifier.TYPE_CLAIM)) || tokenId == null || family == null
+                || revocations.isFamilyRevokedInStore(family)) {
+            return null;
+        }
+
+        if (!revocations.revokeOnce(TokenRevocations.Kind.TOKEN, tokenId, claims.getExpiration().getTime())) {
+            // Reuse of a rotated or revoked refresh token: assume it was stolen and kill the whole family
+            revocations.revoke(TokenRevocations.Kind.FAMILY, family, System.currentTimeMillis() + refreshExpiration);
+            return null;
+        }
+
+        if (rotations.incrementAndGet() % CLEANUP_INTERVAL == 0) {
+            cleanupBlacklist();
+        }
+        return issueTokenPair(claims.getSubject(), family);
+    }
+
+    private TokenPair issueTokenPair(String username, String family) {
+        long now = System.currentTimeMillis();
+        return new TokenPair(
+                mintToken("access", family, null, username, now, jwtExpiration),
+                mintToken("refresh", family, null, username, now, refreshExpiration));
+    }
+
     private String buildToken(
             Map<String, Object> extraClaims,
             UserDetails userDetails,
             long expiration
     ) {
-        // Generate unique token ID for tracking
-        String tokenId = generateSecureTokenId();
-        
-        return Jwts
+        return buildToken(extraClaims, userDetails.getUsername(), expiration);
+    }
+
+    private String buildToken(
+            Map<String, Object> extraClaims,
+            String username,
+            long expiration
+    ) {
+        long now = System.currentTimeMillis();
+        if (hasOnlySimpleValues(extraClaims)) {
+            return mintToken(null, null, extraClaims, username, now, expiration);
+        }
+
+        // Claims the fast path cannot encode go through the generic builder
+        long start = System.nanoTime();
+        String token = Jwts
                 .builder()
                 .setClaims(extraClaims)
-                .setSubject(userDetails.getUsername())
-                .setId(tokenId)
-                .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .setIssuer("todoapp")
-                .setAudience("todoapp-client")
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .setSubject(username)
+                .setId(generateSecureTokenId())
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + expiration))
+                .setIssuer(ISSUER)
+                .setAudience(AUDIENCE)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
+        mintTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return token;
     }
 
     /**
-     * Enhanced token validation with blacklist checking
+     * Compact an HS256 JWS directly: the header segment is a constant, the payload is written
+     * straight to JSON and the signature comes from a pooled MAC. Produces the same claims
+     * the JJWT builder would; numeric dates are in seconds as required by RFC 7519.
      */
-    public boolean isTokenValid(String token, UserDetails userDetails) {
-        try {
-            // Check if token is blacklisted
-            if (isTokenBlacklisted(token)) {
-                return false;
+    private String mintToken(String type, String family, Map<String, Object> extraClaims,
+                             String username, long now, long expiration) {
+        long start = System.nanoTime();
+        StringBuilder json = new StringBuilder(256).append('{');
+        if (type != null) {
+            appendJsonMember(json, "type", type);
+        }
+        if (family != null) {
+            appendJsonMember(json, FAMILY_CLAIM, family);
+        }
+        if (extraClaims != null) {
+            for (Map.Entry<String, Object> claim : extraClaims.entrySet()) {
+                if (!REGISTERED_CLAIMS.contains(claim.getKey())) {
+                    appendJsonMember(json, claim.getKey(), claim.getValue());
+                }
             }
-            
-            final String username = extractUsername(token);
-            return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
         }
+        appendJsonMember(json, Claims.SUBJECT, username);
+        appendJsonMember(json, Claims.ID, generateSecureTokenId());
+        appendJsonMember(json, Claims.ISSUED_AT, now / 1000);
+        appendJsonMember(json, Claims.EXPIRATION, (now + expiration) / 1000);
+        appendJsonMember(json, Claims.ISSUER, ISSUER);
+        appendJsonMember(json, Claims.AUDIENCE, AUDIENCE);
+        json.append('}');
+
+        String signingInput = HEADER_SEGMENT + '.'
+                + BASE64_URL.encodeToString(json.toString().getBytes(StandardCharsets.UTF_8));
+        Mac mac = macPool.poll();
+        if (mac == null) {
+            mac = cloneMac();
+        }
+        byte[] signature = mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+        macPool.offer(mac);
+        String token = signingInput + '.' + BASE64_URL.encodeToString(signature);
+        mintTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return token;
     }
 
-    /**
-     * Validate refresh token
-     */
-    public boolean isRefreshTokenValid(String token, UserDetails userDetails) {
-        try {
-            if (isTokenBlacklisted(token)) {
+    private static boolean hasOnlySimpleValues(Map<String, Object> claims) {
+        for (Object value : claims.values()) {
+            if (!(value == null || value instanceof String || value instanceof Boolean
+                    || value instanceof Integer || value instanceof Long)) {
                 return false;
             }
-            
-            Claims claims = extractAllClaims(token);
-            String tokenType = (String) claims.get("type");
-            String username = claims.getSubject();
-            
-            return "refresh".equals(tokenType) && 
-                   username.equals(userDetails.getUsername()) && 
-                   !isTokenExpired(token);
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
+        }
+        return true;
+    }
+
+    private static void appendJsonMember(StringBuilder json, String name, Object value) {
+        if (json.length() > 1) {
+            json.append(',');
+        }
+        appendJsonString(json, name);
+        json.append(':');
+        if (value instanceof String string) {
+            appendJsonString(json, string);
+        } else {
+            json.append(value);
         }
     }
 
+    private static void appendJsonString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20) {
+                json.append(String.format("\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        json.append('"');
+    }
+
     /**
-     * Blacklist a token (for logout functionality)
+     * Enhanced token validation with blacklist checking
      */
-    public void blacklistToken(String token) {
-        try {
-            String tokenId = extractTokenId(token);
-            if (tokenId != null) {
-                blacklistedTokens.add(tokenId);
-            }
-        } catch (JwtException | IllegalArgumentException e) {
-            // Token might be malformed, but we still want to blacklist it
-            blacklistedTokens.add(token);
+    public boolean isTokenValid(String token, UserDetails userDetails) {
+        String username = resolveValidUsername(token);
+        return username != null && username.equals(userDetails.getUsername());
+    }
+
+    /**
+     * Parse and validate a token once, without loading the user.
+     * @return the token subject, or null if the token is invalid, expired, blacklisted or revoked
+     */
+    public String resolveValidUsername(String token) {
+        JwtVerificationEvent event = new JwtVerificationEvent();
+        event.begin();
+        long start = System.nanoTime();
+        String username = validateAndGetSubject(token);
+        Timer timer = username != null ? verifyValidTimer : verifyInvalidTimer;
+        timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        event.end();
+        if (event.shouldCommit()) {
+            event.valid = username != null;
+            event.commit();
         }
+        return username;
+    }
+
+    private String validateAndGetSubject(String token) {
+        return tokenVerifier.resolveAccessSubject(token);
     }
 
     /**
-     * Check if token is blacklisted
+     * Blacklist a token (for logout functionality)
      */
-    private boolean isTokenBlacklisted(String token) {
+    public void blacklistToken(String token) {
         try {
-            String tokenId = extractTokenId(token);
-            return tokenId != null && blacklistedTokens.contains(tokenId);
+            Claims claims = extractAllClaims(token);
+            if (claims.getId() != null) {
+                revocations.revoke(TokenRevocations.Kind.TOKEN, claims.getId(), claims.getExpiration().getTime());
+            }
         } catch (JwtException | IllegalArgumentException e) {
-            return blacklistedTokens.contains(token);
+            // Malformed or expired tokens are rejected by every check already
         }
     }
 
@@ -165,44 +357,65 @@ public class JwtService {
      */
     private String generateSecureTokenId() {
         byte[] randomBytes = new byte[16];
-        secureRandom.nextBytes(randomBytes);
-        return java.util.Base64.getUrlEncoder().withoutPadding().encodeToString(randomBytes);
+        // A random stripe per call spreads virtual threads too, whose ids are unique per request
+        SecureRandom stripe = secureRandoms[ThreadLocalRandom.current().nextInt() & (secureRandoms.length - 1)];
+        stripe.nextBytes(randomBytes);
+        return BASE64_URL.encodeToString(randomBytes);
     }
 
-    private boolean isTokenExpired(String token) {
-        try {
-            return extractExpiration(token).before(new Date());
-        } catch (ExpiredJwtException e) {
-            return true;
+    private static SecureRandom[] createRandomStripes() {
+        int stripes = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1)) << 1;
+        SecureRandom[] randoms = new SecureRandom[stripes];
+        for (int i = 0; i < stripes; i++) {
+            try {
+                // DRBG instances are independent; the platform default may share one global lock
+                randoms[i] = SecureRandom.getInstance("DRBG");
+            } catch (NoSuchAlgorithmException e) {
+                randoms[i] = new SecureRandom();
+            }
         }
+        return randoms;
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    private Mac cloneMac() {
+        try {
+            return (Mac) macPrototype.clone();
+        } catch (CloneNotSupportedException e) {
+            try {
+                Mac mac = Mac.getInstance(MAC_ALGORITHM);
+                mac.init(signingKey);
+                return mac;
+            } catch (GeneralSecurityException ex) {
+                throw new IllegalStateException("Cannot initialise " + MAC_ALGORITHM, ex);
+            }
+        }
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(getSignInKey())
-                .requireIssuer("todoapp")
-                .requireAudience("todoapp-client")
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
-    private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return tokenVerifier.parse(token);
     }
 
     /**
      * Clean up expired tokens from blacklist (should be called periodically)
      */
     public void cleanupBlacklist() {
-        // This would typically be implemented with a scheduled task
-        // For now, we'll keep it simple and rely on application restart
-        // In production, consider using Redis or database for token blacklist
+        // Revocations expire with the tokens they cover; rotateRefreshToken calls this periodically
+        revocations.removeExpired(System.currentTimeMillis());
+    }
+
+    /**
+     * Access token plus the refresh token that can renew it
+     */
+    public static class TokenPair {
+        private final String accessToken;
+        private final String refreshToken;
+
+        public TokenPair(String accessToken, String refreshToken) {
+            this.accessToken = accessToken;
+            this.refreshToken = refreshToken;
+        }
+
+        public String getAccessToken() { return accessToken; }
+        public String getRefreshToken() { return refreshToken; }
     }
 }
\ No newline at end of file
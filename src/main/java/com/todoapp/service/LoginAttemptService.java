@@ -0,0 +1,147 @@
+package com.todoapp.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * In-memory failed-login tracker keyed by username.
+ * Each failure adds one point to a score that halves every half-life; reaching the threshold locks
+ * the username, and every further lockout while the score is still high doubles the lock duration.
+ * Locked usernames are rejected before the password encoder runs, so a distributed guessing attack
+ * against one account costs a map lookup instead of a BCrypt verification.
+ */
+@Service
+public class LoginAttemptService {
+
+    // Failures a few seconds apart decay slightly; still treat N quick failures as reaching N
+    private static final double SCORE_TOLERANCE = 0.05;
+    // A prune leaves the map this far below max-tracked, so it runs once per batch of new usernames
+    private static final double PRUNE_TARGET = 0.9;
+
+    private final ConcurrentHashMap<String, AttemptState> attempts = new ConcurrentHashMap<>();
+    private final AtomicBoolean pruning = new AtomicBoolean();
+
+    private final double threshold;
+    private final long halfLifeMillis;
+    private final long baseLockoutMillis;
+    private final long maxLockoutMillis;
+    private final int maxTracked;
+    private final LongSupplier clock;
+
+    @Autowired
+    public LoginAttemptService(
+            @Value("${security.login.lockout.threshold:5}") double threshold,
+            @Value("${security.login.lockout.half-life-ms:900000}") long halfLifeMillis,
+            @Value("${security.login.lockout.base-duration-ms:60000}") long baseLockoutMillis,
+            @Value("${security.login.lockout.max-duration-ms:3600000}") long maxLockoutMillis,
+            @Value("${security.login.lockout.max-tracked:100000}") int maxTracked) {
+        this(threshold, halfLifeMillis, baseLockoutMillis, maxLockoutMillis, maxTracked, System::currentTimeMillis);
+    }
+
+    LoginAttemptService(double threshold, long halfLifeMillis, long baseLockoutMillis, long maxLockoutMillis,
+                        int maxTracked, LongSupplier clock) {
+        this.threshold = threshold;
+        this.halfLifeMillis = halfLifeMillis;
+        this.baseLockoutMillis = baseLockoutMillis;
+        this.maxLockoutMillis = maxLockoutMillis;
+        this.maxTracked = maxTracked;
+        this.clock = clock;
+    }
+
+    /**
+     * @return milliseconds until the username is unlocked, or 0 if it is not locked
+     */
+    public long getLockoutRemainingMillis(String username) {
+        AttemptState state = attempts.get(username);
+        if (state == null) {
+            return 0;
+        }
+        return Math.max(0, state.lockedUntil - clock.getAsLong());
+    }
+
+    public void recordFailure(String username) {
+        long now = clock.getAsLong();
+        attempts.compute(username, (key, state) -> {
+            double score = (state == null ? 0 : decayedScore(state, now)) + 1;
+            long lockedUntil = state == null ? 0 : state.lockedUntil;
+            int lockouts = state == null ? 0 : state.lockouts;
+
+            // A failure after the score has mostly decayed starts a fresh escalation
+            if (lockedUntil <= now && score < 2) {
+                lockouts = 0;
+            }
+            if (score >= threshold - SCORE_TOLERANCE && lockedUntil <= now) {
+                lockouts++;
+                long duration = baseLockoutMillis << Math.min(lockouts - 1, 30);
+                lockedUntil = now + Math.min(duration, maxLockoutMillis);
+            }
+            return new AttemptState(score, now, lockedUntil, lockouts);
+        });
+
+        if (attempts.size() > maxTracked) {
+            prune(now);
+        }
+    }
+
+    public void recordSuccess(String username) {
+        attempts.remove(username);
+    }
+
+    private double decayedScore(AttemptState state, long now) {
+        double halfLives = (double) (now - state.updatedAt) / halfLifeMillis;
+        return state.score * Math.pow(0.5, halfLives);
+    }
+
+    /**
+     * Keep memory bounded under username spraying: drop unlocked, mostly decayed entries, then, if
+     * spraying keeps scores up, evict the least recently updated entries, unlocked ones first
+     */
+    private void prune(long now) {
+        if (!pruning.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            attempts.values().removeIf(state -> state.lockedUntil <= now && decayedScore(state, now) < 1);
+            int excess = attempts.size() - (int) (maxTracked * PRUNE_TARGET);
+            if (excess <= 0) {
+                return;
+            }
+            List<Map.Entry<String, AttemptState>> entries = new ArrayList<>(attempts.entrySet());
+            entries.sort(Comparator.<Map.Entry<String, AttemptState>>comparingInt(
+                            entry -> entry.getValue().lockedUntil > now ? 1 : 0)
+                    .thenComparingLong(entry -> entry.getValue().updatedAt));
+            for (int i = 0; i < excess && i < entries.size(); i++) {
+                attempts.remove(entries.get(i).getKey(), entries.get(i).getValue());
+            }
+        } finally {
+            pruning.set(false);
+        }
+    }
+
+    int trackedCount() {
+        return attempts.size();
+    }
+
+    private static final class AttemptState {
+        private final double score;
+        private final long updatedAt;
+        private final long lockedUntil;
+        private final int lockouts;
+
+        private AttemptState(double score, long updatedAt, long lockedUntil, int lockouts) {
+            this.score = score;
+            this.updatedAt = updatedAt;
+            this.lockedUntil = lockedUntil;
+            this.lockouts = lockouts;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.todoapp.service;
+
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Password encoder that runs BCrypt on a dedicated, bounded executor instead of request threads.
+ * A login storm can then only occupy the hashing pool; when its queue is full, callers get a
+ * {@link PasswordHashingUnavailableException} immediately instead of tying up a Tomcat thread.
+ * The BCrypt cost is calibrated once at startup so one hash takes roughly the target latency.
+ */
+@Service
+public class PasswordHashingService implements PasswordEncoder {
+
+    private static final int CALIBRATION_SAMPLES = 5;
+
+    private final BCryptPasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final int strength;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer queueWaitTimer;
+    private final Counter queueFullCounter;
+    private final Counter timedOutCounter;
+
+    public PasswordHashingService(
+            MeterRegistry meterRegistry,
+            @Value("${security.password.hashing.threads:0}") int threads,
+            @Value("${security.password.hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${security.password.hashing.timeout-ms:5000}") long timeoutMillis,
+            @Value("${security.password.bcrypt.target-ms:250}") long targetMillis,
+            @Value("${security.password.bcrypt.min-strength:10}") int minStrength,
+            @Value("${security.password.bcrypt.max-strength:14}") int maxStrength) {
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.timeoutMillis = timeoutMillis;
+        this.strength = calibrateStrength(targetMillis, minStrength, maxStrength);
+        this.delegate = new BCryptPasswordEncoder(strength);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = Timer.builder("auth.password.hash")
+                .description("BCrypt computation time")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("auth.password.hash")
+                .description("BCrypt computation time")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("auth.password.queue.wait")
+                .description("Time a hashing task waited for a hashing thread")
+                .register(meterRegistry);
+        this.queueFullCounter = Counter.builder("auth.password.rejected")
+                .description("Hashing requests rejected because the hashing pool was saturated")
+                .tag("reason", "queue-full")
+                .register(meterRegistry);
+        this.timedOutCounter = Counter.builder("auth.password.rejected")
+                .description("Hashing requests rejected because the hashing pool was saturated")
+                .tag("reason", "timeout")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.queue.depth", executor, e -> e.getQueue().size())
+                .description("Hashing tasks waiting for a hashing thread")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Hashing threads busy, including hashes whose caller already timed out")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.bcrypt.strength", this, s -> s.strength)
+                .description("Calibrated BCrypt cost factor")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> encodeTimer.record(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    private <T> T submit(Callable<T> task) {
+        long enqueuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                return task.call();
+            });
+        } catch (RejectedExecutionException e) {
+            queueFullCounter.increment();
+            throw new PasswordHashingUnavailableException("Password hashing capacity exhausted");
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // Cancelling drops a task that is still queued, but BCrypt never checks the interrupt flag:
+            // a hash already running keeps its thread until it finishes (visible in auth.password.active)
+            future.cancel(true);
+            timedOutCounter.increment();
+            throw new PasswordHashingUnavailableException("Password hashing timed out");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException("Interrupted while waiting for password hashing");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", cause);
+        }
+    }
+
+    /**
+     * Pick the highest BCrypt cost whose hash time stays within the target.
+     * Each cost step doubles the work, so timing the minimum cost is enough; the median of a few
+     * probes keeps one GC pause or JIT compilation from skewing the cost for the whole run.
+     */
+    private static int calibrateStrength(long targetMillis, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(minStrength);
+        probe.encode("calibration-warmup");
+
+        long[] samples = new long[CALIBRATION_SAMPLES];
+        for (int i = 0; i < samples.length; i++) {
+            long start = System.nanoTime();
+            probe.encode("calibration-probe");
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        double measuredMillis = Math.max(samples[samples.length / 2] / 1_000_000.0, 0.001);
+
+        int extraSteps = (int) Math.floor(Math.log(targetMillis / measuredMillis) / Math.log(2));
+        return Math.max(minStrength, Math.min(maxStrength, minStrength + extraSteps));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,12 @@
+package com.todoapp.service;
+
+/**
+ * Thrown when the password hashing pool is saturated or too slow to answer in time.
+ * Mapped to 503 Service Unavailable so clients back off instead of piling up.
+ */
+public class PasswordHashingUnavailableException extends RuntimeException {
+
+    public PasswordHashingUnavailableException(String message) {
+        super(message);
+    }
+}
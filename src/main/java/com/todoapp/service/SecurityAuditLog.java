@@ -0,0 +1,334 @@
+package com.todoapp.service;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Asynchronous security audit log backed by a preallocated multi-producer ring buffer.
+ * Request threads claim a slot with one CAS and fill its fixed fields without allocating or
+ * taking a lock; a single consumer thread drains published slots in batches and writes them as
+ * JSON lines to a size-rolled file. When the buffer is full the configured overflow policy
+ * either drops the event (counted) or makes the producer wait for space.
+ */
+@Service
+public class SecurityAuditLog {
+
+    private static final Logger log = LoggerFactory.getLogger(SecurityAuditLog.class);
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    public enum OverflowPolicy {
+        DROP, BLOCK
+    }
+
+    private final Slot[] slots;
+    private final int mask;
+    private final AtomicLongArray published;
+    private final AtomicLong claimSequence = new AtomicLong();
+    private final AtomicLong consumerSequence = new AtomicLong();
+
+    private final LongAdder droppedEvents = new LongAdder();
+    private final LongAdder writtenEvents = new LongAdder();
+
+    private final OverflowPolicy overflowPolicy;
+    private final Path file;
+    private final long maxFileSize;
+    private final int maxHistory;
+    private final int batchSize;
+
+    private final StringBuilder line = new StringBuilder(256);
+    private Writer writer;
+    private long fileSize;
+
+    private volatile boolean running;
+    // Until stop(), BLOCK producers wait for space, also before the consumer has been started
+    private volatile boolean stopped;
+    private Thread consumer;
+
+    public SecurityAuditLog(
+            MeterRegistry meterRegistry,
+            @Value("${security.audit.buffer-size:8192}") int bufferSize,
+            @Value("${security.audit.overflow-policy:DROP}") OverflowPolicy overflowPolicy,
+            @Value("${security.audit.file:logs/security-audit.log}") String file,
+            @Value("${security.audit.max-file-size:10485760}") long maxFileSize,
+            @Value("${security.audit.max-history:5}") int maxHistory,
+            @Value("${security.audit.batch-size:256}") int batchSize) {
+
+        int capacity = Integer.highestOneBit(Math.max(2, bufferSize - 1)) << 1;
+        this.slots = new Slot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot();
+        }
+        this.mask = capacity - 1;
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1);
+        }
+
+        this.overflowPolicy = overflowPolicy;
+        this.file = Paths.get(file);
+        this.maxFileSize = maxFileSize;
+        this.maxHistory = maxHistory;
+        this.batchSize = batchSize;
+
+        FunctionCounter.builder("security.audit.events.dropped", droppedEvents, LongAdder::sum)
+                .description("Audit events dropped because the ring buffer was full or the sink failed")
+                .register(meterRegistry);
+        FunctionCounter.builder("security.audit.events.written", writtenEvents, LongAdder::sum)
+                .description("Audit events written to the audit file")
+                .register(meterRegistry);
+        Gauge.builder("security.audit.buffer.depth", this, SecurityAuditLog::getPendingEvents)
+                .description("Audit events waiting to be written")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        consumer = new Thread(this::drainLoop, "security-audit-writer");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    /**
+     * Record a security event. Never blocks under the DROP policy.
+     * @return false if the event was dropped
+     */
+    public boolean record(String event, String username, String clientIp, String userAgent) {
+        long sequence;
+        while (true) {
+            sequence = claimSequence.get();
+            if (sequence - consumerSequence.get() > mask) {
+                if (overflowPolicy == OverflowPolicy.DROP || stopped) {
+                    droppedEvents.increment();
+                    return false;
+                }
+                LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                continue;
+            }
+            if (claimSequence.compareAndSet(sequence, sequence + 1)) {
+                break;
+            }
+        }
+
+        int index = (int) (sequence & mask);
+        Slot slot = slots[index];
+        slot.timestamp = System.currentTimeMillis();
+        slot.event = event;
+        slot.username = username;
+        slot.clientIp = clientIp;
+        slot.userAgent = userAgent;
+        published.lazySet(index, sequence);
+        return true;
+    }
+
+    public long getDroppedEvents() {
+        return droppedEvents.sum();
+    }
+
+    public long getWrittenEvents() {
+        return writtenEvents.sum();
+    }
+
+    public long getPendingEvents() {
+        return Math.max(0, claimSequence.get() - consumerSequence.get());
+    }
+
+    /**
+     * Events of the claimed slots not yet drained, oldest first; null for a slot still being filled
+     */
+    List<String> pendingEventNames() {
+        List<String> events = new ArrayList<>();
+        for (long sequence = consumerSequence.get(); sequence < claimSequence.get(); sequence++) {
+            int index = (int) (sequence & mask);
+            events.add(published.get(index) == sequence ? slots[index].event : null);
+        }
+        return events;
+    }
+
+    private void drainLoop() {
+        while (running || getPendingEvents() > 0) {
+            int drained = drainBatch();
+            if (drained == 0) {
+                if (!running) {
+                    break;
+                }
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        closeWriter();
+    }
+
+    private int drainBatch() {
+        long next = consumerSequence.get();
+        int drained = 0;
+        while (drained < batchSize) {
+            int index = (int) (next & mask);
+            if (published.get(index) != next) {
+                break;
+            }
+            Slot slot = slots[index];
+            appendJson(slot);
+            slot.clear();
+            next++;
+            drained++;
+            // Hand the slot back to producers as soon as its fields have been copied out
+            consumerSequence.lazySet(next);
+            write();
+        }
+        if (drained > 0) {
+            flush();
+        }
+        return drained;
+    }
+
+    private void appendJson(Slot slot) {
+        line.setLength(0);
+        line.append("{\"timestamp\":\"").append(Instant.ofEpochMilli(slot.timestamp)).append('"');
+        appendField("event", slot.event);
+        appendField("username", slot.username);
+        appendField("ip", slot.clientIp);
+        appendField("userAgent", slot.userAgent);
+        line.append("}\n");
+    }
+
+    private void appendField(String name, String value) {
+        line.append(",\"").append(name).append("\":");
+        if (value == null) {
+            line.append("null");
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                line.append('\\').append(c);
+            } else if (c < 0x20 || c > 0x7e) {
+                // Escape control and non-ASCII characters so the file stays one event per ASCII line
+                line.append(String.format("\\u%04x", (int) c));
+            } else {
+                line.append(c);
+            }
+        }
+        line.append('"');
+    }
+
+    private void write() {
+        try {
+            if (writer == null || fileSize + line.length() > maxFileSize) {
+                roll();
+            }
+            writer.append(line);
+            fileSize += line.length();
+            writtenEvents.increment();
+        } catch (IOException e) {
+            droppedEvents.increment();
+            log.warn("Security audit event could not be written: {}", e.getMessage());
+            closeWriter();
+        }
+    }
+
+    private void flush() {
+        try {
+            if (writer != null) {
+                writer.flush();
+            }
+        } catch (IOException e) {
+            log.warn("Security audit log could not be flushed: {}", e.getMessage());
+            closeWriter();
+        }
+    }
+
+    private void roll() throws IOException {
+        closeWriter();
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        if (Files.exists(file) && Files.size(file) + line.length() > maxFileSize) {
+            for (int i = maxHistory - 1; i >= 1; i--) {
+                Path source = archive(i);
+                if (Files.exists(source)) {
+                    Files.move(source, archive(i + 1), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            if (maxHistory > 0) {
+                Files.move(file, archive(1), StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                Files.delete(file);
+            }
+        }
+        writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        fileSize = Files.size(file);
+    }
+
+    private Path archive(int index) {
+        return file.resolveSibling(file.getFileName() + "." + index);
+    }
+
+    private void closeWriter() {
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                log.warn("Security audit log could not be closed: {}", e.getMessage());
+            }
+            writer = null;
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        stopped = true;
+        running = false;
+        if (consumer != null) {
+            LockSupport.unpark(consumer);
+            consumer.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    /**
+     * Preallocated event slot; producers only overwrite its fields
+     */
+    private static final class Slot {
+        private long timestamp;
+        private String event;
+        private String username;
+        private String clientIp;
+        private String userAgent;
+
+        private void clear() {
+            event = null;
+            username = null;
+            clientIp = null;
+            userAgent = null;
+        }
+    }
+}
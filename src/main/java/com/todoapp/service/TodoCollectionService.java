@@ -1,24 +1,59 @@
 package com.todoapp.service;
 
+import com.todoapp.dto.FieldSelection;
 import com.todoapp.entity.TodoCollection;
 import com.todoapp.entity.User;
 import com.todoapp.repository.TodoCollectionRepository;
+import com.todoapp.repository.TodoRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import io.micrometer.observation.annotation.Observed;
+
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
+@Observed(name = "todoapp.service")
 public class TodoCollectionService {
 
     @Autowired
     private TodoCollectionRepository todoCollectionRepository;
 
+    @Autowired
+    private TodoRepository todoRepository;
+
     public List<TodoCollection> getAllCollectionsByUser(User user) {
         return todoCollectionRepository.findByUserOrderByCreatedAtDesc(user);
     }
 
+    /**
+     * Only the selected fields of the user's collections, newest first; the selected task fields
+     * of all of them are loaded with one more query, under "todos" and newest first like the task list
+     */
+    public List<Map<String, Object>> getCollectionFieldsByUser(User user, FieldSelection selection) {
+        List<Map<String, Object>> collections = todoCollectionRepository.findFieldsByUser(user, selection.fields());
+        if (!selection.todoFields().isEmpty()) {
+            List<Long> ids = new ArrayList<>(collections.size());
+            for (Map<String, Object> collection : collections) {
+                ids.add((Long) collection.get("id"));
+            }
+            Map<Long, List<Map<String, Object>>> todos =
+                    todoRepository.findFieldsByCollectionIds(ids, selection.todoFields());
+            for (Map<String, Object> collection : collections) {
+                collection.put("todos", todos.getOrDefault((Long) collection.get("id"), List.of()));
+            }
+        }
+        if (!selection.fields().contains("id")) {
+            for (Map<String, Object> collection : collections) {
+                collection.remove("id");
+            }
+        }
+        return collections;
+    }
+
     public Optional<TodoCollection> getCollectionByIdAndUser(Long id, User user) {
         return todoCollectionRepository.findByIdAndUser(id, user);
     }
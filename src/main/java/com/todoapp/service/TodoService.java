@@ -2,6 +2,7 @@ package com.todoapp.service;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.stereotype.Service;
@@ -9,10 +10,13 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.todoapp.entity.Todo;
 import com.todoapp.entity.TodoCollection;
+import com.todoapp.entity.User;
 import com.todoapp.repository.TodoRepository;
 import com.todoapp.service.strategy.TodoCompletionStrategy;
 import com.todoapp.service.strategy.TodoStrategyFactory;
 
+import io.micrometer.observation.annotation.Observed;
+
 /**
  * Todo service following SOLID principles.
  * Follows Dependency Inversion Principle (DIP) - depends on abstractions (interfaces).
@@ -21,6 +25,7 @@ import com.todoapp.service.strategy.TodoStrategyFactory;
  */
 @Service
 @Transactional
+@Observed(name = "todoapp.service")
 public class TodoService {
 
     private final TodoRepository todoRepository;
@@ -40,10 +45,24 @@ public class TodoService {
         return todoRepository.findByCollectionOrderByCreatedAtDesc(collection);
     }
 
+    /**
+     * Only the given fields of the collection's todos, newest first
+     */
+    public List<Map<String, Object>> getTodoFieldsByCollection(TodoCollection collection, List<String> fields) {
+        return todoRepository.findFieldsByCollectionId(collection.getId(), fields);
+    }
+
     public Optional<Todo> getTodoByIdAndCollection(Long id, TodoCollection collection) {
         return todoRepository.findByIdAndCollection(id, collection);
     }
 
+    /**
+     * The todo in any of the user's collections, found with one query
+     */
+    public Optional<Todo> getTodoByIdAndUser(Long id, User user) {
+        return todoRepository.findByIdAndCollectionUser(id, user);
+    }
+
     public Todo createTodo(Todo todo) {
         return todoRepository.save(todo);
     }
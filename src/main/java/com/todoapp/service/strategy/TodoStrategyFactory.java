@@ -2,6 +2,7 @@ package com.todoapp.service.strategy;
 
 import org.springframework.stereotype.Component;
 
+import com.todoapp.diagnostics.StrategyDispatchEvent;
 import com.todoapp.entity.Todo;
 
 /**
@@ -32,11 +33,19 @@ public class TodoStrategyFactory {
      * @throws IllegalArgumentException if todo type is not supported
      */
     public TodoCompletionStrategy getStrategy(Todo.TodoType type) {
-        return switch (type) {
+        TodoCompletionStrategy strategy = switch (type) {
             case STANDARD -> standardStrategy;
             case DEADLINE -> deadlineStrategy;
             case SAVING -> savingStrategy;
         };
+
+        StrategyDispatchEvent event = new StrategyDispatchEvent();
+        if (event.shouldCommit()) {
+            event.todoType = type.name();
+            event.strategy = strategy.getClass();
+            event.commit();
+        }
+        return strategy;
     }
     
     /**
@@ -0,0 +1,186 @@
+package com.todoapp.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * Single-pass scanner for the XSS and SQL signatures checked by {@link SecurityValidator}.
+ *
+ * The literal signatures are compiled into one Aho-Corasick automaton over ASCII-folded
+ * characters, so a string is classified in a single traversal without lowercasing or regex
+ * backtracking. The {@code <tag[^>]*>.*?</tag>} patterns are tracked with a small per-tag state
+ * machine layered on top of the automaton (opening tag pending, tag body open on the current line).
+ *
+ * Results are identical to the regex chain it replaces: the regexes are ASCII case-insensitive
+ * and every signature is pure ASCII, so folding only A-Z is exact.
+ */
+final class SecurityScanner {
+
+    static final int XSS = 1;
+    static final int SQL = 1 << 1;
+
+    private static final int OPEN_SHIFT = 2;
+    private static final int CLOSE_SHIFT = 6;
+    private static final int TAG_MASK = 0xF;
+    private static final int ALPHABET = 128;
+
+    private static final String[] XSS_LITERALS = {
+        "javascript:", "vbscript:", "onload=", "onclick=", "onerror="
+    };
+
+    // Paired tag patterns: <tag[^>]*>.*?</tag>
+    private static final String[] XSS_TAGS = {
+        "script", "iframe", "object", "embed"
+    };
+
+    private static final String[] SQL_KEYWORDS = {
+        "union", "select", "insert", "update", "delete", "drop", "create", "alter",
+        "exec", "execute", "sp_", "xp_", "'-", "\"", ";", "--", "/*", "*/"
+    };
+
+    private static final SecurityScanner INSTANCE = new SecurityScanner();
+
+    // Dense DFA transition table: next state = delta[state * ALPHABET + folded char]
+    private final int[] delta;
+    // Bit set of signatures ending at each state (including those reached via failure links)
+    private final int[] output;
+
+    private SecurityScanner() {
+        List<int[]> gotoTable = new ArrayList<>();
+        List<Integer> outputs = new ArrayList<>();
+        gotoTable.add(newRow());
+        outputs.add(0);
+
+        for (String literal : XSS_LITERALS) {
+            addPattern(gotoTable, outputs, literal, XSS);
+        }
+        for (String keyword : SQL_KEYWORDS) {
+            addPattern(gotoTable, outputs, keyword, SQL);
+        }
+        for (int i = 0; i < XSS_TAGS.length; i++) {
+            addPattern(gotoTable, outputs, "<" + XSS_TAGS[i], 1 << (OPEN_SHIFT + i));
+            addPattern(gotoTable, outputs, "</" + XSS_TAGS[i] + ">", 1 << (CLOSE_SHIFT + i));
+        }
+
+        int states = gotoTable.size();
+        this.delta = new int[states * ALPHABET];
+        this.output = new int[states];
+        int[] fail = new int[states];
+
+        // Breadth-first construction of failure links, folded directly into a full DFA
+        Queue<Integer> queue = new ArrayDeque<>();
+        int[] root = gotoTable.get(0);
+        for (int c = 0; c < ALPHABET; c++) {
+            int next = root[c];
+            if (next > 0) {
+                fail[next] = 0;
+                queue.add(next);
+                delta[c] = next;
+            } else {
+                delta[c] = 0;
+            }
+        }
+        output[0] = outputs.get(0);
+
+        while (!queue.isEmpty()) {
+            int state = queue.remove();
+            output[state] = outputs.get(state) | output[fail[state]];
+            int[] row = gotoTable.get(state);
+            for (int c = 0; c < ALPHABET; c++) {
+                int next = row[c];
+                if (next > 0) {
+                    fail[next] = delta[fail[state] * ALPHABET + c];
+                    queue.add(next);
+                    delta[state * ALPHABET + c] = next;
+                } else {
+                    delta[state * ALPHABET + c] = delta[fail[state] * ALPHABET + c];
+                }
+            }
+        }
+    }
+
+    static SecurityScanner getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Scan the input once and report which signature classes it contains.
+     * @param input the string to scan
+     * @param stopOn signature bits after which scanning may stop early
+     * @return bit set of {@link #XSS} and {@link #SQL}
+     */
+    int scan(String input, int stopOn) {
+        return scan(input, 0, input.length(), stopOn);
+    }
+
+    int scan(String input, int from, int to, int stopOn) {
+        int state = 0;
+        int hits = 0;
+        int openPending = 0;
+        int inBody = 0;
+
+        for (int i = from; i < to; i++) {
+            char c = input.charAt(i);
+            if (c < ALPHABET) {
+                state = delta[state * ALPHABET + fold(c)];
+                int out = output[state];
+                if (out != 0) {
+                    hits |= out & (XSS | SQL);
+                    if (((out >>> CLOSE_SHIFT) & inBody) != 0) {
+                        hits |= XSS;
+                    }
+                    openPending |= (out >>> OPEN_SHIFT) & TAG_MASK;
+                    if ((hits & stopOn) != 0) {
+                        return hits;
+                    }
+                }
+                if (c == '>') {
+                    inBody |= openPending;
+                    openPending = 0;
+                } else if (c == '\n' || c == '\r') {
+                    inBody = 0;
+                }
+            } else {
+                // No signature contains non-ASCII characters
+                state = 0;
+                if (isLineTerminator(c)) {
+                    inBody = 0;
+                }
+            }
+        }
+        return hits;
+    }
+
+    private static char fold(char c) {
+        return (c >= 'A' && c <= 'Z') ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    // Line terminators that "." does not match without DOTALL
+    private static boolean isLineTerminator(char c) {
+        return c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    private static int[] newRow() {
+        int[] row = new int[ALPHABET];
+        Arrays.fill(row, -1);
+        return row;
+    }
+
+    private static void addPattern(List<int[]> gotoTable, List<Integer> outputs, String pattern, int bit) {
+        int state = 0;
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            int[] row = gotoTable.get(state);
+            if (row[c] < 0) {
+                row[c] = gotoTable.size();
+                gotoTable.add(newRow());
+                outputs.add(0);
+            }
+            state = row[c];
+        }
+        outputs.set(state, outputs.get(state) | bit);
+    }
+}
@@ -19,7 +19,7 @@ public class SecurityValidator {
     private static final Pattern TITLE_PATTERN = Pattern.compile("^[a-zA-Z0-9\\s\\-_.,!?]{1,100}$");
     private static final Pattern DESCRIPTION_PATTERN = Pattern.compile("^[a-zA-Z0-9\\s\\-_.,!?\\n\\r]{0,500}$");
     
-    // XSS patterns to block
+    // XSS patterns to strip when sanitizing; detection uses the equivalent SecurityScanner automaton
     private static final Pattern[] XSS_PATTERNS = {
         Pattern.compile("<script[^>]*>.*?</script>", Pattern.CASE_INSENSITIVE),
         Pattern.compile("javascript:", Pattern.CASE_INSENSITIVE),
@@ -32,6 +32,8 @@ public class SecurityValidator {
         Pattern.compile("<embed[^>]*>.*?</embed>", Pattern.CASE_INSENSITIVE)
     };
 
+    private final SecurityScanner scanner = SecurityScanner.getInstance();
+
     /**
      * Validate username format
      */
@@ -76,7 +78,9 @@ public class SecurityValidator {
     }
 
     /**
-     * Sanitize input by removing potentially dangerous content
+     * Sanitize input by removing potentially dangerous content.
+     * Clean input (the common case) is classified and encoded in one scan; only input that
+     * actually contains an XSS signature falls back to the pattern-by-pattern removal.
      */
     public String sanitizeInput(String input) {
         if (input == null) {
@@ -85,24 +89,56 @@ public class SecurityValidator {
 
         String sanitized = input.trim();
 
-        // Remove potential XSS content
-        for (Pattern pattern : XSS_PATTERNS) {
-            sanitized = pattern.matcher(sanitized).replaceAll("");
+        if ((scanner.scan(sanitized, SecurityScanner.XSS) & SecurityScanner.XSS) != 0) {
+            // Remove potential XSS content
+            for (Pattern pattern : XSS_PATTERNS) {
+                sanitized = pattern.matcher(sanitized).replaceAll("");
+            }
         }
 
-        // Remove HTML tags
-        sanitized = sanitized.replaceAll("<[^>]*>", "");
+        return stripTagsAndEncode(sanitized);
+    }
 
-        // Encode special characters
-        sanitized = sanitized
-            .replace("&", "&amp;")
-            .replace("<", "&lt;")
-            .replace(">", "&gt;")
-            .replace("\"", "&quot;")
-            .replace("'", "&#x27;")
-            .replace("/", "&#x2F;");
+    /**
+     * Equivalent to {@code replaceAll("<[^>]*>", "")} followed by HTML entity encoding,
+     * in a single pass and without allocating when nothing needs to change.
+     */
+    private static String stripTagsAndEncode(String input) {
+        int length = input.length();
+        int lastGt = -1;
+        boolean needsWork = false;
+        for (int i = 0; i < length; i++) {
+            char c = input.charAt(i);
+            if (c == '>') {
+                lastGt = i;
+                needsWork = true;
+            } else if (c == '&' || c == '<' || c == '"' || c == '\'' || c == '/') {
+                needsWork = true;
+            }
+        }
+        if (!needsWork) {
+            return input;
+        }
 
-        return sanitized;
+        StringBuilder out = new StringBuilder(length + 16);
+        for (int i = 0; i < length; i++) {
+            char c = input.charAt(i);
+            if (c == '<' && i < lastGt) {
+                // Drop the whole tag up to the next '>'
+                i = input.indexOf('>', i);
+                continue;
+            }
+            switch (c) {
+                case '&' -> out.append("&amp;");
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&#x27;");
+                case '/' -> out.append("&#x2F;");
+                default -> out.append(c);
+            }
+        }
+        return out.toString();
     }
 
     /**
@@ -112,19 +148,7 @@ public class SecurityValidator {
         if (input == null) {
             return false;
         }
-
-        String lowerInput = input.toLowerCase();
-        String[] sqlKeywords = {
-            "union", "select", "insert", "update", "delete", "drop", "create", "alter",
-            "exec", "execute", "sp_", "xp_", "'-", "\"", ";", "--", "/*", "*/"
-        };
-
-        for (String keyword : sqlKeywords) {
-            if (lowerInput.contains(keyword)) {
-                return true;
-            }
-        }
-        return false;
+        return (scanner.scan(input, SecurityScanner.SQL) & SecurityScanner.SQL) != 0;
     }
 
     /**
@@ -134,13 +158,7 @@ public class SecurityValidator {
         if (input == null) {
             return false;
         }
-
-        for (Pattern pattern : XSS_PATTERNS) {
-            if (pattern.matcher(input).find()) {
-                return true;
-            }
-        }
-        return false;
+        return (scanner.scan(input, SecurityScanner.XSS) & SecurityScanner.XSS) != 0;
     }
 
     /**
@@ -151,13 +169,13 @@ public class SecurityValidator {
             return new ValidationResult(false, "Input cannot be null");
         }
 
-        // Check for XSS
-        if (containsXSS(input)) {
+        // Check for XSS and SQL injection in a single scan (XSS takes precedence)
+        int threats = scanner.scan(input, SecurityScanner.XSS);
+        if ((threats & SecurityScanner.XSS) != 0) {
             return new ValidationResult(false, "Input contains potentially malicious content");
         }
 
-        // Check for SQL injection
-        if (containsSqlInjection(input)) {
+        if ((threats & SecurityScanner.SQL) != 0) {
             return new ValidationResult(false, "Input contains potentially dangerous SQL content");
         }
 
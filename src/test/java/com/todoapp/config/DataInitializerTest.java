@@ -0,0 +1,64 @@
+package com.todoapp.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.todoapp.entity.User;
+import com.todoapp.repository.UserRepository;
+
+/**
+ * The default account is seeded only when a password is configured, and with that password
+ */
+class DataInitializerTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+
+    @Test
+    void nothingIsSeededWithoutPassword() throws Exception {
+        initializer("").run();
+
+        verify(userRepository, never()).save(any());
+    }
+
+    @Test
+    void configuredPasswordIsSeeded() throws Exception {
+        when(passwordEncoder.encode("local-secret")).thenReturn("encoded");
+
+        initializer("local-secret").run();
+
+        ArgumentCaptor<User> saved = ArgumentCaptor.forClass(User.class);
+        verify(userRepository).save(saved.capture());
+        assertEquals("dev", saved.getValue().getUsername());
+        assertEquals("encoded", saved.getValue().getPassword());
+        assertEquals(User.Role.USER, saved.getValue().getRole());
+    }
+
+    @Test
+    void existingAccountIsLeftAlone() throws Exception {
+        when(userRepository.existsByUsername("dev")).thenReturn(true);
+
+        initializer("local-secret").run();
+
+        verify(userRepository, never()).save(any());
+    }
+
+    private DataInitializer initializer(String password) {
+        DataInitializer initializer = new DataInitializer();
+        ReflectionTestUtils.setField(initializer, "userRepository", userRepository);
+        ReflectionTestUtils.setField(initializer, "passwordEncoder", passwordEncoder);
+        ReflectionTestUtils.setField(initializer, "username", "dev");
+        ReflectionTestUtils.setField(initializer, "email", "dev@example.com");
+        ReflectionTestUtils.setField(initializer, "password", password);
+        return initializer;
+    }
+}
@@ -0,0 +1,55 @@
+package com.todoapp.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.todoapp.config.RateLimitingConfig.RateLimiter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Only the issued exemption key, while it is current, lifts the per-client limits
+ */
+class RateLimiterTest {
+
+    private final RateLimiter rateLimiter = new RateLimitingConfig().rateLimiter(new SimpleMeterRegistry());
+
+    @Test
+    void issuedKeyIsExemptUntilRevoked() throws Exception {
+        String key = rateLimiter.issueExemption();
+        for (int i = 0; i < 10; i++) {
+            assertTrue(login(key), "exempt login " + i);
+        }
+
+        rateLimiter.revokeExemption();
+        int allowed = 0;
+        for (int i = 0; i < 10; i++) {
+            allowed += login(key) ? 1 : 0;
+        }
+        assertEquals(5, allowed);
+    }
+
+    @Test
+    void otherKeysAreLimited() throws Exception {
+        rateLimiter.issueExemption();
+        for (int i = 0; i < 5; i++) {
+            assertTrue(login("guess"));
+        }
+        assertFalse(login("guess"));
+        assertFalse(login(null));
+    }
+
+    private boolean login(String exemptionKey) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setRemoteAddr("10.0.46.1");
+        if (exemptionKey != null) {
+            request.addHeader(RateLimiter.EXEMPTION_HEADER, exemptionKey);
+        }
+        return rateLimiter.tryAcquire(request, new MockHttpServletResponse());
+    }
+}
@@ -0,0 +1,85 @@
+package com.todoapp.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.todoapp.config.RateLimitingConfig.RateLimiter;
+import com.todoapp.repository.TodoCollectionRepository;
+import com.todoapp.repository.TodoRepository;
+import com.todoapp.repository.UserRepository;
+
+/**
+ * Warm-up runs against the real server during startup, leaves no data behind and gives up its
+ * rate-limit exemption when it is done
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"warmup.enabled=true", "warmup.iterations=2"})
+@ActiveProfiles("test")
+class WarmupRunnerTest {
+
+    @Autowired
+    private WarmupRunner warmupRunner;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoCollectionRepository collectionRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void iterationsCompleteWithoutFailures() {
+        WarmupRunner.Summary summary = warmupRunner.getSummary();
+        assertNotNull(summary);
+        assertEquals(2, summary.completed());
+        assertEquals(0, summary.failed());
+    }
+
+    @Test
+    void scratchDataIsDeleted() {
+        String username = warmupRunner.getSummary().username();
+        assertTrue(userRepository.findByUsername(username).isEmpty());
+        assertTrue(collectionRepository.findAll().stream().noneMatch(c -> "Warm-up".equals(c.getName())));
+        assertTrue(todoRepository.findAll().stream().noneMatch(t -> "Holiday fund".equals(t.getTitle())));
+    }
+
+    @Test
+    void exemptionKeyIsRevoked() {
+        String exemptionKey = (String) ReflectionTestUtils.getField(warmupRunner, "exemptionKey");
+        assertNotNull(exemptionKey);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set(RateLimiter.EXEMPTION_HEADER, exemptionKey);
+        headers.set("X-Forwarded-For", "10.0.46.2");
+        HttpEntity<Map<String, String>> refresh = new HttpEntity<>(Map.of("refreshToken", "not-a-token"), headers);
+
+        // Ten auth requests a minute per client: the eleventh is limited unless the key still exempts it
+        for (int i = 0; i < 10; i++) {
+            restTemplate.postForEntity("/api/auth/refresh", refresh, String.class);
+        }
+        ResponseEntity<String> limited = restTemplate.postForEntity("/api/auth/refresh", refresh, String.class);
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, limited.getStatusCode());
+        assertTrue(limited.getBody().contains("Rate limit exceeded"), limited.getBody());
+    }
+}
@@ -0,0 +1,127 @@
+package com.todoapp.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.todoapp.diagnostics.QueryBudget;
+
+/**
+ * Login loads the user once and register writes it once: the statements of each request are
+ * counted by the query budget on the proxied DataSource.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AuthControllerTest {
+
+    private static final String PASSWORD = "Sec0nd!pass";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private QueryBudget queryBudget;
+
+    @BeforeEach
+    void resetQueryBudget() {
+        queryBudget.reset();
+    }
+
+    @Test
+    void registerRunsOneInsert() throws Exception {
+        register("auth_register", "10.0.29.1")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").isNotEmpty());
+
+        assertEquals(1, queryBudget.getMaxStatementsByRoute().get("POST /api/auth/register"));
+    }
+
+    @Test
+    void duplicateUsernameIsReported() throws Exception {
+        register("auth_dup_name", "10.0.29.4").andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/auth/register")
+                        .with(request -> {
+                            request.setRemoteAddr("10.0.29.4");
+                            return request;
+                        })
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(registration("auth_dup_name", "auth_dup_other@example.com")))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("User with this username already exists"));
+    }
+
+    @Test
+    void duplicateEmailIsReported() throws Exception {
+        register("auth_dup_mail", "10.0.29.5").andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/auth/register")
+                        .with(request -> {
+                            request.setRemoteAddr("10.0.29.5");
+                            return request;
+                        })
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(registration("auth_dup_other", "auth_dup_mail@example.com")))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("User with this email already exists"));
+    }
+
+    @Test
+    void loginRunsOneUserLoad() throws Exception {
+        register("auth_login", "10.0.29.2").andExpect(status().isOk());
+        queryBudget.reset();
+
+        mockMvc.perform(post("/api/auth/login")
+                        .with(request -> {
+                            request.setRemoteAddr("10.0.29.2");
+                            return request;
+                        })
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"auth_login\",\"password\":\"" + PASSWORD + "\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").isNotEmpty());
+
+        assertEquals(1, queryBudget.getMaxStatementsByRoute().get("POST /api/auth/login"));
+    }
+
+    @Test
+    void failedLoginRunsOneUserLoad() throws Exception {
+        mockMvc.perform(post("/api/auth/login")
+                        .with(request -> {
+                            request.setRemoteAddr("10.0.29.3");
+                            return request;
+                        })
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"auth_nobody\",\"password\":\"" + PASSWORD + "\"}"))
+                .andExpect(status().isBadRequest());
+
+        assertEquals(1, queryBudget.getMaxStatementsByRoute().get("POST /api/auth/login"));
+    }
+
+    private ResultActions register(String username, String clientAddress) throws Exception {
+        return mockMvc.perform(post("/api/auth/register")
+                .with(request -> {
+                    request.setRemoteAddr(clientAddress);
+                    return request;
+                })
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(registration(username, username + "@example.com")));
+    }
+
+    private static String registration(String username, String email) {
+        return "{\"username\":\"" + username + "\",\"name\":\"Test User\",\"email\":\"" + email
+                + "\",\"password\":\"" + PASSWORD + "\",\"confirmPassword\":\"" + PASSWORD + "\"}";
+    }
+}
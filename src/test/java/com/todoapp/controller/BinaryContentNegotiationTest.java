@@ -0,0 +1,130 @@
+package com.todoapp.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.todoapp.repository.TodoCollectionRepository;
+import com.todoapp.repository.TodoRepository;
+import com.todoapp.repository.UserRepository;
+import com.todoapp.service.JwtService;
+
+/**
+ * CBOR and Smile responses decode to the same document as the JSON response, and request bodies
+ * in either encoding bind like JSON ones.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BinaryContentNegotiationTest {
+
+    private static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    private final ObjectMapper jsonMapper = new ObjectMapper();
+    private final Map<MediaType, ObjectMapper> binaryMappers = Map.of(CBOR, new CBORMapper(), SMILE, new SmileMapper());
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoCollectionRepository collectionRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    private TestData.Account account;
+
+    @BeforeEach
+    void setUp() {
+        account = new TestData(userRepository, collectionRepository, todoRepository, jwtService)
+                .account("binary", 2, 2);
+    }
+
+    @Test
+    void cborListingMatchesJson() throws Exception {
+        assertEquals(listing(MediaType.APPLICATION_JSON), listing(CBOR));
+    }
+
+    @Test
+    void smileListingMatchesJson() throws Exception {
+        assertEquals(listing(MediaType.APPLICATION_JSON), listing(SMILE));
+    }
+
+    @Test
+    void cborBodyCreatesACollection() throws Exception {
+        assertCreated(CBOR);
+    }
+
+    @Test
+    void smileBodyCreatesACollection() throws Exception {
+        assertCreated(SMILE);
+    }
+
+    private JsonNode listing(MediaType mediaType) throws Exception {
+        byte[] body = mockMvc.perform(authenticated(get("/api/collections")).accept(mediaType))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(mediaType))
+                .andReturn().getResponse().getContentAsByteArray();
+        return decode(mediaType, body);
+    }
+
+    private void assertCreated(MediaType mediaType) throws Exception {
+        ObjectMapper mapper = binaryMappers.get(mediaType);
+        byte[] request = mapper.writeValueAsBytes(Map.of("name", "Groceries", "description", "Weekly"));
+
+        byte[] body = mockMvc.perform(authenticated(post("/api/collections"))
+                        .contentType(mediaType)
+                        .accept(mediaType)
+                        .content(request))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(mediaType))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode response = decode(mediaType, body);
+        assertTrue(response.get("success").asBoolean(), response::toString);
+        assertEquals("Groceries", response.at("/data/name").asText());
+        assertEquals("Weekly", response.at("/data/description").asText());
+    }
+
+    /**
+     * Decodes a body and re-reads it as JSON text, so numbers compare equal whichever encoding carried them
+     */
+    private JsonNode decode(MediaType mediaType, byte[] body) throws Exception {
+        ObjectMapper mapper = MediaType.APPLICATION_JSON.equals(mediaType) ? jsonMapper : binaryMappers.get(mediaType);
+        return jsonMapper.readTree(jsonMapper.writeValueAsString(mapper.readTree(body)));
+    }
+
+    private MockHttpServletRequestBuilder authenticated(MockHttpServletRequestBuilder request) {
+        return request.header("Authorization", "Bearer " + account.token())
+                .with(servletRequest -> {
+                    servletRequest.setRemoteAddr("10.0.49.1");
+                    return servletRequest;
+                });
+    }
+}
@@ -0,0 +1,137 @@
+package com.todoapp.controller;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.todoapp.diagnostics.LocalSpanExporter;
+import com.todoapp.diagnostics.TracesEndpoint;
+import com.todoapp.repository.TodoCollectionRepository;
+import com.todoapp.repository.TodoRepository;
+import com.todoapp.repository.UserRepository;
+import com.todoapp.service.JwtService;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+
+/**
+ * Every request is sampled: a collection listing is one trace from the edge filter down to its SQL,
+ * and the traces endpoint reports a statement that ran twice in one trace.
+ */
+@SpringBootTest(properties = "management.tracing.sampling.probability=1.0")
+@AutoConfigureMockMvc
+@AutoConfigureObservability(metrics = false)
+@ActiveProfiles("test")
+class CollectionTracingTest {
+
+    private static final AttributeKey<String> FILTER = AttributeKey.stringKey("filter");
+    private static final AttributeKey<String> CLASS = AttributeKey.stringKey("class");
+    private static final AttributeKey<String> JDBC_QUERY = AttributeKey.stringKey("jdbc.query[0]");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private LocalSpanExporter spanExporter;
+
+    @Autowired
+    private TracesEndpoint tracesEndpoint;
+
+    @Autowired
+    private SdkTracerProvider tracerProvider;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoCollectionRepository collectionRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    private TestData.Account account;
+
+    @BeforeEach
+    void setUp() {
+        account = new TestData(userRepository, collectionRepository, todoRepository, jwtService)
+                .account("tracing", 2, 2);
+        // Drop the spans of the setup statements
+        finishedSpans();
+        spanExporter.clear();
+    }
+
+    @Test
+    void collectionRequestIsOneTraceDownToItsStatements() throws Exception {
+        mockMvc.perform(authenticated(get("/api/collections")))
+                .andExpect(status().isOk());
+
+        List<SpanData> spans = finishedSpans();
+        String traceId = spans.stream()
+                .filter(span -> "edge".equals(span.getAttributes().get(FILTER)))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No edge filter span in " + spans))
+                .getTraceId();
+        List<SpanData> trace = spans.stream().filter(span -> span.getTraceId().equals(traceId)).toList();
+
+        assertTrue(trace.stream().anyMatch(span -> "jwt".equals(span.getAttributes().get(FILTER))), trace::toString);
+        assertTrue(trace.stream().anyMatch(span -> isClass(span, "TodoCollectionController")), trace::toString);
+        assertTrue(trace.stream().anyMatch(span -> isClass(span, "TodoCollectionService")), trace::toString);
+        assertTrue(trace.stream().anyMatch(span -> span.getAttributes().get(JDBC_QUERY) != null), trace::toString);
+    }
+
+    @Test
+    void statementRunTwiceInOneTraceIsReported() throws Exception {
+        // Two listings made under one client trace run the same statements twice in that trace
+        String traceId = "4bf92f3577b34da6a3ce929d0e0e4736";
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(authenticated(get("/api/collections"))
+                            .header("traceparent", "00-" + traceId + "-00f067aa0ba902b7-01"))
+                    .andExpect(status().isOk());
+        }
+        finishedSpans();
+
+        Map<String, Object> summary = tracesEndpoint.traces().stream()
+                .filter(trace -> traceId.equals(trace.get("traceId")))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("Trace " + traceId + " not reported"));
+        assertFalse(((Map<?, ?>) summary.get("repeatedStatements")).isEmpty(), summary::toString);
+    }
+
+    private List<SpanData> finishedSpans() {
+        // Spans reach the exporter through a batch processor
+        tracerProvider.forceFlush().join(10, TimeUnit.SECONDS);
+        return spanExporter.getSpans();
+    }
+
+    private static boolean isClass(SpanData span, String simpleName) {
+        String className = span.getAttributes().get(CLASS);
+        return className != null && className.endsWith(simpleName);
+    }
+
+    private MockHttpServletRequestBuilder authenticated(MockHttpServletRequestBuilder request) {
+        return request.header("Authorization", "Bearer " + account.token())
+                .with(servletRequest -> {
+                    servletRequest.setRemoteAddr("10.0.40.1");
+                    return servletRequest;
+                });
+    }
+}
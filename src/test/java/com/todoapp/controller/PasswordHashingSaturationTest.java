@@ -0,0 +1,130 @@
+package com.todoapp.controller;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.todoapp.service.PasswordHashingService;
+
+/**
+ * With the hashing pool busy and its queue full, register answers 503 with Retry-After
+ * instead of waiting for a hashing thread.
+ */
+@SpringBootTest(properties = {
+        "security.password.hashing.threads=1",
+        "security.password.hashing.queue-capacity=1"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PasswordHashingSaturationTest {
+
+    private static final String PASSWORD = "Sec0nd!pass";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PasswordHashingService passwordHashingService;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void releaseHashingThread() {
+        release.countDown();
+    }
+
+    @Test
+    void saturatedPoolAnswersServiceUnavailable() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        Thread holder = background(new HeldPassword(started, release));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Thread queued = background("queued");
+
+        try {
+            mockMvc.perform(post("/api/auth/register")
+                            .with(request -> {
+                                request.setRemoteAddr("10.0.27.1");
+                                return request;
+                            })
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"username\":\"hash_busy\",\"name\":\"Test User\",\"email\":\"hash_busy@example.com\","
+                                    + "\"password\":\"" + PASSWORD + "\",\"confirmPassword\":\"" + PASSWORD + "\"}"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", "1"))
+                    .andExpect(jsonPath("$.success").value(false));
+        } finally {
+            release.countDown();
+            holder.join(5_000);
+            queued.join(5_000);
+        }
+    }
+
+    private Thread background(CharSequence password) throws InterruptedException {
+        Thread thread = new Thread(() -> passwordHashingService.encode(password));
+        thread.setDaemon(true);
+        thread.start();
+        if (!(password instanceof HeldPassword)) {
+            // Wait until the task sits in the queue behind the held hash
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (thread.getState() != Thread.State.TIMED_WAITING) {
+                assertTrue(System.nanoTime() < deadline, "hashing task never queued");
+                Thread.sleep(5);
+            }
+        }
+        return thread;
+    }
+
+    /**
+     * Holds the only hashing thread until released: BCrypt reads the password through toString()
+     */
+    private static final class HeldPassword implements CharSequence {
+
+        private final CountDownLatch started;
+        private final CountDownLatch release;
+
+        HeldPassword(CountDownLatch started, CountDownLatch release) {
+            this.started = started;
+            this.release = release;
+        }
+
+        @Override
+        public String toString() {
+            started.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "held";
+        }
+
+        @Override
+        public int length() {
+            return toString().length();
+        }
+
+        @Override
+        public char charAt(int index) {
+            return toString().charAt(index);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return toString().subSequence(start, end);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.todoapp.controller;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.todoapp.entity.Todo;
+import com.todoapp.entity.TodoCollection;
+import com.todoapp.entity.User;
+import com.todoapp.repository.TodoCollectionRepository;
+import com.todoapp.repository.TodoRepository;
+import com.todoapp.repository.UserRepository;
+import com.todoapp.service.AuthenticatedUser;
+import com.todoapp.service.JwtService;
+
+/**
+ * Accounts with collections and tasks written through the repositories, and an access token for each
+ */
+class TestData {
+
+    private static final AtomicInteger accounts = new AtomicInteger();
+
+    private final UserRepository userRepository;
+    private final TodoCollectionRepository collectionRepository;
+    private final TodoRepository todoRepository;
+    private final JwtService jwtService;
+
+    record Account(String token, List<Long> collectionIds) {
+    }
+
+    TestData(UserRepository userRepository, TodoCollectionRepository collectionRepository,
+             TodoRepository todoRepository, JwtService jwtService) {
+        this.userRepository = userRepository;
+        this.collectionRepository = collectionRepository;
+        this.todoRepository = todoRepository;
+        this.jwtService = jwtService;
+    }
+
+    /**
+     * A new user owning the given number of collections, oldest first, each with the given number of tasks
+     */
+    Account account(String prefix, int collections, int tasksPerCollection) {
+        String username = prefix + "_" + accounts.incrementAndGet();
+        User user = userRepository.save(new User(username, "Test User", username + "@example.com", "unused"));
+        List<Long> collectionIds = new ArrayList<>(collections);
+        for (int c = 0; c < collections; c++) {
+            TodoCollection collection = new TodoCollection();
+            collection.setName("Collection " + c);
+            collection.setUser(user);
+            collection = collectionRepository.save(collection);
+            for (int t = 0; t < tasksPerCollection; t++) {
+                todoRepository.save(new Todo("Task " + t, null, Todo.TodoType.STANDARD, collection));
+            }
+            collectionIds.add(collection.getId());
+        }
+        return new Account(jwtService.issueTokenPair(new AuthenticatedUser(user)).getAccessToken(), collectionIds);
+    }
+
+    /**
+     * A saving task with a target of 100 in the collection
+     */
+    Long savingTask(Long collectionId) {
+        Todo todo = new Todo("Holiday", null, Todo.TodoType.SAVING, collectionRepository.getReferenceById(collectionId));
+        todo.setTargetAmount(new BigDecimal("100.00"));
+        return todoRepository.save(todo).getId();
+    }
+}
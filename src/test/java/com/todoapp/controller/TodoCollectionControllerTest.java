@@ -0,0 +1,138 @@
+package com.todoapp.controller;
+
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.todoapp.diagnostics.QueryBudget;
+import com.todoapp.repository.TodoCollectionRepository;
+import com.todoapp.repository.TodoRepository;
+import com.todoapp.repository.UserRepository;
+import com.todoapp.service.JwtService;
+
+/**
+ * Statements per request of the collection routes stay constant however many collections and tasks
+ * the user has: each route is asserted against a fixed count with three collections of three tasks.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TodoCollectionControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private QueryBudget queryBudget;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoCollectionRepository collectionRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    private TestData testData;
+    private TestData.Account account;
+
+    @BeforeEach
+    void setUp() {
+        testData = new TestData(userRepository, collectionRepository, todoRepository, jwtService);
+        account = testData.account("collections", 3, 3);
+        queryBudget.reset();
+    }
+
+    @Test
+    void listLoadsTasksWithTheCollections() throws Exception {
+        mockMvc.perform(authenticated(get("/api/collections")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(3))
+                .andExpect(jsonPath("$.data[0].todos.length()").value(3));
+
+        queryBudget.assertQueries("GET /api/collections", 3);
+    }
+
+    @Test
+    void fieldListLoadsTasksInOneQuery() throws Exception {
+        mockMvc.perform(authenticated(get("/api/collections").param("fields", "id,name,todos.title")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].todos.length()").value(3));
+
+        queryBudget.assertQueries("GET /api/collections", 4);
+    }
+
+    @Test
+    void tasksAreListedNewestFirstOnEveryRoute() throws Exception {
+        mockMvc.perform(authenticated(get("/api/collections")))
+                .andExpect(jsonPath("$.data[0].todos[*].title").value(contains("Task 2", "Task 1", "Task 0")));
+        mockMvc.perform(authenticated(get("/api/collections").param("fields", "id,todos.title")))
+                .andExpect(jsonPath("$.data[0].todos[*].title").value(contains("Task 2", "Task 1", "Task 0")));
+        mockMvc.perform(authenticated(get("/api/collections/{collectionId}/tasks", account.collectionIds().get(2))
+                        .param("fields", "title")))
+                .andExpect(jsonPath("$.data[*].title").value(contains("Task 2", "Task 1", "Task 0")));
+    }
+
+    @Test
+    void getLoadsOneCollection() throws Exception {
+        mockMvc.perform(authenticated(get("/api/collections/{id}", account.collectionIds().get(0))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.todos.length()").value(3));
+
+        queryBudget.assertQueries("GET /api/collections/{id}", 4);
+    }
+
+    @Test
+    void createRunsOneInsert() throws Exception {
+        mockMvc.perform(authenticated(post("/api/collections"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Groceries\",\"description\":\"Weekly\"}"))
+                .andExpect(status().isOk());
+
+        queryBudget.assertQueries("POST /api/collections", 3);
+    }
+
+    @Test
+    void updateRunsOneUpdate() throws Exception {
+        mockMvc.perform(authenticated(put("/api/collections/{id}", account.collectionIds().get(0)))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Renamed\",\"description\":\"Updated\"}"))
+                .andExpect(status().isOk());
+
+        queryBudget.assertQueries("PUT /api/collections/{id}", 5);
+    }
+
+    @Test
+    void deleteRemovesTheTasksInOneBatch() throws Exception {
+        mockMvc.perform(authenticated(delete("/api/collections/{id}", account.collectionIds().get(0))))
+                .andExpect(status().isOk());
+
+        queryBudget.assertQueries("DELETE /api/collections/{id}", 6);
+    }
+
+    private MockHttpServletRequestBuilder authenticated(MockHttpServletRequestBuilder request) {
+        return request.header("Authorization", "Bearer " + account.token())
+                .with(servletRequest -> {
+                    servletRequest.setRemoteAddr("10.0.44.1");
+                    return servletRequest;
+                });
+    }
+}
@@ -0,0 +1,141 @@
+package com.todoapp.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.todoapp.diagnostics.QueryBudget;
+import com.todoapp.repository.TodoCollectionRepository;
+import com.todoapp.repository.TodoRepository;
+import com.todoapp.repository.UserRepository;
+import com.todoapp.service.JwtService;
+
+/**
+ * Statements per request of the task routes stay constant however many collections the user has:
+ * a task is found among them with one query, not one per collection.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TodoControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private QueryBudget queryBudget;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoCollectionRepository collectionRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    private TestData testData;
+    private TestData.Account account;
+    private Long collectionId;
+    private Long taskId;
+
+    @BeforeEach
+    void setUp() {
+        testData = new TestData(userRepository, collectionRepository, todoRepository, jwtService);
+        account = testData.account("tasks", 3, 3);
+        // The oldest collection is listed last, so a search collection by collection visits the others first
+        collectionId = account.collectionIds().get(0);
+        taskId = testData.savingTask(collectionId);
+        queryBudget.reset();
+    }
+
+    @Test
+    void listLoadsTheTasks() throws Exception {
+        mockMvc.perform(authenticated(get("/api/collections/{collectionId}/tasks", collectionId)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(4));
+
+        queryBudget.assertQueries("GET /api/collections/{collectionId}/tasks", 4);
+    }
+
+    @Test
+    void fieldListLoadsTheTasks() throws Exception {
+        mockMvc.perform(authenticated(get("/api/collections/{collectionId}/tasks", collectionId)
+                        .param("fields", "id,title")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(4));
+
+        queryBudget.assertQueries("GET /api/collections/{collectionId}/tasks", 4);
+    }
+
+    @Test
+    void createRunsOneInsert() throws Exception {
+        mockMvc.perform(authenticated(post("/api/collections/{collectionId}/tasks", collectionId))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Call the bank\",\"type\":\"STANDARD\"}"))
+                .andExpect(status().isOk());
+
+        queryBudget.assertQueries("POST /api/collections/{collectionId}/tasks", 4);
+    }
+
+    @Test
+    void addMoneyFindsTheTaskInOneQuery() throws Exception {
+        mockMvc.perform(authenticated(post("/api/tasks/{taskId}/add-money", taskId))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"amount\":25}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.currentAmount").value(25));
+
+        queryBudget.assertQueries("POST /api/tasks/{taskId}/add-money", 5);
+    }
+
+    @Test
+    void updateFindsTheTaskInOneQuery() throws Exception {
+        mockMvc.perform(authenticated(put("/api/tasks/{taskId}", taskId))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Renamed\",\"description\":\"Updated\",\"completed\":false}"))
+                .andExpect(status().isOk());
+
+        queryBudget.assertQueries("PUT /api/tasks/{taskId}", 5);
+    }
+
+    @Test
+    void deleteFindsTheTaskInOneQuery() throws Exception {
+        mockMvc.perform(authenticated(delete("/api/tasks/{taskId}", taskId)))
+                .andExpect(status().isOk());
+
+        queryBudget.assertQueries("DELETE /api/tasks/{taskId}", 5);
+    }
+
+    @Test
+    void missingTaskIsNotFoundInOneQuery() throws Exception {
+        mockMvc.perform(authenticated(delete("/api/tasks/{taskId}", Long.MAX_VALUE)))
+                .andExpect(status().isNotFound());
+
+        queryBudget.assertQueries("DELETE /api/tasks/{taskId}", 3);
+    }
+
+    private MockHttpServletRequestBuilder authenticated(MockHttpServletRequestBuilder request) {
+        return request.header("Authorization", "Bearer " + account.token())
+                .with(servletRequest -> {
+                    servletRequest.setRemoteAddr("10.0.44.2");
+                    return servletRequest;
+                });
+    }
+}
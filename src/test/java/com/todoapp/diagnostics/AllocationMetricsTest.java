@@ -0,0 +1,28 @@
+package com.todoapp.diagnostics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Made-up request methods cannot add allocation meters
+ */
+class AllocationMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AllocationMetrics allocationMetrics = new AllocationMetrics(meterRegistry, true);
+
+    @Test
+    void unknownMethodsShareOneMeter() {
+        for (int i = 0; i < 100; i++) {
+            allocationMetrics.record("FOO" + i, null, 2048);
+        }
+        allocationMetrics.record("GET", "/api/collections", 2048);
+
+        assertEquals(2, meterRegistry.find("http.server.requests.allocation").summaries().size());
+        assertEquals(100, meterRegistry.get("http.server.requests.allocation")
+                .tag("method", "UNKNOWN").summary().count());
+    }
+}
@@ -0,0 +1,63 @@
+package com.todoapp.diagnostics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * A recording started through the endpoint can be downloaded while running and then stopped;
+ * bad start parameters are the client's error
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class JfrEndpointTest {
+
+    @Autowired
+    private JfrEndpoint jfrEndpoint;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @AfterEach
+    void closeRecording() throws Exception {
+        jfrEndpoint.closeRecording();
+    }
+
+    @Test
+    void startDownloadAndStop() throws Exception {
+        assertEquals("RUNNING", jfrEndpoint.start(null, null).get("state"));
+        String name = (String) jfrEndpoint.status().get("name");
+        assertEquals("RUNNING", jfrEndpoint.status().get("state"));
+
+        Resource data = jfrEndpoint.download(name);
+        assertTrue(data.getFilename().endsWith(".jfr"), data.getFilename());
+        assertTrue(data.contentLength() > 0);
+        assertNull(jfrEndpoint.download("not-" + name));
+
+        assertEquals("STOPPED", jfrEndpoint.stop().get("state"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void unknownSettingsAreABadRequest() throws Exception {
+        mockMvc.perform(post("/actuator/jfr")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"settings\":\"no-such-settings\"}"))
+                .andExpect(status().isBadRequest());
+        assertEquals("NONE", jfrEndpoint.status().get("state"));
+    }
+}
@@ -0,0 +1,36 @@
+package com.todoapp.diagnostics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Made-up request methods cannot add route entries
+ */
+class QueryBudgetTest {
+
+    private final QueryBudget queryBudget = new QueryBudget(QueryBudget.Mode.LOG, 20, "");
+
+    @Test
+    void unknownMethodsShareOneRoute() {
+        for (int i = 0; i < 100; i++) {
+            queryBudget.end(profile("FOO" + i, null, 1), "/x");
+        }
+        queryBudget.end(profile("GET", "/api/collections", 2), "/api/collections");
+
+        Map<String, Integer> maxStatements = queryBudget.getMaxStatementsByRoute();
+        assertEquals(2, maxStatements.size());
+        assertEquals(1, maxStatements.get("UNKNOWN UNMATCHED"));
+        assertEquals(2, maxStatements.get("GET /api/collections"));
+    }
+
+    private static RequestProfile profile(String method, String route, int statements) {
+        RequestProfile profile = new RequestProfile(4);
+        profile.method = method;
+        profile.route = route;
+        profile.statementCount = statements;
+        return profile;
+    }
+}
@@ -0,0 +1,52 @@
+package com.todoapp.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.todoapp.entity.User;
+import com.todoapp.repository.UserRepository;
+
+/**
+ * The admin role comes from the account's persisted role: a newly registered account is never an
+ * admin, whatever its username
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CustomUserDetailsServiceTest {
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void newAccountIsNotAdmin() {
+        userRepository.save(new User("root", "Not An Admin", "root@example.com", "unused"));
+
+        assertEquals(Set.of(), authorities("root"));
+    }
+
+    @Test
+    void persistedAdminRoleGrantsAdmin() {
+        User user = new User("operator", "Operator", "operator@example.com", "unused");
+        user.setRole(User.Role.ADMIN);
+        userRepository.save(user);
+
+        assertEquals(Set.of("ROLE_ADMIN"), authorities("operator"));
+    }
+
+    private Set<String> authorities(String username) {
+        return userDetailsService.loadUserByUsername(username).getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toSet());
+    }
+}
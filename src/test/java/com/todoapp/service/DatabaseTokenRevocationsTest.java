@@ -0,0 +1,109 @@
+package com.todoapp.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.todoapp.entity.RevokedToken;
+import com.todoapp.repository.RevokedTokenRepository;
+import com.todoapp.token.TokenRevocations.Kind;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * A key revoked once through revoked_tokens cannot be revoked once again by another instance or
+ * after a restart, which is what makes refresh token rotation single-use
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class DatabaseTokenRevocationsTest {
+
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Test
+    void secondInstanceSeesTheFirstRevocation() {
+        DatabaseTokenRevocations first = new DatabaseTokenRevocations(revokedTokenRepository);
+        DatabaseTokenRevocations second = new DatabaseTokenRevocations(revokedTokenRepository);
+        long expiresAt = System.currentTimeMillis() + 60_000;
+
+        assertTrue(first.revokeOnce(Kind.TOKEN, "rotated-on-first", expiresAt));
+        assertFalse(second.revokeOnce(Kind.TOKEN, "rotated-on-first", expiresAt));
+    }
+
+    @Test
+    void restartedInstanceLoadsTheRevocation() {
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        new DatabaseTokenRevocations(revokedTokenRepository).revokeOnce(Kind.TOKEN, "rotated-before-restart", expiresAt);
+
+        DatabaseTokenRevocations restarted = new DatabaseTokenRevocations(revokedTokenRepository);
+        restarted.load();
+        assertTrue(restarted.isTokenRevoked("rotated-before-restart"));
+        assertFalse(restarted.revokeOnce(Kind.TOKEN, "rotated-before-restart", expiresAt));
+    }
+
+    @Test
+    void repeatedRevokeIsHarmless() {
+        DatabaseTokenRevocations revocations = new DatabaseTokenRevocations(revokedTokenRepository);
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        revocations.revoke(Kind.FAMILY, "family-revoked-twice", expiresAt);
+        new DatabaseTokenRevocations(revokedTokenRepository).revoke(Kind.FAMILY, "family-revoked-twice", expiresAt);
+
+        assertTrue(revocations.isFamilyRevoked("family-revoked-twice"));
+    }
+
+    @Test
+    void removeExpiredDeletesExpiredRowsWithoutRestart() {
+        DatabaseTokenRevocations revocations = new DatabaseTokenRevocations(revokedTokenRepository);
+        long now = System.currentTimeMillis();
+        revocations.revoke(Kind.TOKEN, "expired-before-cleanup", now - 1_000);
+        revocations.revoke(Kind.TOKEN, "valid-at-cleanup", now + 60_000);
+
+        revocations.removeExpired(now);
+
+        assertFalse(revocations.isTokenRevoked("expired-before-cleanup"));
+        assertFalse(storedKeys().contains("expired-before-cleanup"));
+        assertTrue(storedKeys().contains("valid-at-cleanup"));
+    }
+
+    @Test
+    void familyRevokedThroughOneJwtServiceStopsRotationOnAnother() throws Exception {
+        JwtService first = jwtService(new DatabaseTokenRevocations(revokedTokenRepository));
+        JwtService second = jwtService(new DatabaseTokenRevocations(revokedTokenRepository));
+        UserDetails user = User.withUsername("family_user").password("unused").roles("USER").build();
+
+        JwtService.TokenPair pair = first.issueTokenPair(user);
+        JwtService.TokenPair rotated = second.rotateRefreshToken(pair.getRefreshToken());
+        assertNotNull(rotated);
+
+        // The replay is detected on the first instance, the rotated token is then redeemed on the second
+        assertNull(first.rotateRefreshToken(pair.getRefreshToken()));
+        assertNull(second.rotateRefreshToken(rotated.getRefreshToken()));
+    }
+
+    private static JwtService jwtService(DatabaseTokenRevocations revocations) throws Exception {
+        JwtService service = new JwtService(new SimpleMeterRegistry(), revocations);
+        ReflectionTestUtils.setField(service, "secretKey", SECRET);
+        ReflectionTestUtils.setField(service, "jwtExpiration", 3_600_000L);
+        ReflectionTestUtils.setField(service, "refreshExpiration", 86_400_000L);
+        service.initSigningKey();
+        return service;
+    }
+
+    private List<String> storedKeys() {
+        return revokedTokenRepository.findAll().stream().map(RevokedToken::getTokenKey).toList();
+    }
+}
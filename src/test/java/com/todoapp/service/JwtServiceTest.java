@@ -0,0 +1,118 @@
+package com.todoapp.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.todoapp.token.TokenRevocations;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class JwtServiceTest {
+
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private final UserDetails user = User.withUsername("alice").password("unused").roles("USER").build();
+    private final TokenRevocations revocations = new TokenRevocations();
+    private JwtService jwtService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jwtService = jwtService(revocations);
+    }
+
+    @Test
+    void accessTokenAuthenticates() {
+        JwtService.TokenPair pair = jwtService.issueTokenPair(user);
+        assertEquals("alice", jwtService.resolveValidUsername(pair.getAccessToken()));
+        assertTrue(jwtService.isTokenValid(pair.getAccessToken(), user));
+        assertEquals("alice", jwtService.resolveValidUsername(jwtService.generateToken(user)));
+    }
+
+    @Test
+    void refreshTokenDoesNotAuthenticate() {
+        JwtService.TokenPair pair = jwtService.issueTokenPair(user);
+        assertNull(jwtService.resolveValidUsername(pair.getRefreshToken()));
+        assertFalse(jwtService.isTokenValid(pair.getRefreshToken(), user));
+        assertNull(jwtService.resolveValidUsername(jwtService.generateRefreshToken(user)));
+    }
+
+    @Test
+    void accessTokenCannotBeRotated() {
+        JwtService.TokenPair pair = jwtService.issueTokenPair(user);
+        assertNull(jwtService.rotateRefreshToken(pair.getAccessToken()));
+        assertNotNull(jwtService.rotateRefreshToken(pair.getRefreshToken()));
+    }
+
+    @Test
+    void blacklistedAccessTokenDoesNotAuthenticate() {
+        String token = jwtService.generateToken(user);
+        jwtService.blacklistToken(token);
+        assertNull(jwtService.resolveValidUsername(token));
+        assertTrue(revocations.isTokenRevoked(jwtService.extractTokenId(token)));
+    }
+
+    @Test
+    void refreshTokenReuseRevokesTheFamily() {
+        JwtService.TokenPair pair = jwtService.issueTokenPair(user);
+        JwtService.TokenPair rotated = jwtService.rotateRefreshToken(pair.getRefreshToken());
+        assertNotNull(rotated);
+
+        assertNull(jwtService.rotateRefreshToken(pair.getRefreshToken()));
+        assertNull(jwtService.resolveValidUsername(pair.getAccessToken()));
+        assertNull(jwtService.resolveValidUsername(rotated.getAccessToken()));
+        assertNull(jwtService.rotateRefreshToken(rotated.getRefreshToken()));
+    }
+
+    @Test
+    void replayOnAnotherInstanceRevokesTheFamily() throws Exception {
+        // Stands in for the revoked_tokens table shared by two instances
+        Set<String> store = ConcurrentHashMap.newKeySet();
+        JwtService first = jwtService(new SharedRevocations(store));
+        JwtService second = jwtService(new SharedRevocations(store));
+
+        JwtService.TokenPair pair = first.issueTokenPair(user);
+        JwtService.TokenPair rotated = first.rotateRefreshToken(pair.getRefreshToken());
+        assertNotNull(rotated);
+
+        assertNull(second.rotateRefreshToken(pair.getRefreshToken()));
+        assertNull(second.resolveValidUsername(rotated.getAccessToken()));
+        assertNull(second.rotateRefreshToken(rotated.getRefreshToken()));
+    }
+
+    private static JwtService jwtService(TokenRevocations revocations) throws Exception {
+        JwtService service = new JwtService(new SimpleMeterRegistry(), revocations);
+        ReflectionTestUtils.setField(service, "secretKey", SECRET);
+        ReflectionTestUtils.setField(service, "jwtExpiration", 3_600_000L);
+        ReflectionTestUtils.setField(service, "refreshExpiration", 86_400_000L);
+        service.initSigningKey();
+        return service;
+    }
+
+    /**
+     * In-memory revocations of one instance over a store that every instance writes
+     */
+    private static class SharedRevocations extends TokenRevocations {
+        private final Set<String> store;
+
+        SharedRevocations(Set<String> store) {
+            this.store = store;
+        }
+
+        @Override
+        protected boolean onFirstRevoked(Kind kind, String key, long expiresAt) {
+            return store.add(kind + ":" + key);
+        }
+    }
+}
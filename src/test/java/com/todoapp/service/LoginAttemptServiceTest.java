@@ -0,0 +1,107 @@
+package com.todoapp.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class LoginAttemptServiceTest {
+
+    private static final long HALF_LIFE = 900_000;
+    private static final long BASE_LOCKOUT = 60_000;
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+    private final LoginAttemptService service = service(100);
+
+    @Test
+    void lockedAtTheThreshold() {
+        fail("alice", 4);
+        assertEquals(0, service.getLockoutRemainingMillis("alice"));
+
+        fail("alice", 1);
+        assertEquals(BASE_LOCKOUT, service.getLockoutRemainingMillis("alice"));
+        assertEquals(0, service.getLockoutRemainingMillis("bob"));
+    }
+
+    @Test
+    void lockExpires() {
+        fail("alice", 5);
+        now.addAndGet(BASE_LOCKOUT);
+        assertEquals(0, service.getLockoutRemainingMillis("alice"));
+    }
+
+    @Test
+    void scoreDecaysWithTheHalfLife() {
+        fail("alice", 4);
+        // Four points halve to two; three more failures make five
+        now.addAndGet(HALF_LIFE);
+        fail("alice", 2);
+        assertEquals(0, service.getLockoutRemainingMillis("alice"));
+        fail("alice", 1);
+        assertEquals(BASE_LOCKOUT, service.getLockoutRemainingMillis("alice"));
+    }
+
+    @Test
+    void repeatedLockoutsDoubleUpToTheMaximum() {
+        LoginAttemptService capped = new LoginAttemptService(5, HALF_LIFE, BASE_LOCKOUT, 4 * BASE_LOCKOUT, 100, now::get);
+        fail(capped, "alice", 5);
+        for (long expected : new long[] {BASE_LOCKOUT, 2 * BASE_LOCKOUT, 4 * BASE_LOCKOUT, 4 * BASE_LOCKOUT}) {
+            assertEquals(expected, capped.getLockoutRemainingMillis("alice"));
+            // Failures while locked do not extend the lock
+            fail(capped, "alice", 3);
+            assertEquals(expected, capped.getLockoutRemainingMillis("alice"));
+            now.addAndGet(expected);
+            fail(capped, "alice", 1);
+        }
+    }
+
+    @Test
+    void decayedScoreStartsAFreshEscalation() {
+        fail("alice", 5);
+        now.addAndGet(BASE_LOCKOUT);
+        fail("alice", 1);
+        assertEquals(2 * BASE_LOCKOUT, service.getLockoutRemainingMillis("alice"));
+
+        now.addAndGet(10 * HALF_LIFE);
+        fail("alice", 5);
+        assertEquals(BASE_LOCKOUT, service.getLockoutRemainingMillis("alice"));
+    }
+
+    @Test
+    void successResetsTheScore() {
+        fail("alice", 4);
+        service.recordSuccess("alice");
+        fail("alice", 4);
+        assertEquals(0, service.getLockoutRemainingMillis("alice"));
+    }
+
+    @Test
+    void sprayedUsernamesStayBounded() {
+        LoginAttemptService bounded = service(1_000);
+        fail(bounded, "victim", 5);
+        for (int i = 0; i < 10_000; i++) {
+            // Two failures each keep every score above one for a half-life
+            fail(bounded, "spray" + i, 2);
+            now.incrementAndGet();
+        }
+
+        assertTrue(bounded.trackedCount() <= 1_000, "tracked " + bounded.trackedCount());
+        assertTrue(bounded.getLockoutRemainingMillis("victim") > 0, "locked usernames are evicted last");
+    }
+
+    private LoginAttemptService service(int maxTracked) {
+        return new LoginAttemptService(5, HALF_LIFE, BASE_LOCKOUT, 3_600_000, maxTracked, now::get);
+    }
+
+    private void fail(String username, int failures) {
+        fail(service, username, failures);
+    }
+
+    private static void fail(LoginAttemptService service, String username, int failures) {
+        for (int i = 0; i < failures; i++) {
+            service.recordFailure(username);
+        }
+    }
+}
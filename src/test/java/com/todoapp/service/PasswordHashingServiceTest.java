@@ -0,0 +1,132 @@
+package com.todoapp.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PasswordHashingServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PasswordHashingService service = new PasswordHashingService(meterRegistry, 1, 1, 200, 1, 4, 4);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void shutdown() {
+        release.countDown();
+        service.shutdown();
+    }
+
+    @Test
+    void fullQueueIsRejectedImmediately() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        background(() -> service.encode(new BlockingPassword(started, release)));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        // One task holds the only hashing thread, the next fills the queue
+        background(() -> service.encode("queued"));
+        awaitQueueDepth(1);
+
+        PasswordHashingUnavailableException e =
+                assertThrows(PasswordHashingUnavailableException.class, () -> service.encode("rejected"));
+        assertEquals("Password hashing capacity exhausted", e.getMessage());
+        assertEquals(1, rejected("queue-full"));
+    }
+
+    @Test
+    void slowHashTimesOutButKeepsItsThread() {
+        CountDownLatch started = new CountDownLatch(1);
+
+        PasswordHashingUnavailableException e = assertThrows(PasswordHashingUnavailableException.class,
+                () -> service.encode(new BlockingPassword(started, release)));
+        assertEquals("Password hashing timed out", e.getMessage());
+        assertEquals(1, rejected("timeout"));
+        // The cancelled hash is not interrupted and still occupies the hashing thread
+        assertEquals(1, meterRegistry.get("auth.password.active").gauge().value());
+    }
+
+    @Test
+    void hashesRoundTrip() {
+        String encoded = service.encode("Sec0nd!pass");
+        assertTrue(service.matches("Sec0nd!pass", encoded));
+        assertEquals(4, service.getStrength());
+    }
+
+    private double rejected(String reason) {
+        return meterRegistry.get("auth.password.rejected").tag("reason", reason).counter().count();
+    }
+
+    private void awaitQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("auth.password.queue.depth").gauge().value() < depth) {
+            assertTrue(System.nanoTime() < deadline, "queue never filled");
+            Thread.sleep(5);
+        }
+    }
+
+    private static void background(Runnable task) {
+        Thread thread = new Thread(() -> {
+            try {
+                task.run();
+            } catch (PasswordHashingUnavailableException ignored) {
+                // Callers parked behind the blocked hash time out once the test is done with them
+            }
+        });
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * A password whose hashing blocks until released: BCrypt reads it through toString()
+     */
+    static final class BlockingPassword implements CharSequence {
+
+        private final CountDownLatch started;
+        private final CountDownLatch release;
+
+        BlockingPassword(CountDownLatch started, CountDownLatch release) {
+            this.started = started;
+            this.release = release;
+        }
+
+        @Override
+        public String toString() {
+            started.countDown();
+            // Like BCrypt, ignore the interrupt of a cancelled task and keep going
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            return "blocked";
+        }
+
+        @Override
+        public int length() {
+            return toString().length();
+        }
+
+        @Override
+        public char charAt(int index) {
+            return toString().charAt(index);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return toString().subSequence(start, end);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.todoapp.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.todoapp.service.SecurityAuditLog.OverflowPolicy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SecurityAuditLogTest {
+
+    @TempDir
+    Path directory;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private SecurityAuditLog auditLog;
+
+    @AfterEach
+    void stopLog() throws InterruptedException {
+        if (auditLog != null) {
+            auditLog.stop();
+        }
+    }
+
+    @Test
+    void writesOrderedEscapedJsonLines() throws Exception {
+        auditLog = auditLog(16, OverflowPolicy.DROP, 1_000_000, 5);
+        auditLog.start();
+        for (int i = 0; i < 10; i++) {
+            auditLog.record("EVENT_" + i, "user" + i, "10.0.0." + i, "agent");
+        }
+        auditLog.record("LOGIN_FAILED", "a\"b\\c\ndé", null, "ua");
+        auditLog.stop();
+
+        List<String> lines = Files.readAllLines(file());
+        assertEquals(11, lines.size());
+        for (int i = 0; i < 10; i++) {
+            assertTrue(lines.get(i).contains("\"event\":\"EVENT_" + i + "\""), lines.get(i));
+        }
+        String escaped = lines.get(10);
+        assertTrue(escaped.contains("\"username\":\"a\\\"b\\\\c\\u000ad\\u00e9\""), escaped);
+        assertTrue(escaped.contains("\"ip\":null"), escaped);
+        assertTrue(escaped.startsWith("{\"timestamp\":\"") && escaped.endsWith("\"userAgent\":\"ua\"}"), escaped);
+        assertEquals(11, auditLog.getWrittenEvents());
+    }
+
+    @Test
+    void dropsAndCountsEventsWhenTheBufferIsFull() {
+        // Not started, so nothing drains the four slots
+        auditLog = auditLog(4, OverflowPolicy.DROP, 1_000_000, 5);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(auditLog.record("EVENT", "user", "ip", "ua"));
+        }
+        assertFalse(auditLog.record("EVENT", "user", "ip", "ua"));
+        assertFalse(auditLog.record("EVENT", "user", "ip", "ua"));
+
+        assertEquals(2, auditLog.getDroppedEvents());
+        assertEquals(2, meterRegistry.get("security.audit.events.dropped").functionCounter().count());
+        assertEquals(4, auditLog.getPendingEvents());
+    }
+
+    @Test
+    void blockedProducerResumesOnceTheConsumerDrains() throws Exception {
+        auditLog = auditLog(4, OverflowPolicy.BLOCK, 1_000_000, 5);
+        for (int i = 0; i < 4; i++) {
+            auditLog.record("EVENT_" + i, "user", "ip", "ua");
+        }
+        CompletableFuture<Boolean> blocked =
+                CompletableFuture.supplyAsync(() -> auditLog.record("EVENT_4", "user", "ip", "ua"));
+        Thread.sleep(100);
+        assertFalse(blocked.isDone());
+
+        auditLog.start();
+        assertTrue(blocked.get(5, TimeUnit.SECONDS));
+        auditLog.stop();
+
+        List<String> lines = Files.readAllLines(file());
+        assertEquals(5, lines.size());
+        assertTrue(lines.get(4).contains("\"event\":\"EVENT_4\""));
+        assertEquals(0, auditLog.getDroppedEvents());
+    }
+
+    @Test
+    void rollsOverToNumberedArchives() throws Exception {
+        // Each line is over half the limit, so every event starts a new file
+        auditLog = auditLog(16, OverflowPolicy.DROP, 150, 2);
+        auditLog.start();
+        for (int i = 0; i < 5; i++) {
+            auditLog.record("EVENT_" + i, "user", "ip", "ua");
+        }
+        auditLog.stop();
+
+        assertTrue(Files.readString(file()).contains("EVENT_4"));
+        assertTrue(Files.readString(archive(1)).contains("EVENT_3"));
+        assertTrue(Files.readString(archive(2)).contains("EVENT_2"));
+        assertFalse(Files.exists(archive(3)));
+    }
+
+    @Test
+    void stopDrainsPendingEvents() throws Exception {
+        auditLog = auditLog(1024, OverflowPolicy.DROP, 1_000_000, 5);
+        for (int i = 0; i < 500; i++) {
+            auditLog.record("EVENT_" + i, "user", "ip", "ua");
+        }
+        auditLog.start();
+        auditLog.stop();
+
+        assertEquals(500, Files.readAllLines(file()).size());
+        assertEquals(0, auditLog.getPendingEvents());
+    }
+
+    private SecurityAuditLog auditLog(int bufferSize, OverflowPolicy policy, long maxFileSize, int maxHistory) {
+        return new SecurityAuditLog(meterRegistry, bufferSize, policy, file().toString(), maxFileSize, maxHistory, 64);
+    }
+
+    private Path file() {
+        return directory.resolve("security-audit.log");
+    }
+
+    private Path archive(int index) {
+        return directory.resolve("security-audit.log." + index);
+    }
+}
@@ -0,0 +1,117 @@
+package com.todoapp.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.todoapp.util.SecurityValidator.ValidationResult;
+import com.todoapp.util.SecurityValidator.ValidationType;
+
+/**
+ * Differential test of the single-pass scanner against the regex chain it replaced: every verdict
+ * and every sanitised string must be identical on a hand-written corpus and on generated inputs
+ * built from signature fragments, prefixes, mixed case and line terminators.
+ */
+class SecurityValidatorTest {
+
+    private static final String[] CORPUS = {
+        "", " ", "Buy groceries", "Milk, eggs, bread.\nPick up the dry cleaning!",
+        "<script>alert(1)</script>", "<SCRIPT src=x>alert(1)</ScRiPt>", "<script>\nalert(1)</script>",
+        "<script>alert(1)\n</script>", "<scr<script>ipt>alert(1)</scr</script>ipt>",
+        "<script", "<script>", "</script>", "<script x=\">\">y</script>",
+        "<iframe src=evil></iframe>", "<object data=x></object>", "<embed src=x></embed>",
+        "<iframe>\u2028</iframe>", "<embed>\u0085</embed>", "<object>\u2029</object>",
+        "javascript:alert(1)", "JaVaScRiPt:", "vbscript:msgbox", "<img src=x onerror=alert(1)>",
+        "<body onload=x>", "<a onclick=x>", "onload = x", "javascript :",
+        "Robert'); DROP TABLE users; --", "union all", "SELECT * FROM t", "1' OR '1'='1",
+        "a--b", "/* c */", "sp_who", "xp_cmdshell", "exec", "say \"hi\"", "a;b", "'-",
+        "Updated plan", "created", "alteration", "dropbox", "deleted items", "executive summary",
+        "a < b > c", "<b>bold</b>", "<<>>", "<>", ">", "<", "a&b", "it's", "http://x/y", "<a href='x'>y</a>",
+        "  padded <i>text</i>  ", "\tTabbed", "caf\u00e9", "\u212a\u017fcript", "\u0130nsert",
+        "<scr\u0131pt>x</script>", "na\u00efve <script>\u00e9</script>", "emoji \ud83d\ude00 <b>x</b>"
+    };
+
+    private static final String[] FRAGMENTS = {
+        "<", ">", "/", "<script", "</script>", "<iframe", "</iframe>", "<object", "</object>",
+        "<embed", "</embed>", "script", "scrip", "<scrip", "javascript:", "javascrip", "vbscript:",
+        "onload=", "onloa", "onclick=", "onerror=", "onerro", "union", "unio", "select", "selec",
+        "insert", "update", "delete", "drop", "create", "alter", "exec", "sp_", "xp_", "'-", "'", "-",
+        "\"", ";", "--", "/*", "*/", "*", "=", ":", "&", " ", "a", "B", "1", "_", ".", ",", "!", "?",
+        "\n", "\r", "\u0085", "\u2028", "\u2029", "\u00e9", "\u212a", "\u0131", "\ud83d\ude00"
+    };
+
+    private final SecurityValidator validator = new SecurityValidator();
+    private final RegexSecurityValidator legacy = new RegexSecurityValidator();
+
+    @Test
+    void corpusMatchesRegexChain() {
+        for (String input : CORPUS) {
+            assertSameVerdicts(input);
+        }
+    }
+
+    @Test
+    void generatedInputsMatchRegexChain() {
+        Random random = new Random(20240611L);
+        for (String input : generate(random, 50_000)) {
+            assertSameVerdicts(input);
+        }
+    }
+
+    @Test
+    void nullInput() {
+        assertEquals(legacy.sanitizeInput(null), validator.sanitizeInput(null));
+        assertEquals(legacy.containsXSS(null), validator.containsXSS(null));
+        assertEquals(legacy.containsSqlInjection(null), validator.containsSqlInjection(null));
+        assertSameResult(null, legacy.validateSecurely(null, ValidationType.TITLE),
+                validator.validateSecurely(null, ValidationType.TITLE));
+    }
+
+    private void assertSameVerdicts(String input) {
+        assertEquals(legacy.containsXSS(input), validator.containsXSS(input), () -> "containsXSS " + quote(input));
+        assertEquals(legacy.containsSqlInjection(input), validator.containsSqlInjection(input),
+                () -> "containsSqlInjection " + quote(input));
+        assertEquals(legacy.sanitizeInput(input), validator.sanitizeInput(input), () -> "sanitizeInput " + quote(input));
+        for (ValidationType type : ValidationType.values()) {
+            assertSameResult(input, legacy.validateSecurely(input, type), validator.validateSecurely(input, type));
+        }
+    }
+
+    private static void assertSameResult(String input, ValidationResult expected, ValidationResult actual) {
+        assertEquals(expected.isValid(), actual.isValid(), () -> "validateSecurely " + quote(input));
+        assertEquals(expected.getMessage(), actual.getMessage(), () -> "validateSecurely " + quote(input));
+    }
+
+    private static List<String> generate(Random random, int count) {
+        List<String> inputs = new ArrayList<>(count);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            builder.setLength(0);
+            int parts = 1 + random.nextInt(12);
+            for (int p = 0; p < parts; p++) {
+                String fragment = FRAGMENTS[random.nextInt(FRAGMENTS.length)];
+                builder.append(random.nextInt(4) == 0 ? randomCase(random, fragment) : fragment);
+            }
+            inputs.add(builder.toString());
+        }
+        return inputs;
+    }
+
+    private static String randomCase(Random random, String fragment) {
+        char[] chars = fragment.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            if (random.nextBoolean()) {
+                chars[i] = Character.toUpperCase(chars[i]);
+            }
+        }
+        return new String(chars);
+    }
+
+    private static String quote(String input) {
+        return input == null ? "null" : "\"" + input.replace("\n", "\\n").replace("\r", "\\r") + "\"";
+    }
+}
@@ -0,0 +1,96 @@
+package com.todoapp.token;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Revoked token IDs (logout) and token families (refresh token reuse), each mapped to the expiry
+ * millis of the tokens it covers, so an entry can be dropped once nothing it revokes is still valid.
+ * Held in memory; subclasses persist revocations through {@link #onRevoked} so that other processes
+ * sharing the database can load them with {@link #record}.
+ */
+public class TokenRevocations {
+
+    public enum Kind {
+        TOKEN, FAMILY
+    }
+
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    private final Map<String, Long> revokedFamilies = new ConcurrentHashMap<>();
+
+    /**
+     * Revoke a token ID or family in this process and hand it to {@link #onRevoked}
+     */
+    public void revoke(Kind kind, String key, long expiresAt) {
+        record(kind, key, expiresAt);
+        onRevoked(kind, key, expiresAt);
+    }
+
+    /**
+     * Revoke a token ID or family unless it is already revoked, here or by another process sharing
+     * the store behind {@link #onFirstRevoked}. Used for single-use tokens.
+     * @return false if it had been revoked before
+     */
+    public boolean revokeOnce(Kind kind, String key, long expiresAt) {
+        if (entries(kind).putIfAbsent(key, expiresAt) != null) {
+            return false;
+        }
+        return onFirstRevoked(kind, key, expiresAt);
+    }
+
+    /**
+     * Add a revocation made elsewhere, without passing it on
+     */
+    public void record(Kind kind, String key, long expiresAt) {
+        entries(kind).merge(key, expiresAt, Math::max);
+    }
+
+    /**
+     * Called after every {@link #revoke}; does nothing by default
+     */
+    protected void onRevoked(Kind kind, String key, long expiresAt) {
+    }
+
+    /**
+     * Called by {@link #revokeOnce} for a key not revoked in this process; by default hands it to
+     * {@link #onRevoked}
+     * @return false if the store already held the revocation
+     */
+    protected boolean onFirstRevoked(Kind kind, String key, long expiresAt) {
+        onRevoked(kind, key, expiresAt);
+        return true;
+    }
+
+    public boolean isRevoked(String tokenId, String family) {
+        return isTokenRevoked(tokenId) || isFamilyRevoked(family);
+    }
+
+    /**
+     * Whether a family is revoked in this process or, for subclasses backed by a shared store, by any
+     * process. Refresh token rotation uses it so a family revoked elsewhere cannot keep rotating here;
+     * by default the same as {@link #isFamilyRevoked}.
+     */
+    public boolean isFamilyRevokedInStore(String family) {
+        return isFamilyRevoked(family);
+    }
+
+    public boolean isTokenRevoked(String tokenId) {
+        return tokenId != null && revokedTokens.containsKey(tokenId);
+    }
+
+    public boolean isFamilyRevoked(String family) {
+        return family != null && revokedFamilies.containsKey(family);
+    }
+
+    /**
+     * Drop revocations whose tokens have all expired
+     */
+    public void removeExpired(long now) {
+        revokedTokens.values().removeIf(expiresAt -> expiresAt < now);
+        revokedFamilies.values().removeIf(expiresAt -> expiresAt < now);
+    }
+
+    private Map<String, Long> entries(Kind kind) {
+        return kind == Kind.TOKEN ? revokedTokens : revokedFamilies;
+    }
+}
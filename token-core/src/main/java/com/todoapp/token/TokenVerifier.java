@@ -0,0 +1,86 @@
+package com.todoapp.token;
+
+import java.security.Key;
+import java.util.Date;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Token rules shared by the servlet application and the reactive read stack: signature, issuer,
+ * audience and expiry checks, and which tokens may authenticate a request. Pure CPU work (one HMAC),
+ * so it can run on a request thread or inline on an event loop.
+ */
+public class TokenVerifier {
+
+    public static final String ISSUER = "todoapp";
+    public static final String AUDIENCE = "todoapp-client";
+    public static final String TYPE_CLAIM = "type";
+    public static final String FAMILY_CLAIM = "fam";
+    public static final String ACCESS = "access";
+    public static final String REFRESH = "refresh";
+
+    private final Key signingKey;
+    private final JwtParser jwtParser;
+    private final TokenRevocations revocations;
+
+    /**
+     * @param secretKey the Base64 HS256 secret (jwt.secret)
+     */
+    public TokenVerifier(String secretKey, TokenRevocations revocations) {
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.jwtParser = Jwts
+                .parserBuilder()
+                .setSigningKey(signingKey)
+                .requireIssuer(ISSUER)
+                .requireAudience(AUDIENCE)
+                .build();
+        this.revocations = revocations;
+    }
+
+    /**
+     * Verify the signature, issuer, audience and expiry of a token
+     * @throws JwtException if any check fails
+     */
+    public Claims parse(String token) {
+        return jwtParser
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    /**
+     * Parse and validate a bearer token once.
+     * Only access tokens authenticate requests; refresh tokens are good for /api/auth/refresh alone.
+     * @return the token subject, or null if the token is invalid, expired, not an access token or revoked
+     */
+    public String resolveAccessSubject(String token) {
+        try {
+            // Parse once; expired or badly signed tokens throw here
+            Claims claims = parse(token);
+            if (!ACCESS.equals(claims.get(TYPE_CLAIM))) {
+                return null;
+            }
+            if (revocations.isRevoked(claims.getId(), claims.get(FAMILY_CLAIM, String.class))) {
+                return null;
+            }
+            if (claims.getSubject() == null || claims.getExpiration().before(new Date())) {
+                return null;
+            }
+            return claims.getSubject();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    public Key getSigningKey() {
+        return signingKey;
+    }
+
+    public TokenRevocations getRevocations() {
+        return revocations;
+    }
+}